@@ -17,7 +17,10 @@ import com.kickstarter.services.ApiClientTypeV2;
 import com.kickstarter.services.ApiClientV2;
 import com.kickstarter.services.ApiServiceV2;
 import com.kickstarter.services.ApolloClientTypeV2;
+import com.kickstarter.services.CoalescingApiClientV2;
+import com.kickstarter.services.CoalescingApolloClientV2;
 import com.kickstarter.services.KSApolloClientV2;
+import com.kickstarter.services.RequestCoalescer;
 
 import javax.inject.Singleton;
 
@@ -51,14 +54,16 @@ public final class InternalApplicationModule {
   @Provides
   @Singleton
   @NonNull
-  static ApolloClientTypeV2 provideApolloClientTypeV2(final @NonNull ApolloClient apolloClient, final @NonNull Gson gson) {
-    return Secrets.IS_OSS ? new MockApolloClientV2() : new KSApolloClientV2(apolloClient, gson);
+  static ApolloClientTypeV2 provideApolloClientTypeV2(final @NonNull ApolloClient apolloClient, final @NonNull Gson gson,
+    final @NonNull RequestCoalescer requestCoalescer) {
+    return Secrets.IS_OSS ? new MockApolloClientV2() : new CoalescingApolloClientV2(new KSApolloClientV2(apolloClient, gson), requestCoalescer);
   }
 
   @Provides
   @Singleton
   @NonNull
-  static ApiClientTypeV2 provideApiClientTypeV2(final @NonNull ApiServiceV2 apiService, final @NonNull Gson gson) {
-    return Secrets.IS_OSS ? new MockApiClientV2() : new ApiClientV2(apiService, gson);
+  static ApiClientTypeV2 provideApiClientTypeV2(final @NonNull ApiServiceV2 apiService, final @NonNull Gson gson,
+    final @NonNull RequestCoalescer requestCoalescer) {
+    return Secrets.IS_OSS ? new MockApiClientV2() : new CoalescingApiClientV2(new ApiClientV2(apiService, gson), requestCoalescer);
   }
 }
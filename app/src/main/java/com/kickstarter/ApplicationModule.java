@@ -33,6 +33,7 @@ import com.kickstarter.libs.KSString;
 import com.kickstarter.libs.AnalyticEvents;
 import com.kickstarter.libs.CurrentUserV2;
 import com.kickstarter.libs.Logout;
+import com.kickstarter.libs.ModelTypeAdapterFactory;
 import com.kickstarter.libs.PushNotifications;
 import com.kickstarter.libs.SegmentTrackingClient;
 import com.kickstarter.libs.TrackingClientType;
@@ -40,6 +41,7 @@ import com.kickstarter.libs.braze.BrazeClient;
 import com.kickstarter.libs.braze.RemotePushClientType;
 import com.kickstarter.libs.featureflag.FeatureFlagClient;
 import com.kickstarter.libs.featureflag.FeatureFlagClientType;
+import com.kickstarter.libs.graphql.ApolloCache;
 import com.kickstarter.libs.graphql.DateAdapter;
 import com.kickstarter.libs.graphql.DateTimeAdapter;
 import com.kickstarter.libs.graphql.Iso8601DateTimeAdapter;
@@ -59,6 +61,7 @@ import com.kickstarter.libs.qualifiers.ConfigPreference;
 import com.kickstarter.libs.qualifiers.FirstSessionPreference;
 import com.kickstarter.libs.qualifiers.GamesNewsletterPreference;
 import com.kickstarter.libs.qualifiers.PackageNameString;
+import com.kickstarter.libs.qualifiers.RootOkHttpClient;
 import com.kickstarter.libs.qualifiers.UserPreference;
 import com.kickstarter.libs.qualifiers.WebEndpoint;
 import com.kickstarter.libs.qualifiers.WebRetrofit;
@@ -67,11 +70,12 @@ import com.kickstarter.libs.utils.Secrets;
 import com.kickstarter.services.ApiClientTypeV2;
 import com.kickstarter.services.ApiServiceV2;
 import com.kickstarter.services.ApolloClientTypeV2;
+import com.kickstarter.services.HttpClientMetrics;
 import com.kickstarter.services.KSWebViewClient;
-import com.kickstarter.services.interceptors.ApiRequestInterceptor;
-import com.kickstarter.services.interceptors.GraphQLInterceptor;
+import com.kickstarter.services.RequestCoalescer;
+import com.kickstarter.services.RootHttpClient;
+import com.kickstarter.services.interceptors.KSHostMatcher;
 import com.kickstarter.services.interceptors.KSRequestInterceptor;
-import com.kickstarter.services.interceptors.WebRequestInterceptor;
 import com.kickstarter.type.Date;
 import com.kickstarter.ui.SharedPreferenceKey;
 import com.stripe.android.PaymentConfiguration;
@@ -91,6 +95,7 @@ import androidx.preference.PreferenceManager;
 import dagger.Module;
 import dagger.Provides;
 import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import okhttp3.CookieJar;
 import okhttp3.JavaNetCookieJar;
 import okhttp3.OkHttpClient;
@@ -187,11 +192,12 @@ public class ApplicationModule {
   @Singleton
   @NonNull
   static ApolloClient provideApolloClient(final @NonNull Build build, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
-    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint, final @NonNull KSRequestInterceptor ksRequestInterceptor) {
+    @NonNull @WebEndpoint final String webEndpoint, final @NonNull String clientId, final @NonNull CurrentUserTypeV2 currentUser,
+    final @NonNull KSHostMatcher hostMatcher, final @NonNull InternalToolsType internalTools,
+    final @ApplicationContext @NonNull Context context, final @RootOkHttpClient @NonNull OkHttpClient rootOkHttpClient) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder()
-      .addInterceptor(graphQLInterceptor)
-      .addInterceptor(ksRequestInterceptor);
+    final OkHttpClient.Builder builder = rootOkHttpClient.newBuilder()
+      .addInterceptor(new KSRequestInterceptor(clientId, currentUser, hostMatcher, internalTools, build, true));
 
     // Only log in debug mode to avoid leaking sensitive information.
     if (build.isDebug()) {
@@ -200,23 +206,47 @@ public class ApplicationModule {
 
     final OkHttpClient okHttpClient = builder.build();
 
-    return new ApolloClient.Builder()
+    final ApolloClient.Builder apolloBuilder = new ApolloClient.Builder()
       .serverUrl(webEndpoint + "/graph")
       .addCustomScalarAdapter(Date.Companion.getType(), new DateAdapter())
       .addCustomScalarAdapter(com.kickstarter.type.DateTime.Companion.getType(), new DateTimeAdapter())
       .addCustomScalarAdapter(com.kickstarter.type.ISO8601DateTime.Companion.getType(), new Iso8601DateTimeAdapter())
-      .httpEngine(new DefaultHttpEngine(okHttpClient))
-      .build();
+      .httpEngine(new DefaultHttpEngine(okHttpClient));
+
+    return ApolloCache.configure(apolloBuilder, context).build();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static RequestCoalescer provideRequestCoalescer() {
+    return new RequestCoalescer();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static HttpClientMetrics provideHttpClientMetrics() {
+    return new HttpClientMetrics();
+  }
+
+  @Provides
+  @Singleton
+  @RootOkHttpClient
+  @NonNull
+  static OkHttpClient provideRootOkHttpClient(final @ApplicationContext @NonNull Context context, final @NonNull HttpClientMetrics metrics) {
+    return RootHttpClient.create(context.getCacheDir(), metrics);
   }
 
   @Provides
   @Singleton
   @NonNull
-  static OkHttpClient provideOkHttpClient(final @NonNull ApiRequestInterceptor apiRequestInterceptor, final @NonNull CookieJar cookieJar,
-    final @NonNull HttpLoggingInterceptor httpLoggingInterceptor, final @NonNull KSRequestInterceptor ksRequestInterceptor,
-    final @NonNull Build build, final @NonNull WebRequestInterceptor webRequestInterceptor) {
+  static OkHttpClient provideOkHttpClient(final @NonNull CookieJar cookieJar, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
+    final @NonNull Build build, final @NonNull String clientId, final @NonNull CurrentUserTypeV2 currentUser,
+    final @NonNull KSHostMatcher hostMatcher, final @NonNull InternalToolsType internalTools,
+    final @RootOkHttpClient @NonNull OkHttpClient rootOkHttpClient) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    final OkHttpClient.Builder builder = rootOkHttpClient.newBuilder();
 
     // Only log in debug mode to avoid leaking sensitive information.
     if (build.isDebug()) {
@@ -224,9 +254,7 @@ public class ApplicationModule {
     }
 
     return builder
-      .addInterceptor(apiRequestInterceptor)
-      .addInterceptor(webRequestInterceptor)
-      .addInterceptor(ksRequestInterceptor)
+      .addInterceptor(new KSRequestInterceptor(clientId, currentUser, hostMatcher, internalTools, build, false))
       .cookieJar(cookieJar)
       .build();
   }
@@ -244,18 +272,9 @@ public class ApplicationModule {
   @Provides
   @Singleton
   @NonNull
-  static ApiRequestInterceptor provideApiRequestInterceptor(
-          final @NonNull String clientId, final @NonNull CurrentUserTypeV2 currentUser,
-          final @NonNull ApiEndpoint endpoint, final @NonNull Build build) {
-    return new ApiRequestInterceptor(clientId, currentUser, endpoint.url(), build);
-  }
-
-  @Provides
-  @Singleton
-  @NonNull
-  static GraphQLInterceptor provideGraphQLInterceptor(final @NonNull String clientId,
-    final @NonNull CurrentUserTypeV2 currentUser, final @NonNull Build build) {
-    return new GraphQLInterceptor(clientId, currentUser, build);
+  static KSHostMatcher provideKSHostMatcher(final @NonNull ApiEndpoint apiEndpoint,
+    @NonNull @WebEndpoint final String webEndpoint) {
+    return new KSHostMatcher(apiEndpoint.url(), webEndpoint);
   }
 
   @Provides
@@ -273,13 +292,6 @@ public class ApplicationModule {
       : Secrets.Api.Client.STAGING;
   }
 
-  @Provides
-  @Singleton
-  @NonNull
-  static KSRequestInterceptor provideKSRequestInterceptor(final @NonNull Build build) {
-    return new KSRequestInterceptor(build);
-  }
-
   @Provides
   @Singleton
   @NonNull
@@ -299,14 +311,6 @@ public class ApplicationModule {
     return createRetrofitV2(webEndpoint, gson, okHttpClient);
   }
 
-  @Provides
-  @Singleton
-  @NonNull
-  static WebRequestInterceptor provideWebRequestInterceptor(final @NonNull CurrentUserTypeV2 currentUser,
-    @NonNull @WebEndpoint final String endpoint, final @NonNull InternalToolsType internalTools, final @NonNull Build build) {
-    return new WebRequestInterceptor(currentUser, endpoint, internalTools, build);
-  }
-
   private static @NonNull Retrofit createRetrofitV2(final @NonNull String baseUrl, final @NonNull Gson gson, final @NonNull OkHttpClient okHttpClient) {
     return new Retrofit.Builder()
             .client(okHttpClient)
@@ -409,7 +413,7 @@ public class ApplicationModule {
   @Provides
   @Singleton
   static io.reactivex.Scheduler provideSchedulerV2() {
-    return io.reactivex.schedulers.Schedulers.computation();
+    return Schedulers.computation();
   }
 
   @Provides
@@ -437,7 +441,7 @@ public class ApplicationModule {
   static CurrentConfigTypeV2 provideCurrentConfig2(final @NonNull AssetManager assetManager,
                                                    final @NonNull Gson gson,
                                                    final @ConfigPreference @NonNull StringPreferenceType configPreference) {
-    return new CurrentConfigV2(assetManager, gson, configPreference);
+    return new CurrentConfigV2(assetManager, gson, configPreference, Schedulers.io());
   }
 
   @Provides
@@ -457,7 +461,7 @@ public class ApplicationModule {
   static CurrentUserTypeV2 provideCurrentUser2(final @AccessTokenPreference @NonNull StringPreferenceType accessTokenPreference,
                                                final @NonNull DeviceRegistrarType deviceRegistrar, final @NonNull Gson gson,
                                                final @NonNull @UserPreference StringPreferenceType userPreference) {
-    return new CurrentUserV2(accessTokenPreference, deviceRegistrar, gson, userPreference);
+    return new CurrentUserV2(accessTokenPreference, deviceRegistrar, gson, userPreference, Schedulers.io());
   }
 
   @Provides
@@ -499,6 +503,7 @@ public class ApplicationModule {
     return new GsonBuilder()
       .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
       .registerTypeAdapter(DateTime.class, new DateTimeTypeConverter())
+      .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
       .create();
   }
 
@@ -523,8 +528,9 @@ public class ApplicationModule {
 
   @Provides
   @Singleton
-  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserTypeV2 currentUser, final @NonNull CurrentUserTypeV2 currentUserV2) {
-    return new Logout(cookieManager, currentUserV2);
+  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserTypeV2 currentUser, final @NonNull CurrentUserTypeV2 currentUserV2,
+    final @NonNull ApolloClientTypeV2 apolloClient) {
+    return new Logout(cookieManager, currentUserV2, apolloClient);
   }
 
   @Provides
@@ -41,6 +41,7 @@ import androidx.compose.ui.tooling.preview.Preview
 import androidx.paging.PagingData
 import androidx.paging.compose.LazyPagingItems
 import androidx.paging.compose.collectAsLazyPagingItems
+import androidx.paging.compose.itemContentType
 import com.kickstarter.R
 import com.kickstarter.features.pledgedprojectsoverview.data.PPOCard
 import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardFactory
@@ -57,6 +58,7 @@ import com.kickstarter.ui.compose.designsystem.KSTheme
 import com.kickstarter.ui.compose.designsystem.KSTheme.colors
 import com.kickstarter.ui.compose.designsystem.KSTheme.dimensions
 import com.kickstarter.ui.compose.designsystem.KSTheme.typography
+import com.kickstarter.ui.compose.stableKeyOrPosition
 import com.kickstarter.ui.toolbars.compose.TopToolBar
 import kotlinx.coroutines.flow.flowOf
 
@@ -174,6 +176,9 @@ fun PledgedProjectsOverviewScreen(
     var addressID by remember { mutableStateOf("") }
     var backingID by remember { mutableStateOf("") }
     var projectID by remember { mutableStateOf("") }
+    // - Cards are keyed by backing, the ones without a backing of their own by position
+    val ppoCardsSnapshot = ppoCards.itemSnapshotList
+    val ppoCardKey = remember(ppoCardsSnapshot) { stableKeyOrPosition(ppoCardsSnapshot.items) { it.backingId } }
     val pullRefreshState = rememberPullRefreshState(
         isLoading,
         pullRefreshCallback,
@@ -241,7 +246,9 @@ fun PledgedProjectsOverviewScreen(
                     }
 
                     items(
-                        count = ppoCards.itemCount
+                        count = ppoCards.itemCount,
+                        key = { index -> ppoCardKey(index, ppoCards.peek(index)) },
+                        contentType = ppoCards.itemContentType { it.viewType() ?: PPOCardViewType.UNKNOWN }
                     ) { index ->
                         Spacer(modifier = Modifier.height(dimensions.paddingMedium))
 
@@ -0,0 +1,53 @@
+package com.kickstarter.libs
+
+import com.kickstarter.libs.preferences.StringPreferenceType
+
+/**
+ * Keeps the plaintext access token in memory. The persisted token is read, and decrypted when
+ * `ANDROID_ENCRYPT` is enabled, only once: every network request reads the access token, so
+ * subsequent reads return the cached value until it is invalidated.
+ */
+class AccessTokenProvider(private val accessTokenPreference: StringPreferenceType) {
+    /**
+     * The cached token, or [Unloaded] until the persisted token is read. Kept in a single field so a
+     * reader never sees the token as loaded while it's being invalidated.
+     */
+    @Volatile
+    private var token: Any? = Unloaded
+
+    fun get(): String? {
+        var current = token
+        if (current === Unloaded) {
+            synchronized(this) {
+                current = token
+                if (current === Unloaded) {
+                    current = accessTokenPreference.get()
+                    token = current
+                }
+            }
+        }
+        return current as String?
+    }
+
+    @Synchronized
+    fun set(accessToken: String) {
+        accessTokenPreference.set(accessToken)
+        token = accessToken
+    }
+
+    @Synchronized
+    fun delete() {
+        accessTokenPreference.delete()
+        token = null
+    }
+
+    /**
+     * Next read will load the token again from the persisted preference.
+     */
+    @Synchronized
+    fun invalidate() {
+        token = Unloaded
+    }
+
+    private object Unloaded
+}
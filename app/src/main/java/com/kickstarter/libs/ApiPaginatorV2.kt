@@ -1,6 +1,7 @@
 package com.kickstarter.libs
 
 import android.util.Pair
+import com.kickstarter.libs.loadmore.AccumulatedList
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ListUtils
 import io.reactivex.Observable
@@ -144,6 +145,15 @@ class ApiPaginatorV2<Data, Envelope, Params> private constructor(
             return this
         }
 
+        /**
+         * [Optional] Accumulates pages in an [AccumulatedList], dropping elements whose id, as returned by
+         * `idOf`, was already loaded. Replaces `ListUtils::concatDistinct` without copying the loaded list on every page.
+         */
+        fun concatDistinctBy(idOf: (Data) -> Any?): Builder<Data, Envelope, Params> {
+            this.concater = AccumulatedList.distinctConcater(idOf)
+            return this
+        }
+
         /**
          * [Optional] Determines if the list of loaded data is should be distinct until changed.
          */
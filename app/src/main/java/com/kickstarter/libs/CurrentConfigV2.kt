@@ -3,15 +3,13 @@ package com.kickstarter.libs
 import android.content.res.AssetManager
 import com.google.gson.Gson
 import com.kickstarter.libs.preferences.StringPreferenceType
-import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.extensions.isNotNull
 import io.reactivex.Observable
-import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.Scheduler
 import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 import timber.log.Timber
 import java.io.IOException
-import java.io.InputStream
 
 interface CurrentConfigTypeV2 {
     /**
@@ -25,37 +23,24 @@ interface CurrentConfigTypeV2 {
     fun config(config: Config)
 }
 
-class CurrentConfigV2(
-    assetManager: AssetManager,
-    gson: Gson,
-    configPreference: StringPreferenceType
+/**
+ * Seeds the config from preferences, falling back to the bundled `server-config.json`. Both are
+ * read and parsed on [bootstrapScheduler]. If [observable] is subscribed before that finishes,
+ * the config is loaded on the subscribing thread so it still emits immediately.
+ */
+class CurrentConfigV2 @JvmOverloads constructor(
+    private val assetManager: AssetManager,
+    private val gson: Gson,
+    private val configPreference: StringPreferenceType,
+    bootstrapScheduler: Scheduler = Schedulers.io()
 ) : CurrentConfigTypeV2 {
     private val config = BehaviorSubject.create<Config>()
-    private val disposables = CompositeDisposable()
-    init {
 
-        // Loads config from disk
-        val diskConfig = Observable.just(ASSET_PATH)
-            .map { path: String -> configJSONString(path, assetManager) }
-            .map { json: String? -> gson.fromJson(json, Config::class.java) }
-            .filter { `object`: Config? -> `object`.isNotNull() }
-            .compose(Transformers.neverErrorV2())
-            .subscribeOn(Schedulers.io())
+    @Volatile
+    private var seeded = false
 
-        // Loads config from string preference
-        val prefConfig = Observable.just(configPreference)
-            .map { obj: StringPreferenceType -> obj.get() }
-            .map { json: String? -> gson.fromJson(json, Config::class.java) }
-            .filter { `object`: Config? -> `object`.isNotNull() }
-            .compose(Transformers.neverErrorV2())
-            .subscribeOn(Schedulers.io())
-
-        // Seed config observable with what's cached
-        disposables.add(
-            Observable.concat(prefConfig, diskConfig)
-                .take(1)
-                .subscribe { v: Config -> config.onNext(v) }
-        )
+    init {
+        bootstrapScheduler.scheduleDirect { seedPersistedConfig() }
 
         // Cache any new values to preferences
         config.skip(1)
@@ -63,16 +48,45 @@ class CurrentConfigV2(
             .subscribe { c: Config? -> configPreference.set(gson.toJson(c, Config::class.java)) }.dispose()
     }
 
+    /**
+     * Seeds the config with what's cached, unless a fresh config was set in the meantime.
+     */
+    private fun seedPersistedConfig() {
+        if (seeded) return
+
+        synchronized(this) {
+            if (seeded) return
+
+            (parse(configPreference.get()) ?: parse(configJSONString(ASSET_PATH, assetManager)))
+                ?.let { config.onNext(it) }
+            seeded = true
+        }
+    }
+
+    private fun parse(json: String?): Config? =
+        try {
+            gson.fromJson(json, Config::class.java)
+        } catch (e: RuntimeException) {
+            Timber.e(e)
+            null
+        }
+
     /**
      * Get an observable representation of the current config. Emits immediately with the freshes copy of the config
      * and then emits again for any fresher values.
      */
     override fun observable(): Observable<Config> {
-        return config
+        return Observable.defer {
+            seedPersistedConfig()
+            config
+        }
     }
 
     override fun config(config: Config) {
-        this.config.onNext(config)
+        synchronized(this) {
+            seeded = true
+            this.config.onNext(config)
+        }
     }
 
     /**
@@ -82,12 +96,7 @@ class CurrentConfigV2(
      */
     private fun configJSONString(assetPath: String, assetManager: AssetManager): String {
         try {
-            val input: InputStream
-            input = assetManager.open(assetPath)
-            val buffer = ByteArray(input.available())
-            input.read(buffer)
-            input.close()
-            return String(buffer)
+            return assetManager.open(assetPath).use { String(it.readBytes()) }
         } catch (e: IOException) {
             Timber.e(e)
             // TODO: This should probably be fatal?
@@ -6,6 +6,7 @@ import com.kickstarter.libs.utils.KsOptional
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.models.User
 import io.reactivex.Observable
+import io.reactivex.Scheduler
 import io.reactivex.subjects.BehaviorSubject
 import timber.log.Timber
 
@@ -77,26 +78,66 @@ abstract class CurrentUserTypeV2 {
     }
 }
 
-class CurrentUserV2(
+/**
+ * When a [bootstrapScheduler] is given, the persisted user is parsed, and the access token read and
+ * decrypted, on that scheduler instead of the thread building the instance. If [observable] or
+ * [getUser] is called before that finishes, the persisted user is loaded on the calling thread so
+ * [observable] still emits immediately.
+ */
+class CurrentUserV2 @JvmOverloads constructor(
     private val accessTokenPreference: StringPreferenceType,
     private val deviceRegistrar: DeviceRegistrarType,
     private val gson: Gson,
-    private val userPreference: StringPreferenceType
+    private val userPreference: StringPreferenceType,
+    bootstrapScheduler: Scheduler? = null
 ) : CurrentUserTypeV2() {
     private val user = BehaviorSubject.create<KsOptional<User>>()
+    private val accessTokenProvider = AccessTokenProvider(accessTokenPreference)
+
+    @Volatile
+    private var seeded = false
 
     init {
-        val persistedUser = gson.fromJson(userPreference.get(), User::class.java)
-        if (persistedUser != null) {
-            user.onNext(KsOptional.of(persistedUser))
+        if (bootstrapScheduler != null) {
+            bootstrapScheduler.scheduleDirect {
+                seedPersistedUser()
+                accessTokenProvider.get()
+            }
         } else {
-            user.onNext(KsOptional.empty())
+            seedPersistedUser()
+        }
+    }
+
+    private fun seedPersistedUser() {
+        if (seeded) return
+
+        synchronized(this) {
+            if (seeded) return
+
+            val persistedUser = gson.fromJson(userPreference.get(), User::class.java)
+            if (persistedUser != null) {
+                user.onNext(KsOptional.of(persistedUser))
+            } else {
+                user.onNext(KsOptional.empty())
+            }
+            seeded = true
+
+            Timber.d("${this.javaClass} init persisted User: $persistedUser")
         }
+    }
 
-        Timber.d("${this.javaClass} init persisted User: $persistedUser")
+    /**
+     * Emits a new user, taking precedence over a persisted user that is still being loaded.
+     */
+    private fun emit(newUser: KsOptional<User>) {
+        synchronized(this) {
+            seeded = true
+            user.onNext(newUser)
+        }
     }
 
     override fun getUser(): User? {
+        seedPersistedUser()
         return user.value?.getValue()
     }
 
@@ -105,10 +146,10 @@ class CurrentUserV2(
     }
 
     override val accessToken: String?
-        get() = accessTokenPreference.get()
+        get() = accessTokenProvider.get()
 
     override fun login(newUser: User) {
-        user.onNext(KsOptional.of(newUser))
+        emit(KsOptional.of(newUser))
         userPreference.set(gson.toJson(newUser, User::class.java))
 
         Timber.d("${this.javaClass} Login user %s", newUser.name())
@@ -116,31 +157,34 @@ class CurrentUserV2(
 
     override fun setToken(accessToken: String) {
         // - Clean previous token in case there is any
-        accessTokenPreference.delete()
+        accessTokenProvider.delete()
         deviceRegistrar.unregisterDevice()
 
         // - Register new token
-        accessTokenPreference.set(accessToken)
+        accessTokenProvider.set(accessToken)
         deviceRegistrar.registerDevice()
 
         Timber.d("${this.javaClass} setToken: $accessToken")
     }
 
     override fun logout() {
-        accessTokenPreference.delete()
-        user.onNext(KsOptional.empty())
+        accessTokenProvider.delete()
+        emit(KsOptional.empty())
         userPreference.delete()
         deviceRegistrar.unregisterDevice()
         Timber.d("${this.javaClass} Logout current user")
     }
 
     override fun refresh(freshUser: User) {
-        user.onNext(KsOptional.of(freshUser))
+        emit(KsOptional.of(freshUser))
         userPreference.set(gson.toJson(freshUser, User::class.java))
         Timber.d("${this.javaClass} Refresh current user")
     }
 
     override fun observable(): Observable<KsOptional<User>> {
-        return user
+        return Observable.defer {
+            seedPersistedUser()
+            user
+        }
     }
 }
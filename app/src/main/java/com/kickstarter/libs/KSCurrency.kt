@@ -2,11 +2,13 @@ package com.kickstarter.libs
 
 import com.kickstarter.libs.models.Country
 import com.kickstarter.libs.models.Country.Companion.findByCurrencyCode
+import com.kickstarter.libs.utils.NumberFormatCache
 import com.kickstarter.libs.utils.NumberUtils
 import com.kickstarter.libs.utils.ProjectViewUtils
 import com.kickstarter.libs.utils.extensions.trimAllWhitespace
 import com.kickstarter.models.Project
 import java.math.RoundingMode
+import java.util.Locale
 import kotlin.jvm.JvmOverloads
 
 /**
@@ -31,6 +33,24 @@ fun KSCurrency?.getCurrencySymbols(project: Project): Pair<String, String> {
 }
 
 class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
+
+    /**
+     * Currency symbols for every country, with and without the excluded currency code, for a config.
+     */
+    private class CurrencySymbols(val config: Config) {
+        val symbols = arrayOfNulls<String>(Country.values().size * 2)
+    }
+
+    @Volatile
+    private var latestConfig: Config? = null
+
+    @Volatile
+    private var currencySymbols: CurrencySymbols? = null
+
+    init {
+        currentConfig.observable().subscribe { latestConfig = it }
+    }
+
     /**
      * Returns a currency string appropriate to the user's locale and location relative to a project.
      *
@@ -56,15 +76,12 @@ class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
         currentCurrency: Boolean = false
     ): String {
         val country = (if (currentCurrency) project.currentCurrency() else project.currency())?.let { findByCurrencyCode(it) } ?: return ""
-        val roundedValue = getRoundedValue(initialValue, roundingMode)
-        val currencyOptions = currencyOptions(roundedValue, country, excludeCurrencyCode)
-        val numberOptions = NumberOptions.builder()
-            .currencyCode(currencyOptions.currencyCode())
-            .currencySymbol(currencyOptions.currencySymbol())
-            .roundingMode(roundingMode)
-            .precision(NumberUtils.precision(initialValue, roundingMode))
-            .build()
-        return NumberUtils.format(currencyOptions.value() ?: 0F, numberOptions).trimAllWhitespace()
+        return formatCurrency(
+            getRoundedValue(initialValue, roundingMode),
+            getCurrencySymbol(country, excludeCurrencyCode),
+            NumberUtils.precision(initialValue, roundingMode),
+            roundingMode
+        )
     }
 
     /**
@@ -96,14 +113,12 @@ class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
                 it
             )
         } ?: return ""
-        val convertedValue = getRoundedValue(initialValue, roundingMode) * project.fxRate()
-        val currencyOptions = currencyOptions(convertedValue, country, true)
-        val numberOptions = NumberOptions.builder()
-            .currencySymbol(currencyOptions.currencySymbol())
-            .roundingMode(roundingMode)
-            .precision(if (precision > 0) 2 else 0)
-            .build()
-        return NumberUtils.format(currencyOptions.value() ?: 0F, numberOptions).trimAllWhitespace()
+        return formatCurrency(
+            getRoundedValue(initialValue, roundingMode) * project.fxRate(),
+            getCurrencySymbol(country, true),
+            if (precision > 0) 2 else 0,
+            roundingMode
+        )
     }
 
     /**
@@ -114,9 +129,11 @@ class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
      * @param excludeCurrencyCode If true, hide the US currency code for US users only.
      */
     fun currencyNeedsCode(country: Country, excludeCurrencyCode: Boolean): Boolean {
+        return currencyNeedsCode(country, excludeCurrencyCode, config())
+    }
+
+    private fun currencyNeedsCode(country: Country, excludeCurrencyCode: Boolean, config: Config): Boolean {
         val countryIsUS = country === Country.US
-        val config = currentConfig.observable()
-            .blockingFirst()
 
         val currencyNeedsCode = config.currencyNeedsCode(country.currencySymbol)
         val userInUS = config.countryCode() == Country.US.countryCode
@@ -128,20 +145,17 @@ class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
     }
 
     /**
-     * Build [CurrencyOptions] based on the country.
+     * The latest config, waiting for the first one to be loaded.
      */
-    private fun currencyOptions(
-        value: Float,
-        country: Country,
-        excludeCurrencyCode: Boolean
-    ): CurrencyOptions {
-        return CurrencyOptions.builder()
-            .country(country.countryCode)
-            .currencyCode("")
-            .currencySymbol(getCurrencySymbol(country, excludeCurrencyCode))
-            .value(value)
-            .build()
-    }
+    private fun config(): Config = latestConfig ?: currentConfig.observable().blockingFirst()
+
+    /**
+     * Formats a value with a cached currency formatter for the user's locale.
+     */
+    private fun formatCurrency(value: Float, currencySymbol: String, precision: Int, roundingMode: RoundingMode): String =
+        NumberFormatCache.currency(Locale.getDefault(), currencySymbol, precision, roundingMode)
+            .format(value.toDouble())
+            .trimAllWhitespace()
 
     /**
      * Returns the currency symbol for a country.
@@ -150,7 +164,17 @@ class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
      * @param excludeCurrencyCode If true, hide the US currency code for US users only.
      */
     fun getCurrencySymbol(country: Country, excludeCurrencyCode: Boolean): String {
-        return if (!currencyNeedsCode(country, excludeCurrencyCode)) {
+        val config = config()
+        val cache = currencySymbols?.takeIf { it.config === config }
+            ?: CurrencySymbols(config).also { currencySymbols = it }
+        val index = country.ordinal * 2 + if (excludeCurrencyCode) 1 else 0
+
+        return cache.symbols[index]
+            ?: currencySymbol(country, excludeCurrencyCode, config).also { cache.symbols[index] = it }
+    }
+
+    private fun currencySymbol(country: Country, excludeCurrencyCode: Boolean, config: Config): String {
+        return if (!currencyNeedsCode(country, excludeCurrencyCode, config)) {
             country.currencySymbol
         } else if (country === Country.SG) {
             // Singapore projects get a special currency prefix
@@ -1,13 +1,17 @@
 package com.kickstarter.libs
 
 import com.facebook.login.LoginManager
+import com.kickstarter.services.ApolloClientTypeV2
 import java.net.CookieManager
 
 class Logout(
     private val cookieManager: CookieManager,
-    private val currentUserV2: CurrentUserTypeV2
+    private val currentUserV2: CurrentUserTypeV2,
+    private val apolloClient: ApolloClientTypeV2
 ) {
     fun execute() {
+        // - Cleared before the logout is emitted, screens refreshing on it won't read the previous user's data
+        apolloClient.clearCache()
         currentUserV2.logout()
         cookieManager.cookieStore.removeAll()
         LoginManager.getInstance().logOut()
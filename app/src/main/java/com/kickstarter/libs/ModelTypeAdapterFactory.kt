@@ -0,0 +1,169 @@
+package com.kickstarter.libs
+
+import com.google.gson.Gson
+import com.google.gson.JsonObject
+import com.google.gson.TypeAdapter
+import com.google.gson.TypeAdapterFactory
+import com.google.gson.reflect.TypeToken
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+import com.kickstarter.models.Activity
+import com.kickstarter.models.Message
+import com.kickstarter.models.Project
+import com.kickstarter.models.Update
+import com.kickstarter.models.User
+import org.joda.time.DateTime
+
+/**
+ * Streaming adapters for the models listed in bulk by the activity feed and message threads,
+ * [Activity] and [Message], reading each field straight into the model instead of going through
+ * reflection. Nested models are read with the adapters registered on the same [Gson]. Every other
+ * model, `Project`, `User`, `Reward` and `Backing` included, is still read by reflection.
+ *
+ * Missing fields read as they do through reflection: `null`, or `0` for numbers. Reflection leaves
+ * non null fields `null` too, so an object missing one of those is handed to the reflective adapter.
+ */
+class ModelTypeAdapterFactory : TypeAdapterFactory {
+
+    @Suppress("UNCHECKED_CAST")
+    override fun <T : Any?> create(gson: Gson, type: TypeToken<T>): TypeAdapter<T>? =
+        when (type.rawType) {
+            Activity::class.java ->
+                ActivityTypeAdapter(gson, gson.getDelegateAdapter(this, type) as TypeAdapter<Activity>).nullSafe() as TypeAdapter<T>
+            Message::class.java ->
+                MessageTypeAdapter(gson, gson.getDelegateAdapter(this, type) as TypeAdapter<Message>).nullSafe() as TypeAdapter<T>
+            else -> null
+        }
+
+    private class ActivityTypeAdapter(gson: Gson, private val reflective: TypeAdapter<Activity>) : TypeAdapter<Activity>() {
+        private val dateTimeAdapter = gson.getAdapter(DateTime::class.java)
+        private val projectAdapter = gson.getAdapter(Project::class.java)
+        private val updateAdapter = gson.getAdapter(Update::class.java)
+        private val userAdapter = gson.getAdapter(User::class.java)
+
+        override fun read(reader: JsonReader): Activity {
+            var category: String? = null
+            var createdAt: DateTime? = null
+            var id = 0L
+            var project: Project? = null
+            var update: Update? = null
+            var updatedAt: DateTime? = null
+            var user: User? = null
+
+            reader.beginObject()
+            while (reader.hasNext()) {
+                when (reader.nextName()) {
+                    "category" -> category = reader.nextStringOrNull()
+                    "created_at" -> createdAt = dateTimeAdapter.read(reader)
+                    "id" -> id = reader.nextLongOrNull() ?: 0L
+                    "project" -> project = projectAdapter.read(reader)
+                    "update" -> update = updateAdapter.read(reader)
+                    "updated_at" -> updatedAt = dateTimeAdapter.read(reader)
+                    "user" -> user = userAdapter.read(reader)
+                    else -> reader.skipValue()
+                }
+            }
+            reader.endObject()
+
+            if (createdAt == null) {
+                return reflective.fromJsonTree(
+                    JsonObject().apply {
+                        addProperty("category", category)
+                        addProperty("id", id)
+                        add("project", projectAdapter.toJsonTree(project))
+                        add("update", updateAdapter.toJsonTree(update))
+                        add("updated_at", dateTimeAdapter.toJsonTree(updatedAt))
+                        add("user", userAdapter.toJsonTree(user))
+                    }
+                )
+            }
+            return Activity(category, createdAt, id, project, update, updatedAt, user)
+        }
+
+        override fun write(writer: JsonWriter, value: Activity) {
+            writer.beginObject()
+            writer.name("category").value(value.category())
+            writer.name("created_at")
+            dateTimeAdapter.write(writer, value.createdAt())
+            writer.name("id").value(value.id())
+            writer.name("project")
+            projectAdapter.write(writer, value.project())
+            writer.name("update")
+            updateAdapter.write(writer, value.update())
+            writer.name("updated_at")
+            dateTimeAdapter.write(writer, value.updatedAt())
+            writer.name("user")
+            userAdapter.write(writer, value.user())
+            writer.endObject()
+        }
+    }
+
+    private class MessageTypeAdapter(gson: Gson, private val reflective: TypeAdapter<Message>) : TypeAdapter<Message>() {
+        private val dateTimeAdapter = gson.getAdapter(DateTime::class.java)
+        private val userAdapter = gson.getAdapter(User::class.java)
+
+        override fun read(reader: JsonReader): Message {
+            var body: String? = null
+            var createdAt: DateTime? = null
+            var id = 0L
+            var recipient: User? = null
+            var sender: User? = null
+
+            reader.beginObject()
+            while (reader.hasNext()) {
+                when (reader.nextName()) {
+                    "body" -> body = reader.nextStringOrNull()
+                    "created_at" -> createdAt = dateTimeAdapter.read(reader)
+                    "id" -> id = reader.nextLongOrNull() ?: 0L
+                    "recipient" -> recipient = userAdapter.read(reader)
+                    "sender" -> sender = userAdapter.read(reader)
+                    else -> reader.skipValue()
+                }
+            }
+            reader.endObject()
+
+            if (body == null || createdAt == null || recipient == null || sender == null) {
+                return reflective.fromJsonTree(
+                    JsonObject().apply {
+                        addProperty("body", body)
+                        add("created_at", dateTimeAdapter.toJsonTree(createdAt))
+                        addProperty("id", id)
+                        add("recipient", userAdapter.toJsonTree(recipient))
+                        add("sender", userAdapter.toJsonTree(sender))
+                    }
+                )
+            }
+            return Message(body, createdAt, id, recipient, sender)
+        }
+
+        override fun write(writer: JsonWriter, value: Message) {
+            writer.beginObject()
+            writer.name("body").value(value.body())
+            writer.name("created_at")
+            dateTimeAdapter.write(writer, value.createdAt())
+            writer.name("id").value(value.id())
+            writer.name("recipient")
+            userAdapter.write(writer, value.recipient())
+            writer.name("sender")
+            userAdapter.write(writer, value.sender())
+            writer.endObject()
+        }
+    }
+}
+
+private fun JsonReader.nextStringOrNull(): String? =
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        null
+    } else {
+        nextString()
+    }
+
+private fun JsonReader.nextLongOrNull(): Long? =
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        null
+    } else {
+        nextLong()
+    }
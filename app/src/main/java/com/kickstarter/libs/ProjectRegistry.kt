@@ -0,0 +1,39 @@
+package com.kickstarter.libs
+
+import com.kickstarter.models.Project
+
+/**
+ * In-process store of the projects handed from one screen to the next, keyed by project id. Intents
+ * carry the id instead of the parceled project, and the next screen resolves it here.
+ *
+ * Only the most recently registered projects are kept, and nothing survives process death: screens
+ * reading from the registry need a way to fetch the project again when it's missing.
+ */
+class ProjectRegistry(private val maxProjects: Int = DEFAULT_MAX_PROJECTS) {
+
+    private val projects = object : LinkedHashMap<Long, Project>(maxProjects, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Long, Project>?) =
+            size > maxProjects
+    }
+
+    @Synchronized
+    fun get(projectId: Long): Project? = projects[projectId]
+
+    /**
+     * Registers [project], replacing any older copy of it.
+     */
+    @Synchronized
+    fun put(project: Project) {
+        projects[project.id()] = project
+    }
+
+    @Synchronized
+    fun clear() = projects.clear()
+
+    companion object {
+        const val DEFAULT_MAX_PROJECTS = 8
+
+        @JvmStatic
+        val shared = ProjectRegistry()
+    }
+}
@@ -0,0 +1,44 @@
+package com.kickstarter.libs
+
+import com.kickstarter.services.apiresponses.PushNotificationEnvelope
+import io.reactivex.Maybe
+import io.reactivex.Scheduler
+import java.util.concurrent.TimeUnit
+
+/**
+ * Coalesces pushes about the same thing, e.g. the same message thread, arriving within [windowMs]
+ * of each other: only the latest one is displayed, once the window is over. Pushes without a key
+ * are displayed right away.
+ */
+class PushNotificationCoalescer(
+    private val windowMs: Long,
+    private val scheduler: Scheduler
+) {
+    private val pending = HashMap<Any, PushNotificationEnvelope>()
+    private var coalesced = 0L
+
+    /**
+     * Emits the push to display for [key] once its window is over, or completes empty when [envelope]
+     * was folded into a push already waiting for that key.
+     */
+    fun offer(key: Any?, envelope: PushNotificationEnvelope): Maybe<PushNotificationEnvelope> {
+        if (key == null) return Maybe.just(envelope)
+
+        synchronized(pending) {
+            val isWaiting = pending.containsKey(key)
+            pending[key] = envelope
+            if (isWaiting) {
+                coalesced++
+                return Maybe.empty()
+            }
+        }
+
+        return Maybe.timer(windowMs, TimeUnit.MILLISECONDS, scheduler)
+            .map { synchronized(pending) { requireNotNull(pending.remove(key)) } }
+    }
+
+    /**
+     * Number of pushes folded into a later one since the app started.
+     */
+    fun coalesced() = synchronized(pending) { coalesced }
+}
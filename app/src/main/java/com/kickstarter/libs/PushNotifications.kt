@@ -1,6 +1,7 @@
 package com.kickstarter.libs
 
 import android.annotation.TargetApi
+import android.app.Notification
 import android.app.NotificationChannel
 import android.app.NotificationManager
 import android.app.PendingIntent
@@ -9,6 +10,8 @@ import android.content.Intent
 import android.graphics.Bitmap
 import android.graphics.BitmapFactory
 import android.os.Build
+import android.service.notification.StatusBarNotification
+import android.util.LruCache
 import android.util.Pair
 import androidx.annotation.VisibleForTesting
 import androidx.core.app.NotificationCompat
@@ -39,17 +42,33 @@ import com.kickstarter.ui.activities.ProjectPageActivity
 import com.kickstarter.ui.activities.SurveyResponseActivity
 import com.kickstarter.ui.activities.UpdateActivity
 import io.reactivex.Observable
+import io.reactivex.Scheduler
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.PublishSubject
+import io.reactivex.subjects.Subject
 import java.util.concurrent.ExecutionException
-
-class PushNotifications(
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Displays incoming pushes. Fetching what a push needs and building its notification happens on
+ * [renderScheduler], a pool of [RENDER_THREADS] threads shared by every kind of push, so a burst of pushes
+ * queues up instead of piling up threads.
+ */
+class PushNotifications @JvmOverloads constructor(
     @field:ApplicationContext @param:ApplicationContext private val context: Context,
-    private val client: ApiClientTypeV2
+    private val client: ApiClientTypeV2,
+    private val renderScheduler: Scheduler = RENDER_SCHEDULER
 ) {
-    private val notifications: PublishSubject<PushNotificationEnvelope> = PublishSubject.create()
+    // - Pushes are added from the messaging service threads
+    private val notifications: Subject<PushNotificationEnvelope> = PublishSubject.create<PushNotificationEnvelope>().toSerialized()
     private val subscriptions = CompositeDisposable()
+    private val coalescer = PushNotificationCoalescer(COALESCE_WINDOW_MS, renderScheduler)
+    private val bitmaps = object : LruCache<String, Bitmap>(BITMAP_CACHE_MAX_BYTES) {
+        override fun sizeOf(key: String, value: Bitmap) = value.byteCount
+    }
 
     @VisibleForTesting
     var messageThreadIntent: Intent? = null
@@ -60,7 +79,7 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isErroredPledge() }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe { envelope: PushNotificationEnvelope ->
                     this.displayNotificationFromErroredPledge(
                         envelope
@@ -71,7 +90,7 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isFriendFollow() }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe { envelope: PushNotificationEnvelope ->
                     this.displayNotificationFromFriendFollowActivity(
                         envelope
@@ -82,13 +101,17 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isMessage() }
-                .flatMap { envelope: PushNotificationEnvelope ->
-                    this.fetchMessageThreadWithEnvelope(
-                        envelope
-                    )
-                }
+                .flatMapMaybe { coalescer.offer(it.message()?.messageThreadId()?.let { id -> "message_thread:$id" }, it) }
+                .flatMap(
+                    { envelope: PushNotificationEnvelope ->
+                        this.fetchMessageThreadWithEnvelope(
+                            envelope
+                        )
+                    },
+                    MAX_CONCURRENT_FETCHES
+                )
                 .filter { isNotNull() }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe { envelopeAndMessageThread ->
                     this.displayNotificationFromMessageActivity(
                         envelopeAndMessageThread.first, envelopeAndMessageThread.second
@@ -99,7 +122,8 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isProjectActivity() }
-                .observeOn(Schedulers.newThread())
+                .flatMapMaybe { coalescer.offer(projectActivityKey(it), it) }
+                .observeOn(renderScheduler)
                 .subscribe { envelope: PushNotificationEnvelope ->
                     this.displayNotificationFromProjectActivity(
                         envelope
@@ -110,7 +134,7 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isProjectReminder() }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe { envelope: PushNotificationEnvelope ->
                     this.displayNotificationFromProjectReminder(
                         envelope
@@ -121,13 +145,17 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isProjectUpdateActivity() }
-                .flatMap { envelope: PushNotificationEnvelope ->
-                    this.fetchUpdateWithEnvelope(
-                        envelope
-                    )
-                }
+                .flatMapMaybe { coalescer.offer(it.activity()?.updateId()?.let { id -> "project_update:$id" }, it) }
+                .flatMap(
+                    { envelope: PushNotificationEnvelope ->
+                        this.fetchUpdateWithEnvelope(
+                            envelope
+                        )
+                    },
+                    MAX_CONCURRENT_FETCHES
+                )
                 .filter { isNotNull() }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe { envelopeAndUpdate: Pair<PushNotificationEnvelope, Update> ->
                     this.displayNotificationFromUpdateActivity(
                         envelopeAndUpdate.first,
@@ -142,7 +170,7 @@ class PushNotifications(
                 .filter {
                     isNotNull()
                 }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe {
                     this.displayNotificationFromSurveyResponseActivity(
                         it
@@ -155,7 +183,7 @@ class PushNotifications(
                 .filter {
                     isNotNull()
                 }
-                .observeOn(Schedulers.newThread())
+                .observeOn(renderScheduler)
                 .subscribe {
                     this.displayNotificationFromPledgeRedemption(
                         it
@@ -270,7 +298,7 @@ class PushNotifications(
             .setContentIntent(projectContentIntent(envelope, projectIntent))
             .build()
 
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun displayNotificationFromFriendFollowActivity(envelope: PushNotificationEnvelope) {
@@ -282,7 +310,7 @@ class PushNotifications(
             .setLargeIcon(fetchBitmap(activity.userPhoto(), true))
             .setContentIntent(friendFollowActivityIntent(envelope))
             .build()
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun displayNotificationFromMessageActivity(
@@ -298,7 +326,7 @@ class PushNotifications(
                 .setContentIntent(messageThreadIntent(envelope, messageThread))
                 .build()
 
-            notificationManager().notify(envelope.signature(), notification)
+            postNotification(envelope.signature(), notification)
         }
     }
 
@@ -322,7 +350,7 @@ class PushNotifications(
         }
         val notification = notificationBuilder.build()
 
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun displayNotificationFromProjectReminder(envelope: PushNotificationEnvelope) {
@@ -336,7 +364,7 @@ class PushNotifications(
             .setLargeIcon(fetchBitmap(project.photo(), false))
             .build()
 
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun displayNotificationFromSurveyResponseActivity(
@@ -349,7 +377,7 @@ class PushNotifications(
         val notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_SURVEY)
             .setContentIntent(surveyResponseContentIntent(envelope, surveyUrlPath, IntentKey.NOTIFICATION_SURVEY_RESPONSE))
             .build()
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun displayNotificationFromPledgeRedemption(
@@ -362,7 +390,7 @@ class PushNotifications(
         val notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PLEDGE_REDEMPTION)
             .setContentIntent(surveyResponseContentIntent(envelope, pledgeRedemptionPath, IntentKey.NOTIFICATION_PLEDGE_REDEMPTION))
             .build()
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun displayNotificationFromUpdateActivity(
@@ -381,7 +409,7 @@ class PushNotifications(
             .setContentIntent(projectUpdateContentIntent(envelope, update, projectParam))
             .setLargeIcon(fetchBitmap(activity.projectPhoto(), false))
             .build()
-        notificationManager().notify(envelope.signature(), notification)
+        postNotification(envelope.signature(), notification)
     }
 
     private fun friendFollowActivityIntent(envelope: PushNotificationEnvelope): PendingIntent {
@@ -426,8 +454,38 @@ class PushNotifications(
             .setContentTitle(title)
             .setStyle(NotificationCompat.BigTextStyle().bigText(text))
             .setAutoCancel(true)
+            .setGroup(channelId)
+    }
+
+    /**
+     * Posts [notification], and the summary of its group once the group has more than one
+     * notification, so pushes of the same channel are bundled together instead of each taking a
+     * row of the notification drawer.
+     */
+    private fun postNotification(id: Int, notification: Notification) {
+        val notificationManager = notificationManager()
+        notificationManager.notify(id, notification)
+
+        notification.group?.let { channelId ->
+            val groupSize = notificationManager.activeNotifications.count {
+                it.notification.group == channelId && !it.isGroupSummary()
+            }
+            if (groupSize < 2) return
+
+            val summary = NotificationCompat.Builder(this.context, channelId)
+                .setSmallIcon(R.drawable.ic_kickstarter_micro_k)
+                .setColor(ContextCompat.getColor(this.context, R.color.kds_create_700))
+                .setGroup(channelId)
+                .setGroupSummary(true)
+                .setAutoCancel(true)
+                .build()
+            notificationManager.notify(GROUP_SUMMARY_TAG, groupSummaryId(channelId), summary)
+        }
     }
 
+    private fun StatusBarNotification.isGroupSummary() =
+        (this.notification.flags and Notification.FLAG_GROUP_SUMMARY) != 0
+
     private fun projectContentIntent(
         envelope: PushNotificationEnvelope,
         projectIntent: Intent
@@ -490,6 +548,14 @@ class PushNotifications(
             return null
         }
 
+        // - Avatars and project photos repeat across pushes, keep the ones already downloaded
+        val key = "$transformIntoCircle:$url"
+        bitmaps.get(key)?.let { return it }
+
+        return downloadBitmap(url, transformIntoCircle)?.also { bitmaps.put(key, it) }
+    }
+
+    private fun downloadBitmap(url: String, transformIntoCircle: Boolean): Bitmap? {
         try {
             if (transformIntoCircle) {
                 val circleCrop = Glide.with(this.context)
@@ -586,6 +652,34 @@ class PushNotifications(
     }
 
     companion object {
+        /** Threads displaying pushes, shared by every kind of push. */
+        const val RENDER_THREADS = 2
+
+        /** Pushes about the same message thread, project activity or update within this window are displayed once. */
+        const val COALESCE_WINDOW_MS = 1_000L
+
+        private const val MAX_CONCURRENT_FETCHES = 4
+        private const val BITMAP_CACHE_MAX_BYTES = 4 * 1024 * 1024
+        private const val GROUP_SUMMARY_TAG = "GROUP_SUMMARY"
+
+        private val RENDER_SCHEDULER: Scheduler by lazy {
+            val threadCount = AtomicInteger()
+            val threadFactory = ThreadFactory { runnable ->
+                Thread(runnable, "push-notifications-${threadCount.incrementAndGet()}").apply {
+                    // - Rendering pushes shouldn't keep the process alive
+                    isDaemon = true
+                }
+            }
+            Schedulers.from(Executors.newFixedThreadPool(RENDER_THREADS, threadFactory))
+        }
+
+        /**
+         * Id of the group summary of [channelId], one per channel. Summaries are posted under
+         * [GROUP_SUMMARY_TAG] so they don't collide with the ids of the pushes.
+         */
+        @VisibleForTesting
+        fun groupSummaryId(channelId: String) = channelId.hashCode()
+
         private const val CHANNEL_ERRORED_PLEDGES = "ERRORED_PLEDGES"
         private const val CHANNEL_FOLLOWING = "FOLLOWING"
         private const val CHANNEL_MESSAGES = "MESSAGES"
@@ -605,5 +699,15 @@ class PushNotifications(
             CHANNEL_SURVEY,
             CHANNEL_PLEDGE_REDEMPTION
         )
+
+        /**
+         * Project activities only coalesce when they'd update the same notification: a backing and a comment
+         * on the same project, or two backings with different alerts, are all displayed.
+         */
+        fun projectActivityKey(envelope: PushNotificationEnvelope): Any? {
+            val activity = envelope.activity() ?: return null
+            val projectId = activity.projectId() ?: return null
+            return "project_activity:$projectId:${activity.category()}:${envelope.signature()}"
+        }
     }
 }
@@ -1,7 +1,9 @@
 package com.kickstarter.libs
 
+import android.content.ComponentCallbacks2
 import android.content.Context
 import android.content.SharedPreferences
+import android.content.res.Configuration
 import com.kickstarter.libs.braze.BrazeClient
 import com.kickstarter.libs.featureflag.FeatureFlagClientType
 import com.kickstarter.libs.utils.Secrets
@@ -21,6 +23,7 @@ import com.segment.analytics.integrations.IdentifyPayload
 import io.reactivex.android.schedulers.AndroidSchedulers
 import io.reactivex.schedulers.Schedulers
 import timber.log.Timber
+import java.util.concurrent.TimeUnit
 
 open class SegmentTrackingClient(
     build: Build,
@@ -68,6 +71,7 @@ open class SegmentTrackingClient(
 
     override fun initialize() {
         calledFromOnCreate = true
+        registerSessionCallbacks()
         if (build.isDebug) {
             Timber.d("${type().tag} initialize called from currentThread: ${Thread.currentThread()}")
         }
@@ -82,38 +86,37 @@ open class SegmentTrackingClient(
         if (this.context.isKSApplication() && !this.isInitialized && this.isEnabled()) {
             var apiKey = ""
             var logLevel = Analytics.LogLevel.NONE
-            var segmentClient: Analytics
 
             if (build.isRelease && Build.isExternal()) {
                 apiKey = Secrets.Segment.PRODUCTION
             }
 
-            if (build.isDebug || Build.isInternal()) {
+            val isDebuggable = build.isDebug || Build.isInternal()
+            if (isDebuggable) {
                 apiKey = Secrets.Segment.STAGING
                 logLevel = Analytics.LogLevel.VERBOSE
-
-                segmentClient = Analytics.Builder(context, apiKey)
-                    // - This flag will activate sending information to Braze
-                    .use(AppboyIntegration.FACTORY)
-                    .trackApplicationLifecycleEvents()
-                    .flushQueueSize(1)
-                    .logLevel(logLevel)
-                    // - Set middleware for Braze destination
-                    .useDestinationMiddleware(AppboyIntegration.FACTORY.key(), getMiddleware())
-                    .build()
-            } else {
-                segmentClient = Analytics.Builder(context, apiKey)
-                    // - This flag will activate sending information to Braze
-                    .use(AppboyIntegration.FACTORY)
-                    .trackApplicationLifecycleEvents()
-                    .logLevel(logLevel)
-                    // - Set middleware for Braze destination
-                    .useDestinationMiddleware(AppboyIntegration.FACTORY.key(), getMiddleware())
-                    .build()
             }
 
+            val segmentClient = batchEvents(Analytics.Builder(context, apiKey), isDebuggable)
+                // - This flag will activate sending information to Braze
+                .use(AppboyIntegration.FACTORY)
+                .trackApplicationLifecycleEvents()
+                .logLevel(logLevel)
+                // - Set middleware for Braze destination
+                .useDestinationMiddleware(AppboyIntegration.FACTORY.key(), getMiddleware())
+                .build()
+
             Analytics.setSingletonInstance(segmentClient)
 
+            // - The queued events are uploaded as soon as the app is in the background, instead of waiting for the interval
+            context.registerComponentCallbacks(object : ComponentCallbacks2 {
+                override fun onTrimMemory(level: Int) {
+                    if (level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) segmentClient.flush()
+                }
+                override fun onConfigurationChanged(newConfig: Configuration) {}
+                override fun onLowMemory() {}
+            })
+
             // - onIntegrationReady Callback will be called once Segment has finalized the integration with Braze
             // - moment when we will set App the Listener for InAppMessages
             Analytics.with(context).onIntegrationReady(
@@ -236,4 +239,22 @@ open class SegmentTrackingClient(
             }
         }
     }
+
+    companion object {
+        // - Segment's own defaults are 20 events and 30 seconds, about the rate events are tracked while
+        // browsing, so most uploads carried a handful of events and woke up the radio every 30 seconds
+        const val EVENT_BATCH_SIZE = 100
+        const val EVENT_FLUSH_INTERVAL_SECONDS = 120L
+
+        /**
+         * Segment persists the tracked events to a disk queue and uploads them in batches, flushed once
+         * [EVENT_BATCH_SIZE] events are queued, every [EVENT_FLUSH_INTERVAL_SECONDS] or when the app goes
+         * to the background. Failed batches are retried on 5xx and dropped on 4xx responses.
+         * Debuggable builds send every event straight away so they can be inspected.
+         */
+        fun batchEvents(builder: Analytics.Builder, isDebuggable: Boolean): Analytics.Builder = builder.apply {
+            flushQueueSize(if (isDebuggable) 1 else EVENT_BATCH_SIZE)
+            flushInterval(EVENT_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS)
+        }
+    }
 }
@@ -1,9 +1,11 @@
 package com.kickstarter.libs
 
+import android.content.ComponentCallbacks
 import android.content.Context
 import android.content.SharedPreferences
 import android.content.res.Configuration
 import android.net.ConnectivityManager
+import android.net.Network
 import android.net.NetworkCapabilities
 import android.view.accessibility.AccessibilityManager
 import com.google.android.gms.common.ConnectionResult
@@ -20,6 +22,8 @@ import com.kickstarter.models.User
 import com.kickstarter.ui.SharedPreferenceKey.CONSENT_MANAGEMENT_PREFERENCE
 import org.json.JSONException
 import timber.log.Timber
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
 import javax.inject.Inject
 
 abstract class TrackingClient(
@@ -31,6 +35,8 @@ abstract class TrackingClient(
     @set:Inject var sharedPreferences: SharedPreferences
 ) : TrackingClientType() {
 
+    private var sessionCallbacksRegistered = false
+
     override val isGooglePlayServicesAvailable: Boolean
         get() = GoogleApiAvailability.getInstance().isGooglePlayServicesAvailable(this.context) == ConnectionResult.SUCCESS
 
@@ -40,20 +46,30 @@ abstract class TrackingClient(
             return am?.isTouchExplorationEnabled ?: false
         }
 
+    /**
+     * Only the logged in user and the time of the event are read on the caller thread, the properties are
+     * built and sent to the client from [trackingExecutor], in the same order the events were tracked.
+     */
     override fun track(eventName: String, additionalProperties: Map<String, Any>) {
         if (isEnabled()) {
-            try {
-                trackingData(eventName, combinedProperties(additionalProperties))
-
-                if (this.build.isDebug) {
-                    val dataForLogs = combinedProperties(additionalProperties).toString()
-                    Timber.d("Queued ${type().tag} $eventName event: $dataForLogs")
+            val user = loggedInUser()
+            val timestamp = time()
+            val properties = HashMap(additionalProperties)
+
+            trackingExecutor.execute {
+                try {
+                    val combinedProperties = combinedProperties(properties, user, timestamp)
+                    trackingData(eventName, combinedProperties)
+
+                    if (this.build.isDebug) {
+                        Timber.d("Queued ${type().tag} $eventName event: $combinedProperties")
+                    }
+                } catch (e: JSONException) {
+                    if (this.build.isDebug) {
+                        Timber.e("Failed to encode ${type().tag} event: $eventName")
+                    }
+                    FirebaseCrashlytics.getInstance().log("E/${TrackingClient::class.java.simpleName}: Failed to encode ${type().tag} event: $eventName")
                 }
-            } catch (e: JSONException) {
-                if (this.build.isDebug) {
-                    Timber.e("Failed to encode ${type().tag} event: $eventName")
-                }
-                FirebaseCrashlytics.getInstance().log("E/${TrackingClient::class.java.simpleName}: Failed to encode ${type().tag} event: $eventName")
             }
         }
     }
@@ -66,10 +82,50 @@ abstract class TrackingClient(
 
     override fun reset() {
         if (isEnabled()) this.loggedInUser = null
+        invalidateSessionProperties()
     }
 
     override fun identify(user: User) {
         if (isEnabled()) this.loggedInUser = user
+        invalidateSessionProperties()
+    }
+
+    /**
+     * Executor the events are built and sent from.
+     */
+    protected open val trackingExecutor: Executor
+        get() = TRACKING_EXECUTOR
+
+    /**
+     * Invalidates the memoized session properties when the connectivity, the accessibility state or the
+     * configuration (orientation, dark mode, language) of the device change. Callbacks are registered
+     * for the lifetime of the application, so this should only be called from [initialize].
+     */
+    @Synchronized
+    protected fun registerSessionCallbacks() {
+        if (sessionCallbacksRegistered) return
+        sessionCallbacksRegistered = true
+
+        this.context.registerComponentCallbacks(object : ComponentCallbacks {
+            override fun onConfigurationChanged(newConfig: Configuration) = invalidateSessionProperties()
+            override fun onLowMemory() {}
+        })
+
+        (this.context.getSystemService(Context.ACCESSIBILITY_SERVICE) as AccessibilityManager?)
+            ?.addTouchExplorationStateChangeListener { invalidateSessionProperties() }
+
+        try {
+            (this.context.getSystemService(Context.CONNECTIVITY_SERVICE) as ConnectivityManager?)
+                ?.registerDefaultNetworkCallback(object : ConnectivityManager.NetworkCallback() {
+                    override fun onCapabilitiesChanged(network: Network, networkCapabilities: NetworkCapabilities) =
+                        invalidateSessionProperties()
+
+                    override fun onLost(network: Network) = invalidateSessionProperties()
+                })
+        } catch (e: RuntimeException) {
+            // - Missing network state permission or too many callbacks registered by the app
+            Timber.e(e)
+        }
     }
 
     /**
@@ -137,4 +193,10 @@ abstract class TrackingClient(
             false
         }
     }
+
+    companion object {
+        private val TRACKING_EXECUTOR: Executor = Executors.newSingleThreadExecutor { runnable ->
+            Thread(runnable, "ks-tracking").apply { isDaemon = true }
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.kickstarter.libs.utils.AnalyticEventsUtils.userProperties
 import com.kickstarter.libs.utils.MapUtils
 import com.kickstarter.models.User
 import java.util.Locale
+import java.util.concurrent.atomic.AtomicInteger
 
 abstract class TrackingClientType {
     enum class Type(val tag: String) {
@@ -35,6 +36,22 @@ abstract class TrackingClientType {
     protected abstract fun wifiConnection(): Boolean
     protected abstract fun sessionForceDarkMode(): Boolean
 
+    /**
+     * Session properties only change with the logged in state, the config or a device callback, so they
+     * are built once and reused for every event until any of those changes. [version] is the
+     * invalidation count the snapshot was built at, a snapshot built while being invalidated is never reused.
+     */
+    private class SessionSnapshot(
+        val version: Int,
+        val userIsLoggedIn: Boolean,
+        val config: Config?,
+        val properties: Map<String, Any>
+    )
+
+    @Volatile
+    private var sessionSnapshot: SessionSnapshot? = null
+    private val sessionVersion = AtomicInteger()
+
     abstract fun track(eventName: String, additionalProperties: Map<String, Any>)
     abstract fun identify(u: User)
     abstract fun reset()
@@ -53,24 +70,39 @@ abstract class TrackingClientType {
         track(eventName, HashMap())
     }
 
-    private fun genericProperties(): Map<String, Any> {
+    /**
+     * Drops the memoized session properties, to be called whenever any of the values they are built from changes.
+     */
+    protected fun invalidateSessionProperties() {
+        this.sessionVersion.incrementAndGet()
+    }
+
+    private fun genericProperties(user: User?, timestamp: Long): Map<String, Any> {
         val hashMap = hashMapOf<String, Any>()
-        loggedInUser()?.let {
+        user?.let {
             hashMap.putAll(userProperties(it))
             hashMap["user_country"] = userCountry(it)
         }
-        hashMap.putAll(sessionProperties(loggedInUser() != null))
-        hashMap.putAll(contextProperties())
+        hashMap.putAll(sessionProperties(user != null))
+        // - The device id is set asynchronously on startup, it is not memoized with the rest of the session
+        hashMap["session_device_distinct_id"] = deviceDistinctId()
+        hashMap["context_timestamp"] = timestamp
         return hashMap
     }
 
-    private fun contextProperties(): Map<String, Any> {
-        val properties = hashMapOf<String, Any>()
-        properties["timestamp"] = time()
-        return MapUtils.prefixKeys(properties, "context_")
+    private fun sessionProperties(userIsLoggedIn: Boolean): Map<String, Any> {
+        val config = this.config
+        val version = sessionVersion.get()
+        sessionSnapshot
+            ?.takeIf { it.version == version && it.userIsLoggedIn == userIsLoggedIn && it.config === config }
+            ?.let { return it.properties }
+
+        return buildSessionProperties(userIsLoggedIn).also {
+            sessionSnapshot = SessionSnapshot(version, userIsLoggedIn, config, it)
+        }
     }
 
-    private fun sessionProperties(userIsLoggedIn: Boolean): Map<String, Any> {
+    private fun buildSessionProperties(userIsLoggedIn: Boolean): Map<String, Any> {
         val properties = hashMapOf<String, Any>()
         properties.apply {
             this["app_build_number"] = buildNumber()
@@ -79,7 +111,6 @@ abstract class TrackingClientType {
             this["client"] = "native"
             this["variants_internal"] = currentVariants() ?: ""
             this["country"] = sessionCountry()
-            this["device_distinct_id"] = deviceDistinctId()
             this["device_type"] = deviceFormat()
             this["device_manufacturer"] = manufacturer()
             this["device_model"] = model()
@@ -101,9 +132,16 @@ abstract class TrackingClientType {
     /**
      * We use the same properties for Segment and DataLake
      */
-    fun combinedProperties(additionalProperties: Map<String, Any>): Map<String, Any> {
+    fun combinedProperties(additionalProperties: Map<String, Any>): Map<String, Any> =
+        combinedProperties(additionalProperties, loggedInUser(), time())
+
+    /**
+     * Combined properties for an event tracked at `timestamp` while `user` was logged in, used to
+     * build the properties after the event was queued.
+     */
+    fun combinedProperties(additionalProperties: Map<String, Any>, user: User?, timestamp: Long): Map<String, Any> {
         return HashMap(additionalProperties).apply {
-            putAll(genericProperties())
+            putAll(genericProperties(user, timestamp))
         }
     }
 }
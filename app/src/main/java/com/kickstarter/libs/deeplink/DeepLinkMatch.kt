@@ -0,0 +1,104 @@
+package com.kickstarter.libs.deeplink
+
+import android.net.Uri
+
+/**
+ * Classification of a deep link by [DeepLinkRouter]. Each property is equivalent to the `Uri`
+ * helper of the same name in `UriExt`, evaluated against the router's web endpoint.
+ */
+class DeepLinkMatch internal constructor(
+    val uri: Uri,
+    private val host: String,
+    private val isWebEndpointHost: Boolean,
+    private val isKSScheme: Boolean,
+    private val paths: List<DeepLinkRouter.PathMatch>
+) {
+    private fun matches(path: DeepLinkPath) = paths.any { it.path == path }
+
+    private fun isWebPath(path: DeepLinkPath) = isWebEndpointHost && matches(path)
+
+    /**
+     * Parameters of the matched `path` (ie. `project`, `creator`, `update`, `survey`), or null when the
+     * link does not match it. When the creator segment is ambiguous, the shape without it is not returned.
+     */
+    fun params(path: DeepLinkPath): Map<String, String>? =
+        paths.filter { it.path == path }.maxByOrNull { it.params.size }?.params
+
+    val isProject: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT)
+
+    val isProjectPreview: Boolean
+        get() = isProject && uri.getQueryParameter("token") != null
+
+    val isProjectSave: Boolean
+        get() = isProject && isSaveQuery(uri.query)
+
+    val isCheckout: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_CHECKOUT)
+
+    val isCheckoutThanks: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_CHECKOUT_THANKS)
+
+    val isProjectComment: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_COMMENTS)
+
+    val isProjectUpdate: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_UPDATE)
+
+    val isProjectUpdateComments: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_UPDATE_COMMENTS)
+
+    val isProjectUpdates: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_UPDATES)
+
+    val isProjectSurvey: Boolean
+        get() = isWebPath(DeepLinkPath.PROJECT_SURVEY)
+
+    val isUserSurvey: Boolean
+        get() = isWebPath(DeepLinkPath.USER_SURVEY)
+
+    val isNewGuestCheckout: Boolean
+        get() = isWebPath(DeepLinkPath.NEW_GUEST_CHECKOUT)
+
+    val isSignup: Boolean
+        get() = isWebPath(DeepLinkPath.SIGNUP)
+
+    /**
+     * Reward fulfilled links are recognized on any host, as long as the scheme is a Kickstarter one.
+     */
+    val isRewardFulfilled: Boolean
+        get() = isKSScheme && matches(DeepLinkPath.PROJECT_REWARD_FULFILLED)
+
+    val isSettings: Boolean
+        get() = uri.toString().contains(SETTINGS_PATH)
+
+    val isEmailDomain: Boolean
+        get() = isKSScheme && host in EMAIL_DOMAINS
+
+    val isMainPage: Boolean
+        get() = host.contains(KS_DOMAIN) && uri.query == MAIN_PAGE_QUERY
+
+    val lastPathSegmentIsProjects: Boolean
+        get() = uri.lastPathSegment == "projects"
+
+    private fun isSaveQuery(query: String?): Boolean {
+        if (query == null || query.length <= SAVE_PREFIX.length || !query.startsWith(SAVE_PREFIX)) {
+            return false
+        }
+        for (i in SAVE_PREFIX.length until query.length) {
+            val c = query[i]
+            if (c !in 'a'..'z' && c !in 'A'..'Z') return false
+        }
+        return true
+    }
+
+    private companion object {
+        const val KS_DOMAIN = "kickstarter.com"
+        const val MAIN_PAGE_QUERY = "app_banner=1&ref=nav"
+        const val SAVE_PREFIX = "save="
+        const val SETTINGS_PATH = "/settings/notify_mobile_of_marketing_update/true"
+        val EMAIL_DOMAINS = setOf("me", "ea", "clicks", "click", "emails", "email", "e2", "e3")
+            .map { "$it.$KS_DOMAIN" }
+            .toHashSet()
+    }
+}
@@ -0,0 +1,152 @@
+package com.kickstarter.libs.deeplink
+
+import android.net.Uri
+import com.kickstarter.libs.utils.extensions.SCHEME_HTTPS
+import com.kickstarter.libs.utils.extensions.SCHEME_KSR
+
+/**
+ * Path shapes of the Kickstarter URLs handled by the app, see the patterns in `UriExt`.
+ */
+enum class DeepLinkPath {
+    PROJECT,
+    PROJECT_CHECKOUT,
+    PROJECT_CHECKOUT_THANKS,
+    PROJECT_COMMENTS,
+    PROJECT_REWARD_FULFILLED,
+    PROJECT_SURVEY,
+    PROJECT_UPDATE,
+    PROJECT_UPDATE_COMMENTS,
+    PROJECT_UPDATES,
+    NEW_GUEST_CHECKOUT,
+    SIGNUP,
+    USER_SURVEY
+}
+
+/**
+ * Classifies deep links in a single pass over their path segments.
+ *
+ * Every known path shape is compiled once into a trie of path segments, where each node has
+ * literal children (ie. `posts`) and parameter children (ie. `:project`). Hosts are checked
+ * against the web endpoint once per link instead of once per `Uri.is*` helper.
+ */
+class DeepLinkRouter(webEndpoint: String) {
+    private val webHost = Uri.parse(webEndpoint).host ?: ""
+
+    fun match(uri: Uri): DeepLinkMatch {
+        val host = uri.host ?: ""
+        val scheme = uri.scheme
+        val isKSScheme = scheme == SCHEME_KSR || scheme == SCHEME_HTTPS
+
+        val paths = if (host == webHost || isKSScheme) PATHS.match(uri.path ?: "") else emptyList()
+        return DeepLinkMatch(uri, host, isWebEndpointHost = host == webHost, isKSScheme = isKSScheme, paths = paths)
+    }
+
+    /**
+     * A path shape matched by a link, along with the values of its parameters.
+     */
+    class PathMatch(val path: DeepLinkPath, val params: Map<String, String>)
+
+    private class Terminal(val path: DeepLinkPath, val paramNames: List<String>, val allowsTrailingSlash: Boolean)
+
+    private class Node {
+        val literals = HashMap<String, Node>()
+        var slug: Node? = null
+        var number: Node? = null
+        val terminals = ArrayList<Terminal>(1)
+    }
+
+    private class PathTrie {
+        private val root = Node()
+
+        fun add(path: DeepLinkPath, template: String, allowsTrailingSlash: Boolean = false) {
+            var node = root
+            val paramNames = ArrayList<String>()
+            template.split("/").filter { it.isNotEmpty() }.forEach { segment ->
+                node = when {
+                    segment.startsWith(":") -> {
+                        paramNames.add(segment.substring(1))
+                        node.slug ?: Node().also { node.slug = it }
+                    }
+                    segment.startsWith("#") -> {
+                        paramNames.add(segment.substring(1))
+                        node.number ?: Node().also { node.number = it }
+                    }
+                    else -> node.literals.getOrPut(segment) { Node() }
+                }
+            }
+            node.terminals.add(Terminal(path, paramNames, allowsTrailingSlash))
+        }
+
+        fun match(path: String): List<PathMatch> {
+            if (!path.startsWith("/") || path.length == 1) {
+                return emptyList()
+            }
+            val hasTrailingSlash = path.endsWith("/")
+            val segments = path.substring(1, if (hasTrailingSlash) path.length - 1 else path.length).split("/")
+
+            val matches = ArrayList<PathMatch>(2)
+            collect(root, segments, 0, ArrayList(), hasTrailingSlash, matches)
+            return matches
+        }
+
+        private fun collect(
+            node: Node,
+            segments: List<String>,
+            index: Int,
+            captured: ArrayList<String>,
+            hasTrailingSlash: Boolean,
+            matches: MutableList<PathMatch>
+        ) {
+            if (index == segments.size) {
+                node.terminals
+                    .filter { !hasTrailingSlash || it.allowsTrailingSlash }
+                    .forEach { matches.add(PathMatch(it.path, it.paramNames.zip(captured).toMap())) }
+                return
+            }
+
+            val segment = segments[index]
+            node.literals[segment]?.let { collect(it, segments, index + 1, captured, hasTrailingSlash, matches) }
+            node.slug?.takeIf { isSlug(segment) }?.let {
+                captured.add(segment)
+                collect(it, segments, index + 1, captured, hasTrailingSlash, matches)
+                captured.removeAt(captured.size - 1)
+            }
+            node.number?.takeIf { isNumber(segment) }?.let {
+                captured.add(segment)
+                collect(it, segments, index + 1, captured, hasTrailingSlash, matches)
+                captured.removeAt(captured.size - 1)
+            }
+        }
+
+        private fun isSlug(segment: String) =
+            segment.isNotEmpty() && segment.all { it in 'a'..'z' || it in 'A'..'Z' || it in '0'..'9' || it == '_' || it == '-' }
+
+        private fun isNumber(segment: String) = segment.isNotEmpty() && segment.all { it in '0'..'9' }
+    }
+
+    companion object {
+        private val PATHS = PathTrie().apply {
+            // - The creator segment of project URLs is optional
+            listOf("/projects/:creator/:project", "/projects/:project").forEach { project ->
+                add(DeepLinkPath.PROJECT, project, allowsTrailingSlash = true)
+                add(DeepLinkPath.PROJECT_CHECKOUT, "$project/pledge")
+                add(DeepLinkPath.PROJECT_CHECKOUT_THANKS, "$project/checkouts/#checkout/thanks")
+                add(DeepLinkPath.PROJECT_COMMENTS, "$project/comments")
+                add(DeepLinkPath.PROJECT_REWARD_FULFILLED, "$project/mark_reward_fulfilled/true")
+                add(DeepLinkPath.PROJECT_SURVEY, "$project/surveys/:survey")
+                add(DeepLinkPath.PROJECT_SURVEY, "$project/surveys/:survey/edit")
+                add(DeepLinkPath.PROJECT_SURVEY, "$project/surveys/:survey/edit_address")
+                add(DeepLinkPath.PROJECT_SURVEY, "$project/backing/survey_responses")
+                add(DeepLinkPath.PROJECT_SURVEY, "$project/backing/redeem")
+                add(DeepLinkPath.PROJECT_SURVEY, "$project/backing/pledge_redemption")
+                add(DeepLinkPath.PROJECT_UPDATES, "$project/posts")
+                add(DeepLinkPath.PROJECT_UPDATE, "$project/posts/:update")
+                add(DeepLinkPath.PROJECT_UPDATE_COMMENTS, "$project/posts/:update/comments")
+            }
+            add(DeepLinkPath.NEW_GUEST_CHECKOUT, "/checkouts/:checkout/guest/new")
+            add(DeepLinkPath.SIGNUP, "/signup")
+            add(DeepLinkPath.USER_SURVEY, "/users/:user/surveys/:survey")
+            add(DeepLinkPath.USER_SURVEY, "/users/surveys/:survey")
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.kickstarter.libs.graphql
+
+import android.content.Context
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.api.ApolloRequest
+import com.apollographql.apollo3.api.ApolloResponse
+import com.apollographql.apollo3.api.Operation
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+import com.apollographql.apollo3.cache.normalized.api.CacheKey
+import com.apollographql.apollo3.cache.normalized.api.CacheKeyGenerator
+import com.apollographql.apollo3.cache.normalized.api.CacheKeyGeneratorContext
+import com.apollographql.apollo3.cache.normalized.api.MemoryCacheFactory
+import com.apollographql.apollo3.cache.normalized.api.NormalizedCacheFactory
+import com.apollographql.apollo3.cache.normalized.doNotStore
+import com.apollographql.apollo3.cache.normalized.fetchPolicy
+import com.apollographql.apollo3.cache.normalized.normalizedCache
+import com.apollographql.apollo3.cache.normalized.sql.SqlNormalizedCacheFactory
+import com.apollographql.apollo3.interceptor.ApolloInterceptor
+import com.apollographql.apollo3.interceptor.ApolloInterceptorChain
+import com.google.android.gms.common.util.Base64Utils
+import com.kickstarter.FetchProjectQuery
+import com.kickstarter.FetchProjectRewardsQuery
+import com.kickstarter.FetchProjectsQuery
+import com.kickstarter.GetRootCategoriesQuery
+import kotlinx.coroutines.flow.Flow
+import java.nio.charset.Charset
+
+/**
+ * Normalized cache for the GraphQL client: an in-memory LRU tier chained in front of a SQLite
+ * backed tier. Records are keyed by their GraphQL object id, see [RelayIdCacheKeyGenerator].
+ *
+ * Only the public queries in [CACHED_OPERATIONS] are written to the cache, every other query and
+ * mutation (stored cards, backings, user privacy...) goes straight to the network, see [PublicQueriesOnlyInterceptor].
+ * The client default fetch policy stays [FetchPolicy.NetworkOnly], only the queries configured on
+ * `ApolloFetchPolicies` will read from the cache.
+ */
+object ApolloCache {
+    const val MEMORY_CACHE_MAX_SIZE_BYTES = 10 * 1024 * 1024
+    const val DISK_CACHE_MAX_SIZE_BYTES = 20L * 1024 * 1024
+    const val DATABASE_NAME = "ks_apollo_cache.db"
+
+    val CACHED_OPERATIONS = setOf(
+        FetchProjectQuery.OPERATION_NAME,
+        FetchProjectRewardsQuery.OPERATION_NAME,
+        GetRootCategoriesQuery.OPERATION_NAME,
+        FetchProjectsQuery.OPERATION_NAME
+    )
+
+    /**
+     * The SQLite tier doesn't evict records, it is dropped on startup once it grows past
+     * [DISK_CACHE_MAX_SIZE_BYTES] and starts again from the network.
+     */
+    @JvmStatic
+    fun normalizedCacheFactory(context: Context): NormalizedCacheFactory {
+        if (context.getDatabasePath(DATABASE_NAME).length() > DISK_CACHE_MAX_SIZE_BYTES) {
+            context.deleteDatabase(DATABASE_NAME)
+        }
+        return MemoryCacheFactory(maxSizeBytes = MEMORY_CACHE_MAX_SIZE_BYTES)
+            .chain(SqlNormalizedCacheFactory(context, DATABASE_NAME))
+    }
+
+    @JvmStatic
+    fun configure(builder: ApolloClient.Builder, context: Context): ApolloClient.Builder =
+        builder
+            // - Added before the cache interceptors so they see the requests it marked
+            .addInterceptor(PublicQueriesOnlyInterceptor)
+            .normalizedCache(
+                normalizedCacheFactory = normalizedCacheFactory(context),
+                cacheKeyGenerator = RelayIdCacheKeyGenerator
+            )
+            .fetchPolicy(FetchPolicy.NetworkOnly)
+
+    /**
+     * Cache key for any Relay object, ie `cacheKeyFor("Project", 1234)`, to be used when
+     * invalidating records after mutations.
+     */
+    @JvmStatic
+    fun cacheKeyFor(typeName: String, id: Long): CacheKey = CacheKey("$typeName-$id")
+
+    /**
+     * Cache key for an encoded Relay id as sent by the GraphQL API, ie `UHJvamVjdC0xMjM0`.
+     */
+    @JvmStatic
+    fun cacheKeyFor(encodedRelayId: String): CacheKey = CacheKey(decodeRelayKey(encodedRelayId))
+
+    /**
+     * GraphQL ids are base64 encoded `Type-id` strings, the encoding used by the API
+     * and the one used by the client (url safe) might differ, so the records are keyed by the
+     * decoded value.
+     */
+    internal fun decodeRelayKey(encodedRelayId: String): String =
+        try {
+            String(Base64Utils.decode(encodedRelayId), Charset.defaultCharset())
+                .takeIf { it.contains("-") } ?: encodedRelayId
+        } catch (e: Exception) {
+            encodedRelayId
+        }
+}
+
+/**
+ * Normalizes every object exposing an `id` field by its decoded Relay id, objects without `id`
+ * are stored inline within their parent record.
+ */
+object RelayIdCacheKeyGenerator : CacheKeyGenerator {
+    override fun cacheKeyForObject(obj: Map<String, Any?>, context: CacheKeyGeneratorContext): CacheKey? =
+        (obj["id"] as? String)?.let { ApolloCache.cacheKeyFor(it) }
+}
+
+/**
+ * Marks every operation that is not in [ApolloCache.CACHED_OPERATIONS] as `doNotStore`, so user
+ * scoped responses never reach the memory or disk tiers.
+ */
+object PublicQueriesOnlyInterceptor : ApolloInterceptor {
+    override fun <D : Operation.Data> intercept(request: ApolloRequest<D>, chain: ApolloInterceptorChain): Flow<ApolloResponse<D>> =
+        chain.proceed(
+            if (isStored(request.operation)) request
+            else request.newBuilder().doNotStore(true).build()
+        )
+
+    fun isStored(operation: Operation<*>) = ApolloCache.CACHED_OPERATIONS.contains(operation.name())
+}
@@ -7,20 +7,50 @@ import org.jsoup.select.Elements
 
 class HTMLParser {
 
-    fun parse(html: String): List<ViewElement> {
+    fun parse(html: String): List<ViewElement> = parse(html, Int.MAX_VALUE) { }
+
+    /**
+     * Parses `html` as [parse] does, calling `onFirstElements` with the elements parsed so far as soon as
+     * there are `firstElementsCount` of them, so the top of a long story can be rendered while the rest
+     * of the document is walked. Not called for documents with fewer elements.
+     *
+     * `isCancelled` is checked before each element, once it returns `true` the walk stops and the
+     * elements parsed so far are returned.
+     */
+    fun parse(
+        html: String,
+        firstElementsCount: Int,
+        isCancelled: () -> Boolean = { false },
+        onFirstElements: (List<ViewElement>) -> Unit
+    ): List<ViewElement> {
         val doc = Jsoup.parse(html)
-        val viewElements = mutableListOf<ViewElement>()
+        val viewElements = ParsedElements(firstElementsCount, onFirstElements, isCancelled)
         doc.children().forEach {
-            viewElements.addAll(parse(it.children()))
+            parse(it.children(), viewElements)
         }
 
-        return viewElements
+        return viewElements.elements
     }
 
-    private fun parse(children: Elements?): List<ViewElement> {
-        val viewElements = mutableListOf<ViewElement>()
+    private class ParsedElements(
+        private val firstElementsCount: Int,
+        private var onFirstElements: ((List<ViewElement>) -> Unit)?,
+        val isCancelled: () -> Boolean
+    ) {
+        val elements = mutableListOf<ViewElement>()
+
+        fun add(element: ViewElement) {
+            elements.add(element)
+            if (elements.size >= firstElementsCount) {
+                onFirstElements?.invoke(elements.toList())
+                onFirstElements = null
+            }
+        }
+    }
 
+    private fun parse(children: Elements?, viewElements: ParsedElements) {
         children?.forEach { element ->
+            if (viewElements.isCancelled()) return
             when (ViewElementType.initialize(element)) {
                 ViewElementType.IMAGE -> {
                     viewElements.add(element.parseImageElement())
@@ -47,18 +77,22 @@ class HTMLParser {
                     viewElements.add(element.parseExternalElement())
                 }
                 else -> {
-                    viewElements.addAll(parse(element.children()))
+                    parse(element.children(), viewElements)
                 }
             }
         }
-        return viewElements
     }
 
     private fun parseTextElement(
         element: Element,
         textComponents: MutableList<TextComponent>
     ): List<TextComponent> {
+        collectTextComponents(element, textComponents)
+        return textComponents
+    }
 
+    // - Nested elements append to the same list, instead of copying it at every level
+    private fun collectTextComponents(element: Element, textComponents: MutableList<TextComponent>) {
         for (node in element.childNodes()) {
             (node as? TextNode)?.let { textNode ->
                 if (textNode.text().trim().isNotEmpty()) {
@@ -66,9 +100,8 @@ class HTMLParser {
                 }
             }
             (node as? Element)?.let {
-                parseTextElement(it, textComponents)
+                collectTextComponents(it, textComponents)
             }
         }
-        return textComponents.toList()
     }
 }
@@ -0,0 +1,38 @@
+package com.kickstarter.libs.htmlparser
+
+/**
+ * Least recently used cache of parsed project stories, keyed by project id. The story HTML is compared
+ * on every hit so an edited story is parsed again. Shared by every campaign screen, re-opening the
+ * campaign tab or recreating its view model reuses the view elements of the last parse.
+ */
+class ParsedStoryCache(private val maxStories: Int = DEFAULT_MAX_STORIES) {
+
+    private class ParsedStory(val story: String, val viewElements: List<ViewElement>)
+
+    private val stories = object : LinkedHashMap<Long, ParsedStory>(maxStories, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Long, ParsedStory>?) =
+            size > maxStories
+    }
+
+    @Synchronized
+    fun get(projectId: Long, story: String): List<ViewElement>? =
+        stories[projectId]?.takeIf { it.story == story }?.viewElements
+
+    /**
+     * Keeps the parse of `story`, replacing the previous story of the project.
+     */
+    @Synchronized
+    fun put(projectId: Long, story: String, viewElements: List<ViewElement>) {
+        stories[projectId] = ParsedStory(story, viewElements)
+    }
+
+    @Synchronized
+    fun clear() = stories.clear()
+
+    companion object {
+        const val DEFAULT_MAX_STORIES = 8
+
+        @JvmStatic
+        val shared = ParsedStoryCache()
+    }
+}
@@ -0,0 +1,153 @@
+package com.kickstarter.libs.loadmore
+
+import io.reactivex.functions.BiFunction
+
+/**
+ * Immutable list of paginated data, built by appending (or prepending) whole pages.
+ *
+ * Every snapshot shares the page arrays of the snapshot it was built from, so adding a page only
+ * copies the references to the pages loaded so far instead of every element. Ids of the
+ * accumulated elements are indexed, so dropping duplicates from an incoming page is O(1) per element
+ * instead of a linear `equals` scan over the whole list.
+ */
+class AccumulatedList<T> private constructor(
+    private val pages: Array<Array<Any?>>,
+    private val offsets: IntArray,
+    override val size: Int,
+    private val index: IdIndex<T>
+) : AbstractList<T>(), RandomAccess {
+
+    /**
+     * Ids seen by the latest snapshot of a chain. Snapshots are only ever extended from the latest one
+     * by the paginators, when an older snapshot is extended the index is rebuilt for the new branch.
+     */
+    private class IdIndex<T>(val idOf: (T) -> Any?, val ids: HashSet<Any?>) {
+        @Volatile
+        var owner: AccumulatedList<T>? = null
+    }
+
+    override fun get(index: Int): T {
+        if (index < 0 || index >= size) {
+            throw IndexOutOfBoundsException("Index: $index, Size: $size")
+        }
+        val page = pageOf(index)
+        @Suppress("UNCHECKED_CAST")
+        return pages[page][index - offsets[page]] as T
+    }
+
+    override fun iterator(): Iterator<T> = object : Iterator<T> {
+        private var page = 0
+        private var position = 0
+        private var remaining = size
+
+        override fun hasNext() = remaining > 0
+
+        override fun next(): T {
+            if (remaining == 0) throw NoSuchElementException()
+            while (position == pages[page].size) {
+                page++
+                position = 0
+            }
+            remaining--
+            @Suppress("UNCHECKED_CAST")
+            return pages[page][position++] as T
+        }
+    }
+
+    /**
+     * Returns true if an element with the same id as `element` has been accumulated.
+     */
+    fun containsId(element: T): Boolean {
+        val id = index.idOf(element)
+        return if (index.owner === this) index.ids.contains(id) else any { index.idOf(it) == id }
+    }
+
+    /**
+     * Returns a new list with the elements of `page` added at the end, elements whose id is
+     * already present are dropped. Returns this same instance when nothing was added.
+     */
+    fun append(page: List<T>): AccumulatedList<T> = add(page, atStart = false)
+
+    /**
+     * Returns a new list with the elements of `page` added at the beginning, elements whose id is
+     * already present are dropped. Returns this same instance when nothing was added.
+     */
+    fun prepend(page: List<T>): AccumulatedList<T> = add(page, atStart = true)
+
+    private fun add(page: List<T>, atStart: Boolean): AccumulatedList<T> {
+        val index = indexForAppending()
+        val distinct = ArrayList<Any?>(page.size)
+        page.forEach {
+            if (index.ids.add(index.idOf(it))) distinct.add(it)
+        }
+        if (distinct.isEmpty()) {
+            return this
+        }
+
+        val newPages = arrayOfNulls<Array<Any?>>(pages.size + 1)
+        if (atStart) {
+            newPages[0] = distinct.toArray()
+            System.arraycopy(pages, 0, newPages, 1, pages.size)
+        } else {
+            System.arraycopy(pages, 0, newPages, 0, pages.size)
+            newPages[pages.size] = distinct.toArray()
+        }
+        @Suppress("UNCHECKED_CAST")
+        return create(newPages as Array<Array<Any?>>, size + distinct.size, index)
+    }
+
+    private fun indexForAppending(): IdIndex<T> =
+        if (index.owner === this) {
+            index
+        } else {
+            IdIndex(index.idOf, HashSet<Any?>(size * 2)).also { fresh ->
+                this.forEach { fresh.ids.add(fresh.idOf(it)) }
+                fresh.owner = this
+            }
+        }
+
+    private fun pageOf(position: Int): Int {
+        var low = 0
+        var high = offsets.size - 1
+        while (low < high) {
+            val mid = (low + high + 1) ushr 1
+            if (offsets[mid] <= position) low = mid else high = mid - 1
+        }
+        return low
+    }
+
+    companion object {
+
+        /**
+         * Wraps `elements` in a new list indexed by `idOf`. Duplicates already present in `elements` are kept.
+         */
+        @JvmStatic
+        fun <T> of(elements: List<T>, idOf: (T) -> Any?): AccumulatedList<T> {
+            val ids = HashSet<Any?>(elements.size * 2)
+            elements.forEach { ids.add(idOf(it)) }
+            val pages = if (elements.isEmpty()) emptyArray() else arrayOf(elements.toTypedArray<Any?>())
+            return create(pages, elements.size, IdIndex(idOf, ids))
+        }
+
+        /**
+         * Concatenation mode for the paginators: pages are accumulated in an [AccumulatedList] and
+         * elements already loaded, according to `idOf`, are dropped from the incoming page.
+         */
+        @JvmStatic
+        fun <T> distinctConcater(idOf: (T) -> Any?, isReversed: () -> Boolean = { false }): BiFunction<List<T>, List<T>, List<T>> =
+            BiFunction { xs: List<T>, ys: List<T> ->
+                val accumulated = xs as? AccumulatedList<T> ?: of(xs, idOf)
+                if (isReversed()) accumulated.prepend(ys) else accumulated.append(ys)
+            }
+
+        private fun <T> create(pages: Array<Array<Any?>>, size: Int, index: IdIndex<T>): AccumulatedList<T> {
+            val offsets = IntArray(pages.size)
+            var offset = 0
+            pages.forEachIndexed { i, page ->
+                offsets[i] = offset
+                offset += page.size
+            }
+            return AccumulatedList(pages, offsets, size, index).also { index.owner = it }
+        }
+    }
+}
@@ -124,6 +124,15 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             return this
         }
 
+        /**
+         * [Optional] Accumulates pages in an [AccumulatedList], dropping elements whose id, as returned by
+         * `idOf`, was already loaded. Replaces `ListUtils::concatDistinct` without copying the loaded list on every page.
+         */
+        fun concatDistinctBy(idOf: (Data) -> Any?): Builder<Data, Envelope, Params> {
+            this.concater = AccumulatedList.distinctConcater(idOf, { isReversed })
+            return this
+        }
+
         /**
          * [Optional] Determines if the list of loaded data is should be distinct until changed.
          */
@@ -182,14 +191,22 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
      */
     private fun dataWithPagination(firstPageParams: Params): Observable<List<Data>>? {
         val data = paramsAndMoreUrlWithPagination(firstPageParams)
-            ?.concatMap { fetchData(it) }
-            ?.takeUntil { it.isEmpty() }
+            ?.concatMap { params ->
+                val page = Any()
+                fetchData(params, page)
+            }
+            ?.takeUntil { it.isLastPage() }
+
+        val seed = Accumulated<Data>(
+            page = null,
+            previousPages = null,
+            data = if (clearWhenStartingOver) ArrayList() else null
+        )
 
-        val paginatedData =
-            if (clearWhenStartingOver)
-                data?.scan(ArrayList(), concater)
-            else
-                data?.scan(concater)
+        val paginatedData = data
+            ?.scan(seed) { accumulated, pageData -> accumulated.with(pageData.page, pageData.data, concater) }
+            ?.filter { it.data != null }
+            ?.map { requireNotNull(it.data) }
 
         return if (distinctUntilChanged)
             paginatedData?.distinctUntilChanged()
@@ -212,17 +229,20 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             .startWith(Pair(firstPageParams, ""))
     }
 
-    private fun fetchData(paginatingData: Pair<Params, String>): Observable<List<Data>> {
+    private fun fetchData(paginatingData: Pair<Params, String>, page: Any): Observable<PageData<Data>> {
 
         return loadWithParams.apply(paginatingData)
             .retry(2)
             .compose(Transformers.neverErrorV2())
             .doOnNext { envelope: Envelope ->
-                keepMorePath(envelope)
+                // - The cursor of a cached page may be stale, the next page follows the network response
+                if (!envelope.isFromCache()) keepMorePath(envelope)
+            }
+            .map { envelope: Envelope ->
+                val data = envelopeToListOfData.apply(envelope)
+                PageData(page, pageTransformation?.apply(data) ?: data, envelope.isFromCache())
             }
-            .map(envelopeToListOfData)
-            .map(this.pageTransformation)
-            .takeUntil { data: List<Data> -> data.isEmpty() }
+            .takeUntil { it.isLastPage() }
             .doOnSubscribe {
                 isFetching.onNext(true)
             }
@@ -234,6 +254,39 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             }
     }
 
+    /**
+     * A page of data, emitted once from the cache and once from the network when both are read.
+     */
+    private class PageData<Data>(
+        val page: Any,
+        val data: List<Data>,
+        val isFromCache: Boolean
+    ) {
+        /**
+         * Only an empty network page ends the pagination, an empty cache still waits for the network.
+         */
+        fun isLastPage() = !isFromCache && data.isEmpty()
+    }
+
+    /**
+     * Data accumulated so far, a page emitted more than once (ie. from the cache and then from the network)
+     * replaces its previous value instead of being concatenated again.
+     */
+    private class Accumulated<Data>(
+        val page: Any?,
+        val previousPages: List<Data>?,
+        val data: List<Data>?
+    ) {
+        fun with(page: Any, pageData: List<Data>, concater: BiFunction<List<Data>, List<Data>, List<Data>>): Accumulated<Data> {
+            val previousPages = if (page === this.page) this.previousPages else this.data
+            return Accumulated(
+                page = page,
+                previousPages = previousPages,
+                data = previousPages?.let { concater.apply(it, pageData) } ?: pageData
+            )
+        }
+    }
+
     private fun keepMorePath(envelope: Envelope) {
         try {
             (
@@ -35,14 +35,14 @@ enum class Country(
     US("US", "USD", "$", 1, 10_000, true);
 
     companion object {
-        @JvmStatic
-        fun findByCurrencyCode(currencyCode: String): Country? {
+        // - Several countries share a currency, the first one declared wins, as in a linear scan
+        private val byCurrencyCode: Map<String, Country> = HashMap<String, Country>().apply {
             for (c in values()) {
-                if (c.currencyCode == currencyCode) {
-                    return c
-                }
+                putIfAbsent(c.currencyCode, c)
             }
-            return null
         }
+
+        @JvmStatic
+        fun findByCurrencyCode(currencyCode: String): Country? = byCurrencyCode[currencyCode]
     }
 }
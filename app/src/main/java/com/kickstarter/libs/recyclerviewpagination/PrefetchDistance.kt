@@ -0,0 +1,118 @@
+package com.kickstarter.libs.recyclerviewpagination
+
+import android.os.SystemClock
+import kotlin.math.ceil
+
+/**
+ * Decides when [RecyclerViewPaginatorV2] should load the next page ahead of the end of the list.
+ *
+ * The next page is requested once the last visible item is within [distance] items of the end,
+ * where the distance is the number of items the user is expected to scroll past while a page loads:
+ * measured scroll velocity (items per ms) times the measured page latency, bounded by
+ * [minItems] and [maxItems].
+ *
+ * It also counts how often the user reaches the end of the loaded items while the next page is
+ * still not there, see [boundariesReached], [stalledBoundaries] and [stallRatio]. The paginator
+ * logs them when it stops.
+ *
+ * Must only be used from the main thread.
+ */
+class PrefetchDistance @JvmOverloads constructor(
+    private val minItems: Int = DEFAULT_MIN_ITEMS,
+    private val maxItems: Int = DEFAULT_MAX_ITEMS,
+    private val clock: () -> Long = { SystemClock.elapsedRealtime() }
+) {
+    private var itemsPerMs = 0.0
+    private var pageLatencyMs = DEFAULT_PAGE_LATENCY_MS
+    private var lastPosition = -1
+    private var lastPositionTime = 0L
+    private var loadingSince = -1L
+    private var requestedItemCount = -1
+    private var lastBoundaryItemCount = -1
+
+    var boundariesReached = 0
+        private set
+
+    var stalledBoundaries = 0
+        private set
+
+    /**
+     * Number of items from the end of the list at which the next page is requested.
+     */
+    fun distance(): Int =
+        ceil(itemsPerMs * pageLatencyMs).toInt().coerceIn(minItems, maxItems)
+
+    /**
+     * Ratio of page boundaries the user reached before the next page was loaded.
+     */
+    fun stallRatio(): Double =
+        if (boundariesReached == 0) 0.0 else stalledBoundaries.toDouble() / boundariesReached
+
+    fun isLoading() = loadingSince >= 0
+
+    fun onLoadingChanged(isLoading: Boolean) {
+        val now = clock()
+        if (isLoading && loadingSince < 0) {
+            loadingSince = now
+        } else if (!isLoading && loadingSince >= 0) {
+            pageLatencyMs = smooth(pageLatencyMs, (now - loadingSince).toDouble())
+            loadingSince = -1
+        }
+    }
+
+    /**
+     * Returns true when the next page should be requested for the given scroll position. Only one
+     * request is made per loaded item count while ahead of the end, so it won't fire again while
+     * scrolling towards the end of the same page.
+     */
+    fun shouldRequestNextPage(lastVisibleItem: Int, itemCount: Int): Boolean {
+        trackVelocity(lastVisibleItem)
+        return shouldRequestAt(lastVisibleItem, itemCount)
+    }
+
+    /**
+     * Same as [shouldRequestNextPage] for the position the list is resting at once a page is loaded:
+     * a position skipped while loading is checked again, the list doesn't scroll when the user stopped there.
+     */
+    fun shouldRequestNextPageWhenLoaded(lastVisibleItem: Int, itemCount: Int): Boolean =
+        shouldRequestAt(lastVisibleItem, itemCount)
+
+    private fun shouldRequestAt(lastVisibleItem: Int, itemCount: Int): Boolean {
+        val itemsLeft = itemCount - 1 - lastVisibleItem
+        val isAtBoundary = itemsLeft <= 0
+        val isLoading = isLoading()
+
+        if (isAtBoundary && itemCount != lastBoundaryItemCount) {
+            lastBoundaryItemCount = itemCount
+            boundariesReached++
+            if (isLoading || requestedItemCount != itemCount) stalledBoundaries++
+        }
+
+        if (isLoading || itemsLeft > distance()) {
+            return false
+        }
+        if (!isAtBoundary && requestedItemCount == itemCount) {
+            return false
+        }
+        requestedItemCount = itemCount
+        return true
+    }
+
+    private fun trackVelocity(position: Int) {
+        val now = clock()
+        if (lastPosition >= 0 && position > lastPosition && now > lastPositionTime) {
+            itemsPerMs = smooth(itemsPerMs, (position - lastPosition).toDouble() / (now - lastPositionTime))
+        }
+        lastPosition = position
+        lastPositionTime = now
+    }
+
+    private fun smooth(current: Double, sample: Double) = current + SMOOTHING * (sample - current)
+
+    companion object {
+        const val DEFAULT_MIN_ITEMS = 3
+        const val DEFAULT_MAX_ITEMS = 15
+        private const val DEFAULT_PAGE_LATENCY_MS = 1_000.0
+        private const val SMOOTHING = 0.3
+    }
+}
@@ -8,15 +8,18 @@ import com.kickstarter.libs.rx.transformers.Transformers.combineLatestPair
 import com.kickstarter.libs.utils.Secrets
 import com.kickstarter.libs.utils.extensions.isFalse
 import io.reactivex.Observable
+import io.reactivex.android.schedulers.AndroidSchedulers
 import io.reactivex.disposables.Disposable
 import io.reactivex.functions.Action
 import io.reactivex.subjects.PublishSubject
+import timber.log.Timber
 
 class RecyclerViewPaginatorV2 {
     private val recyclerView: RecyclerView
     private val isScrollEnabled: Boolean
     private val nextPage: Action
     private val isLoading: Observable<Boolean>
+    private val prefetchDistance: PrefetchDistance?
     private var subscription: Disposable? = null
     private var retrySubscription: Disposable? = null
     private val retryLoadingNextPageSubject = PublishSubject.create<Unit>()
@@ -25,6 +28,24 @@ class RecyclerViewPaginatorV2 {
         this.recyclerView = recyclerView
         this.nextPage = nextPage
         this.isLoading = isLoading
+        this.prefetchDistance = null
+        isScrollEnabled = true
+        start()
+    }
+
+    /**
+     * Requests the next page ahead of the end of the list, see [PrefetchDistance].
+     */
+    constructor(
+        recyclerView: RecyclerView,
+        nextPage: Action,
+        isLoading: Observable<Boolean>,
+        prefetchDistance: PrefetchDistance
+    ) {
+        this.recyclerView = recyclerView
+        this.nextPage = nextPage
+        this.isLoading = isLoading
+        this.prefetchDistance = prefetchDistance
         isScrollEnabled = true
         start()
     }
@@ -38,6 +59,7 @@ class RecyclerViewPaginatorV2 {
         this.recyclerView = recyclerView
         this.nextPage = nextPage
         this.isLoading = isLoading
+        this.prefetchDistance = null
         this.isScrollEnabled = isScrollEnabled
         start()
     }
@@ -78,7 +100,7 @@ class RecyclerViewPaginatorV2 {
                 )
             }
 
-        subscription = loadNextPage
+        subscription = (prefetchDistance?.let { prefetchNextPage(lastVisibleAndCount, it) } ?: loadNextPage)
             .subscribe {
                 if (isScrollEnabled) {
                     nextPage.run()
@@ -91,6 +113,32 @@ class RecyclerViewPaginatorV2 {
             }
     }
 
+    /**
+     * Scroll positions at which the next page should be loaded according to `prefetchDistance`,
+     * which also tracks the loading state to measure page latency and avoid duplicated requests.
+     * Loading changes are observed on the main thread, like the scroll events, as `prefetchDistance`
+     * isn't thread safe.
+     */
+    private fun prefetchNextPage(
+        lastVisibleAndCount: Observable<Pair<Int, Int>>,
+        prefetchDistance: PrefetchDistance
+    ): Observable<Pair<Int, Int>> {
+        // - Once a page is loaded, the position skipped while loading is checked again
+        val positionWhenLoaded = isLoading
+            .distinctUntilChanged()
+            .observeOn(AndroidSchedulers.mainThread())
+            .doOnNext { prefetchDistance.onLoadingChanged(it) }
+            .filter { loading -> !loading }
+            .map { recyclerView.layoutManager }
+            .ofType(LinearLayoutManager::class.java)
+            .map { displayedItemFromLinearLayout(it) }
+            .filter { it.second != 0 && prefetchDistance.shouldRequestNextPageWhenLoaded(it.first, it.second) }
+
+        return lastVisibleAndCount
+            .filter { prefetchDistance.shouldRequestNextPage(it.first, it.second) }
+            .mergeWith(positionWhenLoaded)
+    }
+
     fun reload() {
         retryLoadingNextPageSubject.onNext(Unit)
     }
@@ -104,6 +152,18 @@ class RecyclerViewPaginatorV2 {
         this.recyclerView.clearOnScrollListeners()
         subscription?.dispose()
         retrySubscription?.dispose()
+        prefetchDistance?.let { logStalls(it) }
+    }
+
+    private fun logStalls(prefetchDistance: PrefetchDistance) {
+        if (prefetchDistance.boundariesReached == 0) return
+        Timber.d(
+            "Reached the end of the list %d times, %d before the next page was loaded (stall ratio %.2f, prefetch distance %d items)",
+            prefetchDistance.boundariesReached,
+            prefetchDistance.stalledBoundaries,
+            prefetchDistance.stallRatio(),
+            prefetchDistance.distance()
+        )
     }
 
     /**
@@ -13,13 +13,14 @@ import com.kickstarter.libs.CurrentConfigTypeV2
 import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.Logout
 import com.kickstarter.libs.preferences.StringPreferenceType
-import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.syncUserFeatureFlagsFromPref
 import com.kickstarter.services.ApiClientTypeV2
 import com.kickstarter.services.apiresponses.ErrorEnvelope
 import com.kickstarter.services.apiresponses.ErrorEnvelope.Companion.fromThrowable
 import io.reactivex.disposables.CompositeDisposable
+import timber.log.Timber
+import java.util.concurrent.TimeUnit
 import javax.inject.Inject
 
 class ApplicationLifecycleUtil(private val application: KSApplication) :
@@ -45,7 +46,12 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     @Inject
     var featuresFlagPreference: StringPreferenceType? = null
     private var isInBackground = true
-    private val disposables = CompositeDisposable()
+
+    // - Refreshes are app scoped, they keep going when the user moves between activities
+    private val configRefresh = RefreshThrottle(CONFIG_MIN_REFRESH_INTERVAL_MS)
+    private val userRefresh = RefreshThrottle(USER_MIN_REFRESH_INTERVAL_MS)
+    // - The throttles allow one refresh of each kind per interval, so this only grows by a few entries an hour
+    private val refreshDisposables = CompositeDisposable()
 
     init {
         application.component().inject(this)
@@ -64,25 +70,37 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     }
 
     /**
-     * Refresh the config file.
+     * Refresh the config file, unless it was refreshed less than [CONFIG_MIN_REFRESH_INTERVAL_MS] ago.
+     * When the API sends an ETag, the HTTP cache of the root client revalidates an unchanged config
+     * with If-None-Match instead of downloading it again, see [com.kickstarter.services.HttpClientMetrics].
      */
     private fun refreshConfigFile() {
-        client.config()
-            .materialize()
-            .share()
-            .subscribe { notification ->
-                notification.value?.let {
-                    // sync save features flags in the config object
-                    if (build.isDebug || Build.isInternal()) {
-                        it.syncUserFeatureFlagsFromPref(featuresFlagPreference!!)
+        if (!configRefresh.tryStart()) return
+
+        refreshDisposables.add(
+            client.config()
+                .materialize()
+                .share()
+                .subscribe { notification ->
+                    notification.value?.let {
+                        // sync save features flags in the config object
+                        if (build.isDebug || Build.isInternal()) {
+                            it.syncUserFeatureFlagsFromPref(featuresFlagPreference!!)
+                        }
+                        config.config(it)
+                        configRefresh.finish(succeeded = true)
+                    }
+
+                    notification.error?.let {
+                        configRefresh.finish(succeeded = false)
+                        handleConfigApiError(fromThrowable(it))
                     }
-                    config.config(it)
-                }
 
-                notification.error?.let {
-                    handleConfigApiError(fromThrowable(it))
+                    if (notification.isOnComplete) {
+                        configRefresh.finish(succeeded = true)
+                    }
                 }
-            }.addToDisposable(disposables)
+        )
     }
 
     /**
@@ -108,23 +126,48 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     }
 
     /**
-     * Refreshes the user object if there is not a user logged in with a non-null access token.
+     * Refreshes the user object if there is not a user logged in with a non-null access token,
+     * unless it was refreshed for the same access token less than [USER_MIN_REFRESH_INTERVAL_MS] ago.
      */
     private fun refreshUser() {
         val accessToken = currentUser.accessToken ?: ""
 
-        if (accessToken.isNotNull() && accessToken.isNotEmpty()) {
-            client.fetchCurrentUser()
-                .doOnError {
-                    forceLogout(it.message ?: "")
-                }
-                .subscribe { user ->
-                    currentUser.refresh(user)
-                }.addToDisposable(disposables)
+        if (accessToken.isNotNull() && accessToken.isNotEmpty() && userRefresh.tryStart(accessToken)) {
+            refreshDisposables.add(
+                client.fetchCurrentUser()
+                    .doOnError {
+                        userRefresh.finish(succeeded = false)
+                        forceLogout(it.message ?: "")
+                    }
+                    .doOnComplete {
+                        userRefresh.finish(succeeded = true)
+                    }
+                    .subscribe { user ->
+                        currentUser.refresh(user)
+                    }
+            )
         }
     }
 
-    override fun onActivityPaused(activity: Activity) { disposables.clear() }
+    /**
+     * Number of config and user refreshes started and skipped on foreground since the app started,
+     * logged each time the app goes to the background.
+     */
+    fun refreshCounts() = RefreshCounts(
+        configRefreshes = configRefresh.refreshes(),
+        configRefreshesSkipped = configRefresh.skipped(),
+        userRefreshes = userRefresh.refreshes(),
+        userRefreshesSkipped = userRefresh.skipped()
+    )
+
+    data class RefreshCounts(
+        val configRefreshes: Long,
+        val configRefreshesSkipped: Long,
+        val userRefreshes: Long,
+        val userRefreshesSkipped: Long
+    )
+
+    override fun onActivityPaused(activity: Activity) {}
     override fun onActivityStopped(activity: Activity) {}
     override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) {}
     override fun onActivityDestroyed(activity: Activity) {}
@@ -139,6 +182,12 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     override fun onTrimMemory(i: Int) {
         if (i == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
             isInBackground = true
+            Timber.d("${this.javaClass} ${refreshCounts()}")
         }
     }
+
+    companion object {
+        val CONFIG_MIN_REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(15)
+        val USER_MIN_REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5)
+    }
 }
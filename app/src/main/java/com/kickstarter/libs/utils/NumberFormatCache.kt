@@ -0,0 +1,79 @@
+package com.kickstarter.libs.utils
+
+import java.math.RoundingMode
+import java.text.DecimalFormat
+import java.text.NumberFormat
+import java.util.Locale
+
+/**
+ * Configured [NumberFormat]s reused across calls instead of building one for every number rendered.
+ * [NumberFormat] isn't thread safe, so each thread keeps its own formatters: don't hand a formatter
+ * returned here to another thread, or change its configuration.
+ */
+object NumberFormatCache {
+    private data class Key(
+        val locale: Locale,
+        val currencySymbol: String?,
+        val precision: Int,
+        val roundingMode: RoundingMode
+    )
+
+    private class LocalCache<K, V> : ThreadLocal<HashMap<K, V>>() {
+        override fun initialValue() = HashMap<K, V>()
+    }
+
+    private val formatters = LocalCache<Key, NumberFormat>()
+    private val integerFormatters = LocalCache<Locale, NumberFormat>()
+    private val flooredPercentFormatters = LocalCache<Locale, NumberFormat>()
+
+    /**
+     * Returns a currency formatter for [locale] using [currencySymbol], with exactly [precision]
+     * fraction digits.
+     */
+    @JvmStatic
+    fun currency(locale: Locale, currencySymbol: String, precision: Int, roundingMode: RoundingMode): NumberFormat =
+        formatter(locale, currencySymbol, precision, roundingMode)
+
+    /**
+     * Returns a number formatter for [locale], with exactly [precision] fraction digits.
+     */
+    @JvmStatic
+    fun number(locale: Locale, precision: Int, roundingMode: RoundingMode): NumberFormat =
+        formatter(locale, null, precision, roundingMode)
+
+    /**
+     * Returns an integer formatter for [locale].
+     */
+    @JvmStatic
+    fun integer(locale: Locale): NumberFormat =
+        integerFormatters.get()!!.getOrPut(locale) { NumberFormat.getIntegerInstance(locale) }
+
+    /**
+     * Returns a percent formatter for [locale] rounding down.
+     */
+    @JvmStatic
+    fun flooredPercent(locale: Locale): NumberFormat =
+        flooredPercentFormatters.get()!!.getOrPut(locale) {
+            NumberFormat.getPercentInstance(locale).apply { roundingMode = RoundingMode.DOWN }
+        }
+
+    private fun formatter(locale: Locale, currencySymbol: String?, precision: Int, roundingMode: RoundingMode): NumberFormat =
+        formatters.get()!!.getOrPut(Key(locale, currencySymbol, precision, roundingMode)) {
+            val numberFormat = if (currencySymbol != null) {
+                val decimalFormat = NumberFormat.getCurrencyInstance(locale) as DecimalFormat
+                val symbols = decimalFormat.decimalFormatSymbols
+                symbols.currencySymbol = currencySymbol
+                decimalFormat.decimalFormatSymbols = symbols
+                decimalFormat
+            } else {
+                NumberFormat.getInstance(locale)
+            }
+
+            if (numberFormat is DecimalFormat) {
+                numberFormat.roundingMode = roundingMode
+            }
+            numberFormat.minimumFractionDigits = precision
+            numberFormat.maximumFractionDigits = precision
+            numberFormat
+        }
+}
@@ -4,8 +4,6 @@ import com.kickstarter.libs.NumberOptions;
 import com.kickstarter.libs.utils.extensions.AnyExtKt;
 
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -20,9 +18,7 @@ public final class NumberUtils {
   }
 
   public static @NonNull String flooredPercentage(final float value, final @NonNull Locale locale) {
-    final NumberFormat numberFormat = NumberFormat.getPercentInstance(locale);
-    numberFormat.setRoundingMode(RoundingMode.DOWN);
-    return numberFormat.format(value / 100);
+    return NumberFormatCache.flooredPercent(locale).format(value / 100);
   }
 
   /**
@@ -36,7 +32,7 @@ public final class NumberUtils {
    * Returns a formatted number for the specified locale.
    */
   public static @NonNull String format(final int value, final @NonNull Locale locale) {
-    return NumberFormat.getIntegerInstance(locale).format(value);
+    return NumberFormatCache.integer(locale).format(value);
   }
 
   /**
@@ -61,11 +57,6 @@ public final class NumberUtils {
   public static @NonNull String format(final float value, final @NonNull NumberOptions options,
     final @NonNull Locale locale) {
 
-    final NumberFormat numberFormat = numberFormat(options, locale);
-    if (numberFormat instanceof DecimalFormat) {
-      numberFormat.setRoundingMode(AnyExtKt.coalesce(options.roundingMode(), RoundingMode.HALF_DOWN));
-    }
-
     int precision = AnyExtKt.coalesce(options.precision(), 0);
     float divisor = 1.0f;
     String suffix = "";
@@ -86,19 +77,20 @@ public final class NumberUtils {
       }
     }
 
-    if (options.currencyCode() != null) {
-      suffix = String.format("%s %s", suffix, options.currencyCode());
-    }
-
-    numberFormat.setMinimumFractionDigits(precision);
-    numberFormat.setMaximumFractionDigits(precision);
-
     float bucketedValue = value;
     if (value >= bucketAbove) {
       bucketedValue = value / divisor;
     }
 
-    return String.format("%s%s", numberFormat.format(bucketedValue), suffix).trim();
+    final StringBuilder formatted = new StringBuilder(32)
+      .append(numberFormat(options, locale, precision).format(bucketedValue))
+      .append(suffix);
+
+    if (options.currencyCode() != null) {
+      formatted.append(' ').append(options.currencyCode());
+    }
+
+    return formatted.toString().trim();
   }
 
   /**
@@ -147,19 +139,14 @@ public final class NumberUtils {
   /**
    * Return a formatter that can output an appropriate number based on the input currency and locale.
    */
-  private static @NonNull NumberFormat numberFormat(final @NonNull NumberOptions options, final @NonNull Locale locale) {
-    final NumberFormat numberFormat;
+  private static @NonNull NumberFormat numberFormat(final @NonNull NumberOptions options, final @NonNull Locale locale,
+    final int precision) {
+    final RoundingMode roundingMode = AnyExtKt.coalesce(options.roundingMode(), RoundingMode.HALF_DOWN);
 
     if (options.isCurrency()) {
-      final DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
-      final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
-      symbols.setCurrencySymbol(options.currencySymbol());
-      decimalFormat.setDecimalFormatSymbols(symbols);
-      numberFormat = decimalFormat;
+      return NumberFormatCache.currency(locale, options.currencySymbol(), precision, roundingMode);
     } else {
-      numberFormat = NumberFormat.getInstance(locale);
+      return NumberFormatCache.number(locale, precision, roundingMode);
     }
-
-    return numberFormat;
   }
 }
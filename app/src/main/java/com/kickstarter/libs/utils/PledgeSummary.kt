@@ -0,0 +1,16 @@
+package com.kickstarter.libs.utils
+
+/**
+ * Amounts of a pledge, in the project currency, see `PledgeData.pledgeSummary()`.
+ *
+ * pledgeAmount = Reward + AddOns( xQ)
+ * totalAmount = Reward + AddOns( xQ) + bonus + Shipping
+ */
+data class PledgeSummary(
+    val pledgeAmount: Double = 0.0,
+    val shippingAmount: Double = 0.0,
+    val bonusAmount: Double = 0.0
+) {
+    val pledgeAmountPlusBonus: Double = pledgeAmount + bonusAmount
+    val totalAmount: Double = pledgeAmountPlusBonus + shippingAmount
+}
@@ -0,0 +1,66 @@
+package com.kickstarter.libs.utils
+
+import android.os.SystemClock
+
+/**
+ * Decides when a resource refreshed on foreground, like the config or the current user, should be
+ * fetched again: at most once per [minIntervalMs], never while a refresh is still in flight, and
+ * right away when the [key] it was fetched for changes (e.g. a new access token) or the last refresh failed.
+ */
+class RefreshThrottle(
+    private val minIntervalMs: Long,
+    private val clock: () -> Long = { SystemClock.elapsedRealtime() }
+) {
+    private var lastRefreshAt: Long? = null
+    private var lastKey: Any? = null
+    private var inFlight = false
+    private var refreshes = 0L
+    private var skipped = 0L
+
+    /**
+     * Returns `true` when the resource should be refreshed now, the caller must then call [finish]
+     * once the refresh is done.
+     */
+    @Synchronized
+    fun tryStart(key: Any? = null): Boolean {
+        val now = clock()
+        val last = lastRefreshAt
+        val isDue = last == null || key != lastKey || now - last >= minIntervalMs
+
+        if (inFlight || !isDue) {
+            skipped++
+            return false
+        }
+
+        inFlight = true
+        lastRefreshAt = now
+        lastKey = key
+        refreshes++
+        return true
+    }
+
+    /**
+     * Ends the refresh in flight, a failed refresh is retried on the next [tryStart].
+     */
+    @Synchronized
+    fun finish(succeeded: Boolean) {
+        if (!inFlight) return
+
+        inFlight = false
+        if (!succeeded) {
+            lastRefreshAt = null
+        }
+    }
+
+    /**
+     * Number of refreshes started.
+     */
+    @Synchronized
+    fun refreshes() = refreshes
+
+    /**
+     * Number of refreshes skipped because the last one was too recent or still in flight.
+     */
+    @Synchronized
+    fun skipped() = skipped
+}
@@ -1,9 +1,11 @@
 @file:JvmName("ContextExt")
 package com.kickstarter.libs.utils.extensions
 
+import android.app.Activity
 import android.app.AlertDialog
 import android.app.Application
 import android.content.Context
+import android.content.ContextWrapper
 import android.content.pm.PackageManager
 import android.os.Build
 import androidx.compose.foundation.isSystemInDarkTheme
@@ -54,6 +56,15 @@ fun Context.registerActivityLifecycleCallbacks(callbacks: Application.ActivityLi
     }
 }
 
+/**
+ * The activity this context belongs to, unwrapping the themed contexts views are inflated with.
+ */
+tailrec fun Context.findActivity(): Activity? = when (this) {
+    is Activity -> this
+    is ContextWrapper -> this.baseContext.findActivity()
+    else -> null
+}
+
 fun Context.checkPermissions(permission: String): Boolean {
     return ContextCompat.checkSelfPermission(
         this,
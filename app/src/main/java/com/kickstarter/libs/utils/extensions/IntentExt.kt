@@ -3,6 +3,7 @@ package com.kickstarter.libs.utils.extensions
 import android.content.Context
 import android.content.Intent
 import com.kickstarter.features.pledgeredemption.ui.PledgeRedemptionActivity
+import com.kickstarter.libs.ProjectRegistry
 import com.kickstarter.models.Project
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.activities.CommentsActivity
@@ -24,6 +25,35 @@ fun Intent.getProjectIntent(context: Context): Intent {
     return this.setClass(context, ProjectPageActivity::class.java)
 }
 
+/**
+ * Hands [project] to the next screen through the [ProjectRegistry] instead of parceling it, the
+ * intent only carries the project id and its slug, or its id when it has no slug.
+ */
+fun Intent.putRegisteredProject(project: Project, registry: ProjectRegistry = ProjectRegistry.shared): Intent {
+    registry.put(project)
+    return this.putExtra(IntentKey.REGISTERED_PROJECT_ID, project.id())
+        .putExtra(IntentKey.REGISTERED_PROJECT_PARAM, project.slug() ?: project.id().toString())
+}
+
+/**
+ * The project handed over with [putRegisteredProject], `null` if there is none or if it is no
+ * longer registered, e.g. after process death. The registry can evict it at any time, so read it
+ * once and fall back to [getRegisteredProjectParam] based on that read.
+ */
+fun Intent.getRegisteredProject(registry: ProjectRegistry = ProjectRegistry.shared): Project? =
+    if (this.hasExtra(IntentKey.REGISTERED_PROJECT_ID)) {
+        registry.get(this.getLongExtra(IntentKey.REGISTERED_PROJECT_ID, 0L))
+    } else {
+        null
+    }
+
+/**
+ * The slug or id of a project handed over with [putRegisteredProject], to fetch it again when it
+ * is no longer registered.
+ */
+fun Intent.getRegisteredProjectParam(): String? =
+    this.getStringExtra(IntentKey.REGISTERED_PROJECT_PARAM)
+
 fun Intent.getPreLaunchProjectActivity(context: Context, slug: String?, project: Project? = null): Intent {
     val intent = this.setClass(context, PreLaunchProjectPageActivity::class.java)
     intent.putExtra(IntentKey.PROJECT_PARAM, slug)
@@ -1,6 +1,7 @@
 @file:JvmName("PledgeDataExt")
 package com.kickstarter.libs.utils.extensions
 
+import com.kickstarter.libs.utils.PledgeSummary
 import com.kickstarter.libs.utils.RewardUtils
 import com.kickstarter.models.Reward
 import com.kickstarter.ui.data.PledgeData
@@ -17,56 +18,101 @@ fun PledgeData.locationId(): Long {
  * Amount = RWShipping + AddOnShipping.shipping( xQ)
  *
  */
-fun PledgeData.shippingCostIfShipping(): Double {
-    val rwShippingCost = if (RewardUtils.isShippable(this.reward())) {
-        val matchingLocationIdRule = this.reward().shippingRules()?.find { it.location()?.id() == this.locationId() }
-        // - "Earth" shipping rule has location.id == 1
-        matchingLocationIdRule?.cost()
-            ?: (this.reward().shippingRules()?.find { it.location()?.id() == 1L }?.cost() ?: 0.0)
-    } else 0.0
-
-    var addOnsShippingCost = 0.0
-    this.addOns()?.map {
-        if (RewardUtils.shipsWorldwide(it) || RewardUtils.shipsToRestrictedLocations(it)) {
-            addOnsShippingCost += (it.shippingRules()?.firstOrNull()?.cost() ?: 0.0) * (it.quantity() ?: 0)
-        } else 0.0
-    }
-
-    return rwShippingCost + addOnsShippingCost
-}
+fun PledgeData.shippingCostIfShipping(): Double = this.pledgeSummary().shippingAmount
 
 /**
  * Total checkout Amount = Reward + AddOns( xQ) + bonus + Shipping
  */
-fun PledgeData.checkoutTotalAmount(): Double = this.pledgeAmountTotalPlusBonus() + this.shippingCostIfShipping()
+fun PledgeData.checkoutTotalAmount(): Double = this.pledgeSummary().totalAmount
 
 /**
  * Total checkout Amount = Reward + AddOns( xQ) + bonus
  */
-fun PledgeData.pledgeAmountTotalPlusBonus(): Double = this.pledgeAmountTotal() + this.bonusAmount()
+fun PledgeData.pledgeAmountTotalPlusBonus(): Double = this.pledgeSummary().pledgeAmountPlusBonus
 
 /**
  * Total pledge Amount = Reward + AddOns( xQ)
  */
-fun PledgeData.pledgeAmountTotal(): Double {
-    // - Avoid project miss configuration where the creator did not configured somehow the late pledge reward correctly
-    var latePledge = if (this.reward().latePledgeAmount() == 0.0) this.reward().minimum() else this.reward().latePledgeAmount()
-    var crowdfund = this.reward().pledgeAmount()
-
-    if (this.pledgeFlowContext() == PledgeFlowContext.LATE_PLEDGES) {
-        this.addOns()?.map {
-            // - Avoid project miss configuration where the creator did not configured somehow the late pledge reward correctly
-            val amount = if (it.latePledgeAmount() == 0.0) it.minimum() else it.latePledgeAmount()
-            latePledge += amount * (it.quantity() ?: 0)
-        }
-        return latePledge
-    } else {
-        this.addOns()?.map {
-            crowdfund += it.pledgeAmount() * (it.quantity() ?: 0)
-        }
+fun PledgeData.pledgeAmountTotal(): Double = this.pledgeSummary().pledgeAmount
+
+/**
+ * Pledge, shipping, bonus and total amounts of the pledge, every amount above is read from here.
+ */
+fun PledgeData.pledgeSummary(): PledgeSummary {
+    val amounts = pledgeAmounts(
+        this.reward(),
+        this.addOns(),
+        this.locationId(),
+        this.pledgeFlowContext() == PledgeFlowContext.LATE_PLEDGES
+    )
+    return PledgeSummary(amounts.pledgeAmount, amounts.shippingAmount, this.bonusAmount())
+}
 
-        return crowdfund
+/**
+ * Total pledge Amount = Reward + AddOns( xQ), for the screens holding the selected reward and add-ons
+ * instead of a [PledgeData].
+ */
+fun pledgeAmountTotal(reward: Reward, addOns: List<Reward>?, isLatePledge: Boolean): Double =
+    pledgeAmounts(reward, addOns, -1, isLatePledge).pledgeAmount
+
+/**
+ * Pledge and shipping amounts of a reward and its add-ons, without the bonus amount.
+ */
+private class PledgeAmounts(
+    val reward: Reward,
+    val addOns: List<Reward>?,
+    val locationId: Long,
+    val isLatePledge: Boolean,
+    val pledgeAmount: Double,
+    val shippingAmount: Double
+) {
+    fun isFor(reward: Reward, addOns: List<Reward>?, locationId: Long, isLatePledge: Boolean) =
+        this.locationId == locationId &&
+            this.isLatePledge == isLatePledge &&
+            (this.reward === reward || this.reward == reward) &&
+            (this.addOns === addOns || this.addOns == addOns)
+}
+
+/**
+ * Amounts of the last pledge: the checkout screens read them on every bonus keystroke and from each
+ * of the functions above, the reward and add-ons are only walked again once they change. Compared by
+ * value, so a copy of the same pledge, ie. parceled to the next screen, still reads them from here.
+ */
+@Volatile
+private var lastPledgeAmounts: PledgeAmounts? = null
+
+private fun pledgeAmounts(reward: Reward, addOns: List<Reward>?, locationId: Long, isLatePledge: Boolean): PledgeAmounts {
+    lastPledgeAmounts?.takeIf { it.isFor(reward, addOns, locationId, isLatePledge) }?.let { return it }
+
+    val rwShippingCost = if (RewardUtils.isShippable(reward)) {
+        val matchingLocationIdRule = reward.shippingRules()?.find { it.location()?.id() == locationId }
+        // - "Earth" shipping rule has location.id == 1
+        matchingLocationIdRule?.cost()
+            ?: (reward.shippingRules()?.find { it.location()?.id() == 1L }?.cost() ?: 0.0)
+    } else 0.0
+
+    var pledgeAmount = reward.amount(isLatePledge)
+    var addOnsShippingCost = 0.0
+    addOns?.forEach {
+        val quantity = it.quantity() ?: 0
+        pledgeAmount += it.amount(isLatePledge) * quantity
+        if (RewardUtils.shipsWorldwide(it) || RewardUtils.shipsToRestrictedLocations(it)) {
+            addOnsShippingCost += (it.shippingRules()?.firstOrNull()?.cost() ?: 0.0) * quantity
+        }
     }
+
+    return PledgeAmounts(reward, addOns, locationId, isLatePledge, pledgeAmount, rwShippingCost + addOnsShippingCost)
+        .also { lastPledgeAmounts = it }
+}
+
+/**
+ * Amount of a single reward or add-on.
+ * - Avoid project miss configuration where the creator did not configured somehow the late pledge reward correctly
+ * - Rewards loaded from the REST API have no pledge amount
+ */
+private fun Reward.amount(isLatePledge: Boolean): Double {
+    val amount = if (isLatePledge) this.latePledgeAmount() else this.pledgeAmount()
+    return if (amount > 0.0) amount else this.minimum()
 }
 
 fun PledgeData.rewardsAndAddOnsList(): List<Reward> {
@@ -0,0 +1,136 @@
+package com.kickstarter.libs.video
+
+import android.content.Context
+import android.net.Uri
+import com.google.android.exoplayer2.C
+import com.google.android.exoplayer2.MediaItem
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider
+import com.google.android.exoplayer2.source.MediaSource
+import com.google.android.exoplayer2.source.ProgressiveMediaSource
+import com.google.android.exoplayer2.source.hls.HlsMediaSource
+import com.google.android.exoplayer2.upstream.DataSource
+import com.google.android.exoplayer2.upstream.DataSpec
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource
+import com.google.android.exoplayer2.upstream.TransferListener
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource
+import com.google.android.exoplayer2.upstream.cache.CacheWriter
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor
+import com.google.android.exoplayer2.upstream.cache.SimpleCache
+import com.google.android.exoplayer2.util.Util
+import com.kickstarter.libs.utils.WebUtils
+import com.kickstarter.libs.utils.extensions.getEnvironment
+import timber.log.Timber
+import java.io.File
+import java.io.IOException
+import java.util.Collections
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * On-disk cache for project and campaign videos, evicting the least recently used bytes once the
+ * cache is full. Every player reads through it, so scrolling back to a video or opening it full
+ * screen doesn't download it again.
+ *
+ * There can only be one [SimpleCache] per folder, use [getInstance].
+ */
+class VideoCache private constructor(context: Context, private val userAgent: String?) {
+
+    private val cache = SimpleCache(
+        File(context.cacheDir, CACHE_FOLDER),
+        LeastRecentlyUsedCacheEvictor(MAX_CACHE_BYTES),
+        StandaloneDatabaseProvider(context)
+    )
+
+    private val bytesDownloaded = AtomicLong()
+    private val prefetchedUrls = Collections.synchronizedSet(HashSet<String>())
+    private val prefetchExecutor: ExecutorService = Executors.newSingleThreadExecutor { runnable ->
+        Thread(runnable, "ks-video-prefetch").apply { isDaemon = true }
+    }
+
+    private val networkListener = object : TransferListener {
+        override fun onTransferInitializing(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) = Unit
+        override fun onTransferStart(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) = Unit
+        override fun onTransferEnd(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean) = Unit
+
+        override fun onBytesTransferred(source: DataSource, dataSpec: DataSpec, isNetwork: Boolean, bytesTransferred: Int) {
+            if (isNetwork) bytesDownloaded.addAndGet(bytesTransferred.toLong())
+        }
+    }
+
+    /**
+     * Bytes read from the network by every player and prefetch since the cache was created.
+     */
+    fun bytesDownloaded(): Long = bytesDownloaded.get()
+
+    /**
+     * Bytes currently stored on disk.
+     */
+    fun cachedBytes(): Long = cache.cacheSpace
+
+    fun dataSourceFactory(): CacheDataSource.Factory =
+        CacheDataSource.Factory()
+            .setCache(cache)
+            .setUpstreamDataSourceFactory(
+                DefaultHttpDataSource.Factory()
+                    .setUserAgent(userAgent)
+                    .setTransferListener(networkListener)
+            )
+            .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+
+    fun mediaSource(videoUrl: String): MediaSource {
+        val videoUri = Uri.parse(videoUrl)
+        val dataSourceFactory = dataSourceFactory()
+
+        return if (Util.inferContentType(videoUri) == C.TYPE_HLS) {
+            HlsMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
+        } else {
+            ProgressiveMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
+        }
+    }
+
+    /**
+     * Downloads the first [PREFETCH_BYTES] of a progressive video in the background, so it starts
+     * playing from disk. HLS streams are left to the player, their first bytes are just the playlist.
+     */
+    fun prefetch(videoUrl: String) {
+        val videoUri = Uri.parse(videoUrl)
+        if (Util.inferContentType(videoUri) == C.TYPE_HLS || !prefetchedUrls.add(videoUrl)) {
+            return
+        }
+
+        prefetchExecutor.execute {
+            try {
+                CacheWriter(
+                    dataSourceFactory().createDataSource(),
+                    DataSpec.Builder().setUri(videoUri).setLength(PREFETCH_BYTES).build(),
+                    null,
+                    null
+                ).cache()
+            } catch (e: IOException) {
+                prefetchedUrls.remove(videoUrl)
+                Timber.d(e, "Could not prefetch video %s", videoUrl)
+            }
+        }
+    }
+
+    companion object {
+        private const val CACHE_FOLDER = "video"
+        private const val MAX_CACHE_BYTES = 200L * 1024 * 1024
+
+        // - A few seconds of a 720p progressive video
+        const val PREFETCH_BYTES = 1024L * 1024
+
+        @Volatile
+        private var instance: VideoCache? = null
+
+        @JvmStatic
+        fun getInstance(context: Context): VideoCache =
+            instance ?: synchronized(this) {
+                instance ?: VideoCache(
+                    context.applicationContext,
+                    context.getEnvironment()?.build()?.let { WebUtils.userAgent(it) }
+                ).also { instance = it }
+            }
+    }
+}
@@ -0,0 +1,202 @@
+package com.kickstarter.libs.video
+
+import android.content.Context
+import com.google.android.exoplayer2.C
+import com.google.android.exoplayer2.DefaultLoadControl
+import com.google.android.exoplayer2.ExoPlayer
+import com.google.android.exoplayer2.source.MediaSource
+import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector
+import com.google.android.exoplayer2.upstream.DefaultAllocator
+import java.lang.ref.WeakReference
+import java.util.WeakHashMap
+
+/**
+ * Players for the videos on screen, one per video url and at most [maxPlayers] alive at once so
+ * only that many decoders are held.
+ *
+ * Acquiring the url of a video that already has a player returns that same player, already
+ * buffered at its current position: that is how playback is handed off from the campaign or header
+ * to full screen and back. Once the pool is full, the least recently acquired player is stopped and
+ * reused for the new video instead of building another one. Before a player is reused or released,
+ * the views that acquired it are told through their [OnPlayerReclaimedListener] so they detach from it.
+ * Listeners and scopes are held weakly, the pool never keeps a screen or view holder alive.
+ *
+ * Players are bound to the main looper, the pool must only be used from the main thread.
+ */
+class VideoPlayerPool(
+    private val maxPlayers: Int = DEFAULT_MAX_PLAYERS,
+    private val createPlayer: () -> ExoPlayer,
+    private val mediaSource: (String) -> MediaSource,
+    private val bufferedBytes: (ExoPlayer) -> Int = { 0 }
+) {
+    private val players = LinkedHashMap<String, ExoPlayer>(maxPlayers, 0.75f, true)
+    private val owners = HashMap<String, MutableList<WeakReference<OnPlayerReclaimedListener>>>()
+    private val scopes = HashMap<String, WeakReference<Any>>()
+
+    /**
+     * Called when the pool takes back the player a view acquired, the view must stop showing it and
+     * remove its listeners from it.
+     */
+    fun interface OnPlayerReclaimedListener {
+        fun onPlayerReclaimed(player: ExoPlayer)
+    }
+
+    /**
+     * Players built since the pool was created.
+     */
+    var playersCreated = 0
+        private set
+
+    /**
+     * Times a player was stopped and reused for another video.
+     */
+    var playersRecycled = 0
+        private set
+
+    /**
+     * Times a video got the player it already had, without buffering it again.
+     */
+    var handoffs = 0
+        private set
+
+    /**
+     * Players currently alive, each holding its own decoders.
+     */
+    fun liveDecoders() = players.size
+
+    /**
+     * Views still attached to a player, a count that keeps growing means a view is not detaching.
+     */
+    fun liveOwners() = owners.values.sumOf { listeners -> listeners.count { it.get() != null } }
+
+    /**
+     * Bytes of media buffered in memory by the live players.
+     */
+    fun bufferedBytes() = players.values.sumOf { bufferedBytes(it).toLong() }
+
+    /**
+     * Returns the player of `videoUrl`, preparing a new or recycled one when the video has none.
+     * `onReclaimed` is called once the player is taken back to be reused for another video or released,
+     * unless it was [detach]ed before. The player belongs to the `scope` that acquired it first and is
+     * released with [releaseAll] of that scope.
+     */
+    fun acquire(videoUrl: String, scope: Any? = null, onReclaimed: OnPlayerReclaimedListener? = null): ExoPlayer {
+        onReclaimed?.let { listener ->
+            val listeners = owners.getOrPut(videoUrl) { mutableListOf() }
+            listeners.removeAll { it.get() == null || it.get() === listener }
+            listeners.add(WeakReference(listener))
+        }
+        // - Handed off players stay with the scope that created them, while it is alive
+        if (scope != null && scopes[videoUrl]?.get() == null) {
+            scopes[videoUrl] = WeakReference(scope)
+        }
+
+        players[videoUrl]?.let {
+            handoffs++
+            return it
+        }
+
+        val player = if (players.size >= maxPlayers) {
+            recycleEldest()
+        } else {
+            playersCreated++
+            createPlayer()
+        }
+
+        player.setMediaSource(mediaSource(videoUrl))
+        player.prepare()
+        players[videoUrl] = player
+        return player
+    }
+
+    /**
+     * Player of `videoUrl`, if it has one, without changing the eviction order.
+     */
+    fun peek(videoUrl: String): ExoPlayer? = players.entries.firstOrNull { it.key == videoUrl }?.value
+
+    /**
+     * Stops telling `onReclaimed` about the player of `videoUrl`, once its view let go of the player.
+     */
+    fun detach(videoUrl: String, onReclaimed: OnPlayerReclaimedListener) {
+        owners[videoUrl]?.let { listeners ->
+            listeners.removeAll { it.get() == null || it.get() === onReclaimed }
+            if (listeners.isEmpty()) owners.remove(videoUrl)
+        }
+    }
+
+    fun pauseAll() {
+        players.values.forEach { it.playWhenReady = false }
+    }
+
+    fun release(videoUrl: String) {
+        players.remove(videoUrl)?.let {
+            reclaim(videoUrl, it)
+            it.release()
+        }
+    }
+
+    /**
+     * Releases the players acquired first by `scope`, the players of other screens are kept.
+     */
+    fun releaseAll(scope: Any) {
+        scopes.filterValues { it.get() === scope }.keys.forEach { release(it) }
+    }
+
+    fun releaseAll() {
+        players.forEach { (videoUrl, player) ->
+            reclaim(videoUrl, player)
+            player.release()
+        }
+        players.clear()
+        owners.clear()
+    }
+
+    private fun reclaim(videoUrl: String, player: ExoPlayer) {
+        scopes.remove(videoUrl)
+        owners.remove(videoUrl)?.forEach { it.get()?.onPlayerReclaimed(player) }
+    }
+
+    private fun recycleEldest(): ExoPlayer {
+        val eldest = players.entries.first()
+        players.remove(eldest.key)
+        reclaim(eldest.key, eldest.value)
+
+        playersRecycled++
+        return eldest.value.apply {
+            playWhenReady = false
+            stop()
+            clearMediaItems()
+        }
+    }
+
+    companion object {
+        const val DEFAULT_MAX_PLAYERS = 3
+
+        private var sharedPool: VideoPlayerPool? = null
+
+        // - Allocator holding the media buffers of each player of the shared pool
+        private val allocators = WeakHashMap<ExoPlayer, DefaultAllocator>()
+
+        /**
+         * Pool shared by every screen showing videos, reading through the [VideoCache].
+         */
+        @JvmStatic
+        fun shared(context: Context): VideoPlayerPool =
+            sharedPool ?: context.applicationContext.let { appContext ->
+                val cache = VideoCache.getInstance(appContext)
+                VideoPlayerPool(
+                    createPlayer = {
+                        val allocator = DefaultAllocator(true, C.DEFAULT_BUFFER_SEGMENT_SIZE)
+                        ExoPlayer.Builder(appContext)
+                            .setTrackSelector(DefaultTrackSelector(appContext, AdaptiveTrackSelection.Factory()))
+                            .setLoadControl(DefaultLoadControl.Builder().setAllocator(allocator).build())
+                            .build()
+                            .also { allocators[it] = allocator }
+                    },
+                    mediaSource = { cache.mediaSource(it) },
+                    bufferedBytes = { allocators[it]?.totalBytesAllocated ?: 0 }
+                ).also { sharedPool = it }
+            }
+    }
+}
@@ -350,4 +350,7 @@ open class MockApolloClientV2 : ApolloClientTypeV2 {
     override fun cleanDisposables() {
         TODO("Not yet implemented")
     }
+
+    override fun clearCache() {
+    }
 }
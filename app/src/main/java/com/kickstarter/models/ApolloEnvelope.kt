@@ -4,4 +4,9 @@ import com.kickstarter.services.apiresponses.commentresponse.PageInfoEnvelope
 
 interface ApolloEnvelope {
     fun pageInfoEnvelope(): PageInfoEnvelope?
+
+    /**
+     * `true` when the envelope was read from the normalized cache, its page may be followed by the network one.
+     */
+    fun isFromCache(): Boolean = false
 }
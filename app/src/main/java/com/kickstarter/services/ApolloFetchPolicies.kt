@@ -0,0 +1,27 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+
+/**
+ * Fetch policy used by each cacheable query on [ApolloClientTypeV2].
+ *
+ * - `CacheAndNetwork` will emit the cached value (if any) followed by the network one.
+ * - `CacheFirst` will only hit the network on a cache miss.
+ * - `NetworkFirst` will fall back to the cached value when the network is not reachable.
+ *
+ * Discovery pages are cached by their params and cursor: the first page is rendered from the
+ * cache while it refreshes, next pages are only read from the cache when offline.
+ *
+ * Queries that are not listed here are user scoped, they are never stored and always hit the network,
+ * see [com.kickstarter.libs.graphql.ApolloCache.CACHED_OPERATIONS].
+ *
+ * [project] must emit a single value: callers like deep links and [com.kickstarter.ui.intentmappers.ProjectIntentMapper]
+ * treat `getProject` as a one-shot request.
+ */
+data class ApolloFetchPolicies(
+    val project: FetchPolicy = FetchPolicy.NetworkFirst,
+    val projectRewards: FetchPolicy = FetchPolicy.NetworkFirst,
+    val rootCategories: FetchPolicy = FetchPolicy.CacheFirst,
+    val discoveryFirstPage: FetchPolicy = FetchPolicy.CacheAndNetwork,
+    val discoveryNextPages: FetchPolicy = FetchPolicy.NetworkFirst
+)
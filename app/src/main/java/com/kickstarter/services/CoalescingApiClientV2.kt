@@ -0,0 +1,60 @@
+package com.kickstarter.services
+
+import com.kickstarter.libs.Config
+import com.kickstarter.models.Category
+import com.kickstarter.models.Project
+import com.kickstarter.models.ProjectNotification
+import com.kickstarter.models.SurveyResponse
+import com.kickstarter.models.User
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import io.reactivex.Observable
+
+/**
+ * [ApiClientTypeV2] decorator, concurrent identical GET requests (same path and params)
+ * share a single network call, see [RequestCoalescer].
+ */
+class CoalescingApiClientV2(
+    private val client: ApiClientTypeV2,
+    private val coalescer: RequestCoalescer
+) : ApiClientTypeV2 by client {
+
+    private fun <T> coalesce(operation: String, vararg params: Any?, request: () -> Observable<T>): Observable<T> =
+        coalescer.coalesce("api:$operation:${params.joinToString(",")}", request)
+
+    override fun config(): Observable<Config> =
+        coalesce("config") { client.config() }
+
+    override fun fetchCurrentUser(): Observable<User> =
+        coalesce("me") { client.fetchCurrentUser() }
+
+    override fun fetchCategories(): Observable<List<Category>> =
+        coalesce("categories") { client.fetchCategories() }
+
+    override fun fetchCategory(param: String): Observable<Category> =
+        coalesce("category", param) { client.fetchCategory(param) }
+
+    override fun fetchCategory(category: Category): Observable<Category> =
+        fetchCategory(category.id().toString())
+
+    override fun fetchProject(param: String): Observable<Project> =
+        coalesce("project", param) { client.fetchProject(param) }
+
+    override fun fetchProject(project: Project): Observable<Project> =
+        fetchProject(project.param()).startWith(project)
+
+    override fun fetchProjects(params: DiscoveryParams): Observable<DiscoverEnvelope> =
+        coalesce("discover", params) { client.fetchProjects(params) }
+
+    override fun fetchProjects(paginationUrl: String): Observable<DiscoverEnvelope> =
+        coalesce("discover", paginationUrl) { client.fetchProjects(paginationUrl) }
+
+    override fun fetchActivities(): Observable<ActivityEnvelope> =
+        coalesce("activities") { client.fetchActivities() }
+
+    override fun fetchProjectNotifications(): Observable<List<ProjectNotification>> =
+        coalesce("project_notifications") { client.fetchProjectNotifications() }
+
+    override fun fetchUnansweredSurveys(): Observable<List<SurveyResponse>> =
+        coalesce("unanswered_surveys") { client.fetchUnansweredSurveys() }
+}
@@ -0,0 +1,69 @@
+package com.kickstarter.services
+
+import com.kickstarter.models.Backing
+import com.kickstarter.models.Category
+import com.kickstarter.models.CreatorDetails
+import com.kickstarter.models.ErroredBacking
+import com.kickstarter.models.Location
+import com.kickstarter.models.Project
+import com.kickstarter.models.Reward
+import com.kickstarter.models.StoredCard
+import com.kickstarter.models.UserPrivacy
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import com.kickstarter.services.apiresponses.ShippingRulesEnvelope
+import io.reactivex.Observable
+
+/**
+ * [ApolloClientTypeV2] decorator, concurrent identical queries (same operation and variables)
+ * share a single network call, see [RequestCoalescer]. Mutations are never coalesced.
+ */
+class CoalescingApolloClientV2(
+    private val client: ApolloClientTypeV2,
+    private val coalescer: RequestCoalescer
+) : ApolloClientTypeV2 by client {
+
+    private fun <T> coalesce(operation: String, vararg variables: Any?, request: () -> Observable<T>): Observable<T> =
+        coalescer.coalesce("graphql:$operation:${variables.joinToString(",")}", request)
+
+    override fun getProject(project: Project): Observable<Project> =
+        getProject(project.slug() ?: "")
+
+    override fun getProject(slug: String): Observable<Project> =
+        coalesce("FetchProject", slug) { client.getProject(slug) }
+
+    override fun getProjects(discoveryParams: DiscoveryParams, slug: String?): Observable<DiscoverEnvelope> =
+        coalesce("FetchProjects", discoveryParams, slug) { client.getProjects(discoveryParams, slug) }
+
+    override fun getRewardsFromProject(slug: String): Observable<List<Reward>> =
+        coalesce("FetchProjectRewards", slug) { client.getRewardsFromProject(slug) }
+
+    override fun getProjectBacking(slug: String): Observable<Backing> =
+        coalesce("GetProjectBacking", slug) { client.getProjectBacking(slug) }
+
+    override fun creatorDetails(slug: String): Observable<CreatorDetails> =
+        coalesce("ProjectCreatorDetails", slug) { client.creatorDetails(slug) }
+
+    override fun getProjectAddOns(slug: String, locationId: Location): Observable<List<Reward>> =
+        coalesce("GetProjectAddOns", slug, locationId.id()) { client.getProjectAddOns(slug, locationId) }
+
+    override fun getShippingRules(reward: Reward): Observable<ShippingRulesEnvelope> =
+        coalesce("GetShippingRulesForRewardId", reward.id()) { client.getShippingRules(reward) }
+
+    override fun getBacking(backingId: String): Observable<Backing> =
+        coalesce("GetBacking", backingId) { client.getBacking(backingId) }
+
+    override fun userPrivacy(): Observable<UserPrivacy> =
+        coalesce("UserPrivacy") { client.userPrivacy() }
+
+    override fun getStoredCards(): Observable<List<StoredCard>> =
+        coalesce("UserPayments") { client.getStoredCards() }
+
+    override fun erroredBackings(): Observable<List<ErroredBacking>> =
+        coalesce("ErroredBackings") { client.erroredBackings() }
+
+    override fun fetchCategories(): Observable<List<Category>> =
+        coalesce("GetRootCategories") { client.fetchCategories() }
+
+    override fun fetchCategory(param: String): Observable<Category?> =
+        coalesce("FetchCategory", param) { client.fetchCategory(param) }
+}
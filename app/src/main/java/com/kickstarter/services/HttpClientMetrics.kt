@@ -0,0 +1,83 @@
+package com.kickstarter.services
+
+import okhttp3.Call
+import okhttp3.Connection
+import okhttp3.EventListener
+import okhttp3.Handshake
+import okhttp3.Protocol
+import okhttp3.Response
+import java.net.InetSocketAddress
+import java.net.Proxy
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Process wide counters for every call going through the root `OkHttpClient`, used to
+ * report how often connections are reused and how often responses are served from the
+ * disk cache.
+ */
+class HttpClientMetrics : EventListener() {
+    private val connectionsAcquired = AtomicLong()
+    private val connectionsEstablished = AtomicLong()
+    private val tlsHandshakes = AtomicLong()
+    private val cacheHits = AtomicLong()
+    private val cacheConditionalHits = AtomicLong()
+    private val cacheMisses = AtomicLong()
+
+    data class Snapshot(
+        val connectionsAcquired: Long,
+        val connectionsEstablished: Long,
+        val tlsHandshakes: Long,
+        val cacheHits: Long,
+        val cacheConditionalHits: Long,
+        val cacheMisses: Long
+    ) {
+        /**
+         * Fraction of the calls that used an already open connection.
+         */
+        val connectionReuseRatio: Double
+            get() = if (connectionsAcquired == 0L) 0.0
+            else (connectionsAcquired - connectionsEstablished).coerceAtLeast(0L).toDouble() / connectionsAcquired
+
+        /**
+         * Fraction of the cacheable calls served from the cache, conditional hits included.
+         */
+        val cacheHitRatio: Double
+            get() {
+                val total = cacheHits + cacheConditionalHits + cacheMisses
+                return if (total == 0L) 0.0 else (cacheHits + cacheConditionalHits).toDouble() / total
+            }
+    }
+
+    fun snapshot() = Snapshot(
+        connectionsAcquired = connectionsAcquired.get(),
+        connectionsEstablished = connectionsEstablished.get(),
+        tlsHandshakes = tlsHandshakes.get(),
+        cacheHits = cacheHits.get(),
+        cacheConditionalHits = cacheConditionalHits.get(),
+        cacheMisses = cacheMisses.get()
+    )
+
+    override fun connectEnd(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy, protocol: Protocol?) {
+        connectionsEstablished.incrementAndGet()
+    }
+
+    override fun secureConnectEnd(call: Call, handshake: Handshake?) {
+        tlsHandshakes.incrementAndGet()
+    }
+
+    override fun connectionAcquired(call: Call, connection: Connection) {
+        connectionsAcquired.incrementAndGet()
+    }
+
+    override fun cacheHit(call: Call, response: Response) {
+        cacheHits.incrementAndGet()
+    }
+
+    override fun cacheConditionalHit(call: Call, cachedResponse: Response) {
+        cacheConditionalHits.incrementAndGet()
+    }
+
+    override fun cacheMiss(call: Call) {
+        cacheMisses.incrementAndGet()
+    }
+}
@@ -1,9 +1,14 @@
 package com.kickstarter.services
 
 import android.util.Pair
+import androidx.annotation.VisibleForTesting
 import com.apollographql.apollo3.ApolloClient
 import com.apollographql.apollo3.api.ApolloResponse
 import com.apollographql.apollo3.api.Optional
+import com.apollographql.apollo3.cache.normalized.api.CacheKey
+import com.apollographql.apollo3.cache.normalized.apolloStore
+import com.apollographql.apollo3.cache.normalized.fetchPolicy
+import com.apollographql.apollo3.cache.normalized.isFromCache
 import com.apollographql.apollo3.rx2.rxFlowable
 import com.apollographql.apollo3.rx2.rxSingle
 import com.google.android.gms.common.util.Base64Utils
@@ -51,7 +56,7 @@ import com.kickstarter.ValidateCheckoutQuery
 import com.kickstarter.WatchProjectMutation
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewEnvelope
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewQueryData
-import com.kickstarter.libs.utils.extensions.addToDisposable
+import com.kickstarter.libs.graphql.ApolloCache
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isPresent
 import com.kickstarter.libs.utils.extensions.toBoolean
@@ -113,8 +118,10 @@ import com.kickstarter.type.StripeIntentContextTypes
 import com.kickstarter.viewmodels.usecases.TPEventInputData
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.disposables.Disposable
 import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.PublishSubject
+import kotlinx.coroutines.rx2.rxCompletable
 import java.nio.charset.Charset
 
 interface ApolloClientTypeV2 {
@@ -220,18 +227,63 @@ interface ApolloClientTypeV2 {
     fun getRewardsFromProject(slug: String): Observable<List<Reward>>
     fun buildPaymentPlan(input: BuildPaymentPlanData): Observable<PaymentPlan>
     fun cleanDisposables()
+    fun clearCache()
 }
 
 private const val PAGE_SIZE = 25
 private const val REPLIES_PAGE_SIZE = 7
-
-class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClientTypeV2 {
+private const val PROJECT_TYPE = "Project"
+private const val BACKING_TYPE = "Backing"
+
+class KSApolloClientV2 @JvmOverloads constructor(
+    val service: ApolloClient,
+    val gson: Gson,
+    private val fetchPolicies: ApolloFetchPolicies = ApolloFetchPolicies()
+) : ApolloClientTypeV2 {
     private val disposables = CompositeDisposable()
 
     override fun cleanDisposables() {
         disposables.clear()
     }
 
+    @VisibleForTesting
+    internal fun inFlightRequests(): Int = disposables.size()
+
+    /**
+     * Removes every record from the normalized cache, returns once they're removed so nothing
+     * cached for the previous user can be read after a logout.
+     */
+    override fun clearCache() {
+        rxCompletable { service.apolloStore.clearAll() }
+            .onErrorComplete()
+            .blockingAwait()
+    }
+
+    /**
+     * Keeps track of the in flight [request] until the subject bridging its result terminates,
+     * or its downstream is disposed, at that point the request is removed from [disposables]
+     * and disposed. As the client is an application singleton, holding on to finished
+     * subscriptions would retain every response for the life of the process.
+     */
+    private fun <T> PublishSubject<T>.trackUntilTerminated(request: Disposable): Observable<T> {
+        disposables.add(request)
+        return this.doFinally { disposables.remove(request) }
+    }
+
+    /**
+     * Removes from the normalized cache the records for the given keys, so the next query
+     * reading them will hit the network. Should be called after any mutation changing data
+     * that is not part of the mutation response, before emitting its result: it returns once
+     * the records are removed, and mutation results are already delivered on io.
+     */
+    private fun invalidateCache(vararg cacheKeys: CacheKey) {
+        rxCompletable {
+            cacheKeys.forEach { service.apolloStore.remove(it, cascade = true) }
+        }
+            .onErrorComplete()
+            .blockingAwait()
+    }
+
     override fun getProject(project: Project): Observable<Project> {
         return getProject(project.slug() ?: "")
     }
@@ -240,16 +292,14 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<Project>()
             val query = FetchProjectQuery(slug)
-            this.service.query(
+            val request = this.service.query(
                 query
-            ).rxSingle()
+            ).fetchPolicy(fetchPolicies.project)
+                .rxFlowable()
                 .subscribeOn(Schedulers.io())
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
+                .subscribe({ response ->
                     if (response.hasErrors()) {
-                        if (response.hasErrors()) ps.onError(java.lang.Exception(response.errors?.first()?.message))
+                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
                     } else {
                         response.data?.let { responseData ->
                             ps.onNext(
@@ -259,9 +309,12 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                             )
                         }
                     }
+                }, { throwable ->
+                    ps.onError(throwable)
+                }, {
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                })
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -269,35 +322,42 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         discoveryParams: DiscoveryParams,
         cursor: String?
     ): Observable<DiscoverEnvelope> {
-        val ps = PublishSubject.create<DiscoverEnvelope>()
-        this.service.query(query = buildFetchProjectsQuery(discoveryParams, cursor))
-            .rxFlowable()
-            .subscribeOn(Schedulers.io())
-            .doOnError {
-                ps.onError(it)
-            }
-            .subscribe { response ->
-                if (response.hasErrors()) {
-                    if (response.hasErrors()) ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                } else {
-                    response.data?.let { responseData ->
-                        val projects = responseData.projects?.edges?.map {
-                            projectTransformer(it?.node?.projectCard)
-                        }
-                        val pageInfoEnvelope =
-                            responseData.projects?.pageInfo?.pageInfo?.let {
-                                createPageInfoObject(it)
+        return Observable.defer {
+            val ps = PublishSubject.create<DiscoverEnvelope>()
+            val fetchPolicy =
+                if (cursor.isNullOrEmpty()) fetchPolicies.discoveryFirstPage
+                else fetchPolicies.discoveryNextPages
+            val request = this.service.query(query = buildFetchProjectsQuery(discoveryParams, cursor))
+                .fetchPolicy(fetchPolicy)
+                .rxFlowable()
+                .subscribeOn(Schedulers.io())
+                .subscribe({ response ->
+                    if (response.hasErrors()) {
+                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
+                    } else {
+                        response.data?.let { responseData ->
+                            val projects = responseData.projects?.edges?.map {
+                                projectTransformer(it?.node?.projectCard)
                             }
-                        val discoverEnvelope = DiscoverEnvelope.builder()
-                            .projects(projects)
-                            .pageInfoEnvelope(pageInfoEnvelope)
-                            .build()
-                        ps.onNext(discoverEnvelope)
+                            val pageInfoEnvelope =
+                                responseData.projects?.pageInfo?.pageInfo?.let {
+                                    createPageInfoObject(it)
+                                }
+                            val discoverEnvelope = DiscoverEnvelope.builder()
+                                .projects(projects)
+                                .pageInfoEnvelope(pageInfoEnvelope)
+                                .isFromCache(response.isFromCache)
+                                .build()
+                            ps.onNext(discoverEnvelope)
+                        }
                     }
-                }
-                ps.onComplete()
-            }.addToDisposable(disposables)
-        return ps
+                }, { throwable ->
+                    ps.onError(throwable)
+                }, {
+                    ps.onComplete()
+                })
+            return@defer ps.trackUntilTerminated(request)
+        }
     }
 
     private fun buildFetchProjectsQuery(
@@ -324,7 +384,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 )
             } ?: CreateSetupIntentMutation(Optional.absent(), Optional.present(StripeIntentContextTypes.PROFILE_SETTINGS))
 
-            this.service.mutation(mutation)
+            val request = this.service.mutation(mutation)
                 .rxSingle()
                 .subscribeOn(Schedulers.io())
                 .doOnError {
@@ -337,8 +397,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(response.data?.createSetupIntent?.clientSecret ?: "")
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -352,7 +412,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 reusable = if (savePaymentMethodData.reusable.isNotNull()) Optional.present(savePaymentMethodData.reusable) else Optional.absent(),
                 intentClientSecret = if (savePaymentMethodData.intentClientSecret.isNotNull()) Optional.present(savePaymentMethodData.intentClientSecret) else Optional.absent()
             )
-            service.mutation(
+            val request = service.mutation(
                 mutation
             )
                 .rxSingle()
@@ -375,8 +435,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(storedCard)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -385,7 +445,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<List<StoredCard>>()
 
             val query = UserPaymentsQuery()
-            this.service
+            val request = this.service
                 .query(query)
                 .rxSingle()
                 .doOnError { throwable ->
@@ -411,8 +471,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(cardsList)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -423,7 +483,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 paymentSourceId = paymentSourceId,
             )
 
-            service.mutation(
+            val request = service.mutation(
                 mutation
             )
                 .rxSingle()
@@ -437,8 +497,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
                     response.data?.let { ps.onNext(it) }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -457,7 +517,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     kind = flagging
                 )
 
-                service.mutation(
+                val request = service.mutation(
                     mutation
                 ).rxSingle()
                     .doOnError { throwable ->
@@ -473,8 +533,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                             }
                         }
                         ps.onComplete()
-                    }.addToDisposable(disposables)
-                return@defer ps
+                    }
+                return@defer ps.trackUntilTerminated(request)
             }
         }
     }
@@ -484,7 +544,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<UserPrivacy>()
             val query = UserPrivacyQuery()
 
-            service.query(
+            val request = service.query(
                 query = query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -495,8 +555,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(userPrivacyTransformer(it))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -506,7 +566,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val mutation = WatchProjectMutation(
                 id = encodeRelayId(project)
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -517,6 +577,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onError(java.lang.Exception(response.errors?.first()?.message))
                     }
 
+                    invalidateCache(ApolloCache.cacheKeyFor(PROJECT_TYPE, project.id()))
                     /* make a copy of what you posted. just in case
                      * we want to update the list without doing
                      * a full refresh.
@@ -527,8 +588,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     )
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -538,7 +599,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val mutation = UnwatchProjectMutation(
                 id = encodeRelayId(project)
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -548,6 +609,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     if (response.hasErrors()) {
                         ps.onError(java.lang.Exception(response.errors?.first()?.message))
                     }
+                    invalidateCache(ApolloCache.cacheKeyFor(PROJECT_TYPE, project.id()))
                     /* make a copy of what you posted. just in case
                      * we want to update the list without doing
                      * a full refresh.
@@ -558,8 +620,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     )
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -576,7 +638,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 passwordConfirmation = confirmPassword
 
             )
-            service.mutation(mutation)
+            val request = service.mutation(mutation)
                 .rxSingle()
                 .doOnError { throwable ->
                     ps.onError(throwable)
@@ -589,8 +651,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(it)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -604,7 +666,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 email = email,
                 currentPassword = currentPassword
             )
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -618,8 +680,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(data)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -627,7 +689,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<SendEmailVerificationMutation.Data>()
             val mutation = SendEmailVerificationMutation()
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -641,8 +703,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(data)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -652,7 +714,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val mutation = UpdateUserCurrencyMutation(
                 chosenCurrency = currency
             )
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -666,8 +728,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(it)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -678,7 +740,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetShippingRulesForRewardIdQuery(
                 rewardId = encodeRelayId(reward)
             )
-            this.service
+            val request = this.service
                 .query(query)
                 .rxFlowable()
                 .doOnError { throwable ->
@@ -696,8 +758,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(shippingRulesListTransformer(shippingEnvelope))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -706,13 +768,11 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<List<Reward>>()
             val query = FetchProjectRewardsQuery(slug)
 
-            this.service.query(query)
+            val request = this.service.query(query)
+                .fetchPolicy(fetchPolicies.projectRewards)
                 .rxFlowable()
                 .subscribeOn(Schedulers.io())
-                .doOnError {
-                    ps.onError(it)
-                }
-                .subscribe { response ->
+                .subscribe({ response ->
                     if (response.hasErrors()) {
                         ps.onError(Exception(response.errors?.first()?.message))
                     }
@@ -733,9 +793,12 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         modifiedRewards.add(0, RewardFactory.noReward().toBuilder().minimum(minPledge).build())
                         ps.onNext(modifiedRewards.toList())
                     }
+                }, {
+                    ps.onError(it)
+                }, {
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                })
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -747,7 +810,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 amount = input.amount
             )
 
-            this.service.query(query)
+            val request = this.service.query(query)
                 .rxFlowable()
                 .subscribeOn(Schedulers.io())
                 .doOnError {
@@ -766,8 +829,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -793,7 +856,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 locationId = encodeRelayId(locationId)
             )
 
-            this.service
+            val request = this.service
                 .query(query)
                 .rxSingle()
                 .doOnError { throwable ->
@@ -808,8 +871,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(addOns)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -826,7 +889,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 intentClientSecret = if (updateBackingData.intentClientSecret.isNotNull()) Optional.present(updateBackingData.intentClientSecret) else Optional.absent()
             )
             val ps = PublishSubject.create<Checkout>()
-            service
+            val request = service
                 .mutation(mutation)
                 .rxSingle()
                 .doOnError { throwable ->
@@ -850,11 +913,15 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                             .id(decodeRelayId(checkoutPayload?.id))
                             .backing(backing)
                             .build()
+                        invalidateCache(
+                            ApolloCache.cacheKeyFor(BACKING_TYPE, updateBackingData.backing.id()),
+                            ApolloCache.cacheKeyFor(PROJECT_TYPE, updateBackingData.backing.projectId())
+                        )
                         ps.onNext(checkout)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -877,7 +944,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 refParam = if (createBackingData.refTag?.tag().isNotNull()) Optional.present(createBackingData.refTag?.tag()) else Optional.absent()
             )
 
-            this.service.mutation(mutation)
+            val request = this.service.mutation(mutation)
                 .rxSingle()
                 .doOnError { throwable ->
                     ps.onError(throwable)
@@ -904,11 +971,12 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                             .id(decodeRelayId(checkoutPayload?.id))
                             .backing(backing)
                             .build()
+                        invalidateCache(ApolloCache.cacheKeyFor(PROJECT_TYPE, createBackingData.project.id()))
                         ps.onNext(checkout)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -918,7 +986,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
             val mutation = getTriggerThirdPartyEventMutation(eventInput)
 
-            service
+            val request = service
                 .mutation(mutation)
                 .rxSingle()
                 .doOnError { throwable ->
@@ -935,8 +1003,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     }
 
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -950,7 +1018,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 password = password,
                 passwordConfirmation = confirmPassword
             )
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -964,8 +1032,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(it)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -976,7 +1044,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = ProjectCreatorDetailsQuery(
                 slug = slug
             )
-            service.query(
+            val request = service.query(
                 query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -996,8 +1064,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1010,7 +1078,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 body = body
             )
 
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1030,8 +1098,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     }
 
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1042,7 +1110,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 backingId = encodeRelayId(backing),
                 note = Optional.present(note)
             )
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1054,11 +1122,15 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } else {
                         val state = response.data?.cancelBacking?.backing?.status
                         val success = state == BackingState.canceled
+                        invalidateCache(
+                            ApolloCache.cacheKeyFor(BACKING_TYPE, backing.id()),
+                            ApolloCache.cacheKeyFor(PROJECT_TYPE, backing.projectId())
+                        )
                         ps.onNext(success)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1068,7 +1140,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = FetchCategoryQuery(
                 categoryParam = categoryParam
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1083,8 +1155,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(category)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1094,7 +1166,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetBackingQuery(
                 backingId = backingId
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1115,8 +1187,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1125,13 +1197,11 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetRootCategoriesQuery()
             val ps = PublishSubject.create<List<Category>>()
 
-            service.query(
+            val request = service.query(
                 query
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response: ApolloResponse<GetRootCategoriesQuery.Data> ->
+            ).fetchPolicy(fetchPolicies.rootCategories)
+                .rxFlowable()
+                .subscribe({ response: ApolloResponse<GetRootCategoriesQuery.Data> ->
                     if (response.hasErrors()) {
                         ps.onError(Exception(response.errors?.first()?.message))
                     } else {
@@ -1150,10 +1220,12 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                             ps.onNext(rootCategories)
                         }
                     }
+                }, { throwable ->
+                    ps.onError(throwable)
+                }, {
                     ps.onComplete()
-                }
-                .addToDisposable(disposables)
-            return@defer ps
+                })
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1170,7 +1242,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 slug = slug,
                 limit = limit
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxFlowable()
                 .doOnError { throwable ->
@@ -1198,8 +1270,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1218,7 +1290,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetCommentQuery(
                 commentableId = commentableId
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1234,8 +1306,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1257,7 +1329,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 id = updateId,
                 limit = limit
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxFlowable()
                 .doOnError { throwable ->
@@ -1294,8 +1366,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1311,7 +1383,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 slug = slug,
                 limit = limit
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxFlowable()
                 .doOnError { throwable ->
@@ -1346,8 +1418,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1363,7 +1435,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 cursor = if (cursor.isNullOrBlank()) Optional.absent() else Optional.present(cursor),
                 pageSize = Optional.present(pageSize),
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxFlowable()
                 .doOnError { throwable ->
@@ -1378,8 +1450,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1407,7 +1479,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 clientMutationId = Optional.present(comment.clientMutationId),
                 body = comment.body
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1417,6 +1489,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     if (response.hasErrors()) {
                         ps.onError(java.lang.Exception(response.errors?.first()?.message))
                     } else {
+                        invalidateCache(ApolloCache.cacheKeyFor(comment.commentableId))
                         /* make a copy of what you posted. just in case
                      * we want to update the list without doing
                      * a full refresh.
@@ -1428,8 +1501,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1437,7 +1510,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<List<ErroredBacking>>()
             val query = ErroredBackingsQuery()
-            this.service
+            val request = this.service
                 .query(query)
                 .rxSingle()
                 .doOnError { throwable ->
@@ -1460,8 +1533,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(erroredBackings)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1469,7 +1542,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<Int>()
             val mutation = ClearUserUnseenActivityMutation()
-            service.mutation(
+            val request = service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1484,8 +1557,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } ?: ps.onError(Exception())
 
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1496,7 +1569,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetProjectBackingQuery(
                 slug = slug
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1517,8 +1590,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1537,7 +1610,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 locationId = if (createCheckoutData.locationId.isNotNull()) Optional.present(createCheckoutData.locationId) else Optional.absent(),
                 refParam = if (createCheckoutData.refTag?.tag().isNotNull()) Optional.present(createCheckoutData.refTag?.tag()) else Optional.absent()
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1563,8 +1636,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1581,7 +1654,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 checkoutId = (Base64Utils.encodeUrlSafe(("Checkout-$checkoutId").toByteArray(Charset.defaultCharset()))),
                 backingId = Optional.present(backingId)
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1596,8 +1669,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         } ?: ps.onError(Exception("Client Secret was Null"))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1613,7 +1686,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 paymentIntentClientSecret = paymentIntentClientSecret,
                 paymentSourceId = paymentSourceId
             )
-            this.service.query(
+            val request = this.service.query(
                 query
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1632,8 +1705,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1652,7 +1725,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 paymentSourceId = if (paymentSourceId.isNotNull()) Optional.present(paymentSourceId) else Optional.absent(),
                 paymentSourceReusable = Optional.present(paymentSourceReusable)
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1669,8 +1742,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         } ?: ps.onError(Exception("Checkout ID was null"))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1679,7 +1752,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<Boolean>()
 
             val mutation = getCreateAttributionEventMutation(eventInput, gson)
-            service.mutation(mutation)
+            val request = service.mutation(mutation)
                 .rxSingle()
                 .doOnError { throwable ->
                     ps.onError(throwable)
@@ -1694,8 +1767,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(isSuccess)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1705,7 +1778,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
             val mutation = getCreateOrUpdateBackingAddressMutation(eventInput)
 
-            service.mutation(mutation)
+            val request = service.mutation(mutation)
                 .rxSingle()
                 .doOnError { throwable ->
                     ps.onError(throwable)
@@ -1720,8 +1793,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(isSuccess)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1735,7 +1808,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 stripePaymentMethodId = Optional.present(orderInput.stripePaymentMethodId),
                 paymentSourceReusable = Optional.present(orderInput.paymentSourceReusable)
             )
-            this.service.mutation(
+            val request = this.service.mutation(
                 mutation
             ).rxSingle()
                 .doOnError { throwable ->
@@ -1754,9 +1827,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(payload)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
+                }
 
-            return@defer ps
+            return@defer ps.trackUntilTerminated(request)
         }
     }
 
@@ -1764,7 +1837,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<PledgedProjectsOverviewEnvelope>()
 
-            this.service.query(
+            val request = this.service.query(
                 getPledgedProjectsOverviewQuery(inputData)
             ).rxFlowable()
                 .doOnError { throwable ->
@@ -1783,8 +1856,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.trackUntilTerminated(request)
         }.subscribeOn(Schedulers.io())
     }
 }
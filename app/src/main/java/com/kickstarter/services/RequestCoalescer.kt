@@ -0,0 +1,52 @@
+package com.kickstarter.services
+
+import io.reactivex.Observable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Shares a single in flight request between every concurrent subscriber asking for the same
+ * `key` (operation name + variables). Once the request terminates, or all of its subscribers
+ * are disposed, the next call for that key will start a new request.
+ *
+ * Subscribers joining while the request is in flight will receive the latest emitted value.
+ */
+class RequestCoalescer {
+    private val inFlight = ConcurrentHashMap<String, Observable<*>>()
+    private val started = AtomicLong()
+    private val coalesced = AtomicLong()
+
+    /**
+     * Number of requests that actually hit the network.
+     */
+    fun requestsStarted(): Long = started.get()
+
+    /**
+     * Number of requests saved by joining an identical in flight one.
+     */
+    fun requestsCoalesced(): Long = coalesced.get()
+
+    @Suppress("UNCHECKED_CAST")
+    fun <T> coalesce(key: String, request: () -> Observable<T>): Observable<T> =
+        Observable.defer {
+            inFlight[key]?.let {
+                coalesced.incrementAndGet()
+                return@defer it as Observable<T>
+            }
+
+            lateinit var shared: Observable<T>
+            shared = Observable.defer { request() }
+                .doFinally { inFlight.remove(key, shared) }
+                .replay(1)
+                .refCount()
+
+            val winner = inFlight.putIfAbsent(key, shared)
+            if (winner != null) {
+                coalesced.incrementAndGet()
+                winner as Observable<T>
+            } else {
+                started.incrementAndGet()
+                shared
+            }
+        }
+}
@@ -0,0 +1,36 @@
+package com.kickstarter.services
+
+import okhttp3.Cache
+import okhttp3.ConnectionPool
+import okhttp3.Dispatcher
+import okhttp3.OkHttpClient
+import java.io.File
+import java.util.concurrent.TimeUnit
+
+/**
+ * Builds the single `OkHttpClient` every other client derives from with `newBuilder()`, so the
+ * REST and GraphQL clients share the same connection pool, dispatcher and disk cache.
+ */
+object RootHttpClient {
+    const val CACHE_DIRECTORY = "http_cache"
+    const val CACHE_MAX_SIZE_BYTES = 20L * 1024 * 1024
+    const val MAX_IDLE_CONNECTIONS = 8
+    const val KEEP_ALIVE_MINUTES = 5L
+    const val MAX_REQUESTS = 64
+    const val MAX_REQUESTS_PER_HOST = 8
+
+    @JvmStatic
+    fun create(cacheDirectory: File, metrics: HttpClientMetrics): OkHttpClient {
+        val dispatcher = Dispatcher().apply {
+            maxRequests = MAX_REQUESTS
+            maxRequestsPerHost = MAX_REQUESTS_PER_HOST
+        }
+
+        return OkHttpClient.Builder()
+            .cache(Cache(File(cacheDirectory, CACHE_DIRECTORY), CACHE_MAX_SIZE_BYTES))
+            .connectionPool(ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+            .dispatcher(dispatcher)
+            .eventListener(metrics)
+            .build()
+    }
+}
@@ -20,29 +20,37 @@ class DiscoverEnvelope private constructor(
     /**
      pageInfoEnvelope: contains the cursor for pagination with GraphQL, not necessary with V1
      */
-    private val pageInfoEnvelope: PageInfoEnvelope?
+    private val pageInfoEnvelope: PageInfoEnvelope?,
+    /**
+     isFromCache: the page was read from the normalized cache, the network page may follow
+     */
+    private val isFromCache: Boolean
 ) : Parcelable, ApolloEnvelope {
     fun projects() = this.projects
     fun urls() = this.urls
     fun stats() = this.stats
     override fun pageInfoEnvelope() = this.pageInfoEnvelope
+    override fun isFromCache() = this.isFromCache
 
     @Parcelize
     data class Builder(
         private var projects: List<Project> = emptyList(),
         private var urls: UrlsEnvelope? = null,
         private var stats: StatsEnvelope? = null,
-        private var pageInfoEnvelope: PageInfoEnvelope? = null
+        private var pageInfoEnvelope: PageInfoEnvelope? = null,
+        private var isFromCache: Boolean = false
     ) : Parcelable {
         fun projects(projects: List<Project>?) = apply { this.projects = projects ?: emptyList() }
         fun urls(urls: UrlsEnvelope?) = apply { this.urls = urls }
         fun stats(stats: StatsEnvelope?) = apply { this.stats = stats }
         fun pageInfoEnvelope(pageInfoEnvelope: PageInfoEnvelope?) = apply { this.pageInfoEnvelope = pageInfoEnvelope }
+        fun isFromCache(isFromCache: Boolean) = apply { this.isFromCache = isFromCache }
         fun build() = DiscoverEnvelope(
             projects = projects,
             urls = urls,
             stats = stats,
-            pageInfoEnvelope = pageInfoEnvelope
+            pageInfoEnvelope = pageInfoEnvelope,
+            isFromCache = isFromCache
         )
     }
 
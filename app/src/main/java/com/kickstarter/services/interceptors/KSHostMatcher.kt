@@ -0,0 +1,52 @@
+package com.kickstarter.services.interceptors
+
+import com.kickstarter.libs.utils.Secrets
+import okhttp3.HttpUrl.Companion.toHttpUrlOrNull
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Classifies request hosts against the API and web endpoints, following the same rules as
+ * `Uri.isApiUri`, `Uri.isWebUri`, `Uri.isHivequeenUri` and `Uri.isStagingUri`, but working on
+ * the `HttpUrl.host` already parsed by OkHttp.
+ *
+ * The app only talks to a handful of hosts, so the classification is computed once per host.
+ */
+class KSHostMatcher(apiEndpoint: String, webEndpoint: String) {
+    private val apiHost = apiEndpoint.toHttpUrlOrNull()?.host
+    private val webHost = webEndpoint.toHttpUrlOrNull()?.host
+    private val classifiedHosts = ConcurrentHashMap<String, Int>()
+
+    fun isApiHost(host: String) = classify(host) and API != 0
+
+    fun isWebHost(host: String) = classify(host) and WEB != 0
+
+    fun isHivequeenHost(host: String) = classify(host) and HIVEQUEEN != 0
+
+    fun isStagingHost(host: String) = classify(host) and STAGING != 0
+
+    private fun classify(host: String): Int =
+        classifiedHosts[host] ?: computeClassification(host).also {
+            if (classifiedHosts.size < MAX_CLASSIFIED_HOSTS) classifiedHosts[host] = it
+        }
+
+    private fun computeClassification(host: String): Int {
+        var flags = 0
+        val matchesApiPattern = Secrets.RegExpPattern.API.matcher(host).matches()
+
+        if (host == apiHost && matchesApiPattern) flags = flags or API
+        if (host == webHost) {
+            if (!matchesApiPattern) flags = flags or WEB
+            if (Secrets.RegExpPattern.HIVEQUEEN.matcher(host).matches()) flags = flags or HIVEQUEEN
+            if (Secrets.RegExpPattern.STAGING.matcher(host).matches()) flags = flags or STAGING
+        }
+        return flags
+    }
+
+    private companion object {
+        const val API = 1
+        const val WEB = 1 shl 1
+        const val HIVEQUEEN = 1 shl 2
+        const val STAGING = 1 shl 3
+        const val MAX_CLASSIFIED_HOSTS = 32
+    }
+}
@@ -0,0 +1,111 @@
+package com.kickstarter.services.interceptors
+
+import com.kickstarter.libs.Build
+import com.kickstarter.libs.CurrentUserTypeV2
+import com.kickstarter.libs.FirebaseHelper
+import com.kickstarter.libs.InternalToolsType
+import com.kickstarter.libs.utils.I18nUtils
+import com.kickstarter.libs.utils.WebUtils.userAgent
+import com.kickstarter.models.User
+import okhttp3.Interceptor
+import okhttp3.Interceptor.Chain
+import okhttp3.Request
+import okhttp3.Response
+import java.io.IOException
+
+/**
+ * Interceptor to apply to all outgoing requests of a client, adding the Kickstarter headers while
+ * rebuilding each request only once:
+ * - Every request gets the app version, app id and language.
+ * - Requests of the GraphQL client get the client id, user agent and access token.
+ * - Other requests to the API host get the client id query parameter, user agent and access token.
+ * - Other requests to the web host, ie. from web views, get the user agent and the access token, or
+ *   the basic authorization of internal builds on Hivequeen.
+ *
+ * The static header values are built once, hosts are classified by [KSHostMatcher] on the host
+ * OkHttp already parsed.
+ */
+class KSRequestInterceptor(
+    private val clientId: String,
+    private val currentUser: CurrentUserTypeV2,
+    private val hostMatcher: KSHostMatcher,
+    private val internalTools: InternalToolsType,
+    build: Build,
+    private val isGraphQL: Boolean
+) : Interceptor {
+
+    // - Static for the life of the process, avoid rebuilding them on every request
+    private val versionCode = build.versionCode().toString()
+    private val applicationId = build.applicationId()
+    private val userAgent = userAgent(build)
+
+    @Volatile
+    private var loggedInUser: User? = null
+
+    init {
+        if (!isGraphQL) {
+            currentUser.observable()
+                .filter { it.isPresent() }
+                .map { loggedInUser = it.getValue() }
+                .subscribe()
+        }
+    }
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Chain): Response {
+        return chain.proceed(request(chain.request()))
+    }
+
+    private fun request(initialRequest: Request): Request {
+        val builder = initialRequest.newBuilder()
+        val host = initialRequest.url.host
+
+        when {
+            isGraphQL -> addGraphQLHeaders(builder)
+            hostMatcher.isApiHost(host) -> addApiHeaders(builder, initialRequest)
+            hostMatcher.isWebHost(host) -> addWebHeaders(builder, host)
+        }
+
+        return builder
+            .header("Kickstarter-Android-App", versionCode)
+            .header("Kickstarter-App-Id", applicationId)
+            .header("Accept-Language", I18nUtils.language())
+            .build()
+    }
+
+    private fun addGraphQLHeaders(builder: Request.Builder) {
+        this.currentUser.accessToken?.let {
+            builder.addHeader("Authorization", "token $it")
+        }
+
+        builder.addHeader("User-Agent", userAgent)
+            .addHeader("X-KICKSTARTER-CLIENT", clientId)
+            .addHeader("Kickstarter-Android-App-UUID", FirebaseHelper.identifier)
+    }
+
+    private fun addApiHeaders(builder: Request.Builder, initialRequest: Request) {
+        builder.addHeader("Accept", "application/json")
+            .addHeader("Kickstarter-Android-App-UUID", FirebaseHelper.identifier)
+            .addHeader("User-Agent", userAgent)
+
+        this.currentUser.accessToken?.let { token ->
+            if (token.isNotEmpty()) builder.addHeader("X-Auth", "token $token")
+        }
+
+        builder.url(
+            initialRequest.url.newBuilder()
+                .setQueryParameter("client_id", clientId)
+                .build()
+        )
+    }
+
+    private fun addWebHeaders(builder: Request.Builder, host: String) {
+        builder.header("User-Agent", userAgent)
+
+        loggedInUser?.let {
+            builder.addHeader("Authorization", "token " + this.currentUser.accessToken)
+        } ?: internalTools.basicAuthorizationHeader()?.let {
+            if (hostMatcher.isHivequeenHost(host)) builder.addHeader("Authorization", it)
+        }
+    }
+}
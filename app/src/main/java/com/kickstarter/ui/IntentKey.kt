@@ -27,6 +27,8 @@ object IntentKey {
     const val PROJECT = "com.kickstarter.kickstarter.intent_project"
     const val PROJECT_DATA = "com.kickstarter.kickstarter.intent_project_data"
     const val PROJECT_PARAM = "com.kickstarter.kickstarter.intent_project_param"
+    const val REGISTERED_PROJECT_ID = "com.kickstarter.kickstarter.intent_registered_project_id"
+    const val REGISTERED_PROJECT_PARAM = "com.kickstarter.kickstarter.intent_registered_project_param"
     const val PUSH_TOKEN = "com.kickstarter.kickstarter.intent_push_token"
     const val REF_TAG = "com.kickstarter.kickstarter.ref_tag"
     const val SURVEY_RESPONSE = "com.kickstarter.kickstarter.survey_response"
@@ -11,6 +11,7 @@ import com.kickstarter.databinding.ActivityFeedLayoutBinding
 import com.kickstarter.libs.ActivityRequestCodes
 import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.RefTag
+import com.kickstarter.libs.recyclerviewpagination.PrefetchDistance
 import com.kickstarter.libs.recyclerviewpagination.RecyclerViewPaginatorV2
 import com.kickstarter.libs.utils.ApplicationUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
@@ -71,7 +72,8 @@ class ActivityFeedActivity : AppCompatActivity() {
         recyclerViewPaginator = RecyclerViewPaginatorV2(
             binding.recyclerView,
             { viewModel.inputs.nextPage() },
-            viewModel.outputs.isFetchingActivities()
+            viewModel.outputs.isFetchingActivities(),
+            PrefetchDistance()
         )
 
         binding.activityFeedSwipeRefreshLayout.setOnRefreshListener {
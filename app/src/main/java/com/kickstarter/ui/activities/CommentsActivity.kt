@@ -10,6 +10,7 @@ import androidx.core.view.isVisible
 import androidx.recyclerview.widget.ConcatAdapter
 import com.kickstarter.R
 import com.kickstarter.databinding.ActivityCommentsLayoutBinding
+import com.kickstarter.libs.recyclerviewpagination.PrefetchDistance
 import com.kickstarter.libs.recyclerviewpagination.RecyclerViewPaginatorV2
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ApplicationUtils
@@ -216,7 +217,7 @@ class CommentsActivity :
     }
     private fun setupPagination() {
 
-        recyclerViewPaginator = RecyclerViewPaginatorV2(binding.commentsRecyclerView, { viewModel.inputs.nextPage() }, viewModel.outputs.isFetchingComments())
+        recyclerViewPaginator = RecyclerViewPaginatorV2(binding.commentsRecyclerView, { viewModel.inputs.nextPage() }, viewModel.outputs.isFetchingComments(), PrefetchDistance())
 
         binding.commentsSwipeRefreshLayout.setOnRefreshListener {
             viewModel.inputs.checkIfThereAnyPendingComments(false)
@@ -22,6 +22,7 @@ import com.kickstarter.libs.utils.ViewUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.getEnvironment
 import com.kickstarter.libs.utils.extensions.getProjectIntent
+import com.kickstarter.libs.utils.extensions.putRegisteredProject
 import com.kickstarter.models.Backing
 import com.kickstarter.models.BackingWrapper
 import com.kickstarter.models.Project
@@ -295,7 +296,7 @@ class MessagesActivity : AppCompatActivity() {
 
     private fun startProjectPageActivity(project: Project) {
         val intent = Intent().getProjectIntent(this)
-            .putExtra(IntentKey.PROJECT, project)
+            .putRegisteredProject(project)
         startActivityWithTransition(intent, R.anim.slide_in_right, R.anim.fade_out_slide_out_left)
     }
 }
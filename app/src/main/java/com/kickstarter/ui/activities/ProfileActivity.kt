@@ -16,8 +16,8 @@ import com.kickstarter.libs.utils.ViewUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.getEnvironment
 import com.kickstarter.libs.utils.extensions.getProjectIntent
+import com.kickstarter.libs.utils.extensions.putRegisteredProject
 import com.kickstarter.models.Project
-import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.adapters.ProfileAdapter
 import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.ui.extensions.startActivityWithTransition
@@ -184,7 +184,7 @@ class ProfileActivity : ComponentActivity() {
 
     private fun startProjectActivity(project: Project) {
         val intent = Intent().getProjectIntent(this)
-            .putExtra(IntentKey.PROJECT, project)
+            .putRegisteredProject(project)
         startActivityWithTransition(intent, R.anim.slide_in_right, R.anim.fade_out_slide_out_left)
     }
 }
@@ -61,6 +61,7 @@ import com.kickstarter.libs.utils.extensions.getPaymentSheetConfiguration
 import com.kickstarter.libs.utils.extensions.reduceProjectPayload
 import com.kickstarter.libs.utils.extensions.showLatePledgeFlow
 import com.kickstarter.libs.utils.extensions.toVisibility
+import com.kickstarter.libs.video.VideoPlayerPool
 import com.kickstarter.models.Project
 import com.kickstarter.models.User
 import com.kickstarter.models.chrome.ChromeTabsHelperActivity
@@ -1382,6 +1383,10 @@ class ProjectPageActivity :
     override fun onDestroy() {
         binding.projectPager.adapter = null
         binding.mediaHeader.inputs.releasePlayer()
+        // - Header, campaign and full screen players of this project are only kept in the pool while its page is open
+        if (isFinishing) {
+            VideoPlayerPool.shared(this).releaseAll(this)
+        }
         disposables.clear()
         super.onDestroy()
     }
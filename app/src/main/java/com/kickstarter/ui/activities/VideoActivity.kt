@@ -2,7 +2,6 @@ package com.kickstarter.ui.activities
 
 import android.app.Activity
 import android.content.Intent
-import android.net.Uri
 import android.os.Bundle
 import android.view.View
 import android.widget.ImageView
@@ -11,23 +10,14 @@ import androidx.activity.viewModels
 import androidx.appcompat.app.AppCompatActivity
 import androidx.lifecycle.DefaultLifecycleObserver
 import androidx.lifecycle.LifecycleOwner
-import com.google.android.exoplayer2.C
 import com.google.android.exoplayer2.ExoPlayer
-import com.google.android.exoplayer2.MediaItem
 import com.google.android.exoplayer2.Player
-import com.google.android.exoplayer2.source.MediaSource
-import com.google.android.exoplayer2.source.ProgressiveMediaSource
-import com.google.android.exoplayer2.source.hls.HlsMediaSource
-import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection
-import com.google.android.exoplayer2.trackselection.DefaultTrackSelector
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSource
-import com.google.android.exoplayer2.util.Util
 import com.kickstarter.R
 import com.kickstarter.databinding.VideoPlayerLayoutBinding
 import com.kickstarter.libs.Build
-import com.kickstarter.libs.utils.WebUtils.userAgent
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.getEnvironment
+import com.kickstarter.libs.video.VideoPlayerPool
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.extensions.setUpConnectivityStatusCheck
 import com.kickstarter.utils.WindowInsetsUtil
@@ -40,7 +30,7 @@ class VideoActivity : AppCompatActivity() {
     private lateinit var build: Build
     private var player: ExoPlayer? = null
     private var playerPosition: Long? = null
-    private var trackSelector: DefaultTrackSelector? = null
+    private var videoUrl: String? = null
     private lateinit var binding: VideoPlayerLayoutBinding
 
     private lateinit var viewModelFactory: Factory
@@ -101,6 +91,10 @@ class VideoActivity : AppCompatActivity() {
     public override fun onDestroy() {
         super.onDestroy()
         player = null
+        // - A player handed off by the project page stays with it, only players built for this screen are released
+        if (isFinishing) {
+            VideoPlayerPool.shared(this).releaseAll(this)
+        }
     }
 
     public override fun onPause() {
@@ -150,39 +144,27 @@ class VideoActivity : AppCompatActivity() {
     }
 
     private fun preparePlayer(videoUrl: String) {
-        val adaptiveTrackSelectionFactory: AdaptiveTrackSelection.Factory = AdaptiveTrackSelection.Factory()
-        trackSelector = DefaultTrackSelector(this, adaptiveTrackSelectionFactory)
-        trackSelector?.let {
-            ExoPlayer.Builder(this).setTrackSelector(it)
-        }
-
-        val playerBuilder = ExoPlayer.Builder(this)
-        trackSelector?.let { playerBuilder.setTrackSelector(it) }
-        player = playerBuilder.build()
+        val pool = VideoPlayerPool.shared(this)
+        // - The inline player of this video is handed off as is, already buffered at the position it was playing
+        val isHandoff = pool.peek(videoUrl) != null
+        this.videoUrl = videoUrl
+        player = pool.acquire(videoUrl, this, onPlayerReclaimed)
 
+        binding.playerView.player = null
         binding.playerView.player = player
         player?.addListener(eventListener)
 
-        player?.setMediaSource(getMediaSource(videoUrl))
-        player?.prepare()
-        playerPosition?.let {
-            player?.seekTo(it)
+        if (!isHandoff) {
+            playerPosition?.let {
+                player?.seekTo(it)
+            }
         }
         player?.playWhenReady = true
     }
 
-    private fun getMediaSource(videoUrl: String): MediaSource {
-        val dataSourceFactory = DefaultHttpDataSource.Factory().setUserAgent(userAgent(build))
-        val videoUri = Uri.parse(videoUrl)
-        val fileType = Util.inferContentType(videoUri)
-
-        return if (fileType == C.TYPE_HLS) {
-            HlsMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
-        } else {
-            ProgressiveMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
-        }
-    }
-
+    /**
+     * Pauses and detaches the player, it is handed back to the inline view through the [VideoPlayerPool].
+     */
     private fun releasePlayer() {
         if (player != null) {
             playerPosition = player?.currentPosition
@@ -190,8 +172,18 @@ class VideoActivity : AppCompatActivity() {
                 viewModel.inputs.onVideoCompleted(it, playerPosition ?: 0L)
             }
             player?.removeListener(eventListener)
-            player?.release()
-            trackSelector = null
+            player?.playWhenReady = false
+            videoUrl?.let { VideoPlayerPool.shared(this).detach(it, onPlayerReclaimed) }
+            binding.playerView.player = null
+            player = null
+        }
+    }
+
+    // - The pool reused or released the player of this video
+    private val onPlayerReclaimed = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed ->
+        reclaimed.removeListener(eventListener)
+        if (player === reclaimed) {
+            binding.playerView.player = null
             player = null
         }
     }
@@ -21,6 +21,7 @@ import androidx.compose.material.Scaffold
 import androidx.compose.material.Surface
 import androidx.compose.material.Text
 import androidx.compose.runtime.Composable
+import androidx.compose.runtime.remember
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.platform.LocalContext
@@ -41,9 +42,12 @@ import com.kickstarter.ui.compose.designsystem.KSTheme
 import com.kickstarter.ui.compose.designsystem.KSTheme.colors
 import com.kickstarter.ui.compose.designsystem.KSTheme.dimensions
 import com.kickstarter.ui.compose.designsystem.KSTheme.typography
+import com.kickstarter.ui.compose.stableKeyOrNull
 import com.kickstarter.ui.views.compose.checkout.BonusSupportContainer
 import java.math.RoundingMode
 
+private const val ADD_ON_CONTENT_TYPE = "add_on"
+
 @Composable
 @Preview(name = "Light", uiMode = Configuration.UI_MODE_NIGHT_NO)
 @Preview(name = "Dark", uiMode = Configuration.UI_MODE_NIGHT_YES)
@@ -104,6 +108,7 @@ fun AddOnsScreen(
     totalBonusSupport: Double
 ) {
     val context = LocalContext.current
+    val addOnKey = remember(addOns) { stableKeyOrNull(addOns) { it.id() } }
     val currencySymbolStartAndEnd = environment.ksCurrency()?.getCurrencySymbols(project)
     val totalAmountString = environment.ksCurrency()?.let {
         RewardViewUtils.styleCurrency(
@@ -232,7 +237,9 @@ fun AddOnsScreen(
                 }
 
                 items(
-                    items = addOns
+                    items = addOns,
+                    key = addOnKey,
+                    contentType = { ADD_ON_CONTENT_TYPE }
                 ) { reward ->
 
                     Spacer(modifier = Modifier.height(dimensions.paddingMedium))
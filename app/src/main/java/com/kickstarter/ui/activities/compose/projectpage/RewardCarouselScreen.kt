@@ -20,6 +20,7 @@ import androidx.compose.foundation.lazy.rememberLazyListState
 import androidx.compose.material.Scaffold
 import androidx.compose.material.Text
 import androidx.compose.runtime.Composable
+import androidx.compose.runtime.Immutable
 import androidx.compose.runtime.remember
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
@@ -47,6 +48,7 @@ import com.kickstarter.ui.compose.KSRewardCard
 import com.kickstarter.ui.compose.designsystem.KSCircularProgressIndicator
 import com.kickstarter.ui.compose.designsystem.KSTheme
 import com.kickstarter.ui.compose.designsystem.KSTheme.dimensions
+import com.kickstarter.ui.compose.stableKeyOrNull
 import com.kickstarter.ui.views.compose.checkout.ShippingSelector
 import org.joda.time.DateTime
 import java.math.RoundingMode
@@ -105,6 +107,49 @@ fun RewardCarouselScreenPreview() {
     }
 }
 
+/**
+ * What a reward card shows that depends on the project and backing, computed once per list instead
+ * of on every recomposition of the card.
+ */
+@Immutable
+data class RewardCardUiState(
+    val reward: Reward,
+    val ctaButtonEnabled: Boolean,
+    val isBacked: Boolean,
+    val yourSelectionIsVisible: Boolean
+) {
+    val contentType: String
+        get() = if (RewardUtils.isNoReward(reward)) NO_REWARD_CONTENT_TYPE else REWARD_CONTENT_TYPE
+
+    companion object {
+        const val NO_REWARD_CONTENT_TYPE = "no_reward"
+        const val REWARD_CONTENT_TYPE = "reward"
+    }
+}
+
+fun rewardCardUiStates(rewards: List<Reward>, project: Project, backing: Backing?): List<RewardCardUiState> =
+    rewards.map { reward ->
+        val ctaButtonEnabled = when {
+            RewardUtils.isNoReward(reward) -> true
+            !reward.hasAddons() && backing?.isBacked(reward) != true -> true
+            backing?.rewardId() != reward.id() && RewardUtils.isAvailable(
+                project,
+                reward
+            ) && reward.isAvailable() -> true
+
+            reward.hasAddons() && backing?.rewardId() == reward.id() && (project.isLive || (project.postCampaignPledgingEnabled() ?: false && project.isInPostCampaignPledgingPhase() ?: false)) && reward.isAvailable() -> true
+
+            else -> false
+        }
+
+        RewardCardUiState(
+            reward = reward,
+            ctaButtonEnabled = ctaButtonEnabled,
+            isBacked = backing?.isBacked(reward) ?: false,
+            yourSelectionIsVisible = project.backing()?.isBacked(reward) ?: false
+        )
+    }
+
 @Composable
 fun RewardCarouselScreen(
     modifier: Modifier = Modifier,
@@ -123,6 +168,12 @@ fun RewardCarouselScreen(
     val interactionSource = remember {
         MutableInteractionSource()
     }
+    val rewardCards = remember(rewards, project, backing) {
+        rewardCardUiStates(rewards, project, backing)
+    }
+    val rewardKey = remember(rewardCards) {
+        stableKeyOrNull(rewardCards) { it.reward.id() }
+    }
 
     Scaffold(
         modifier = modifier,
@@ -188,22 +239,13 @@ fun RewardCarouselScreen(
             ) {
 
                 items(
-                    items = rewards,
-                ) { reward ->
-
-                    val ctaButtonEnabled = when {
-                        RewardUtils.isNoReward(reward) -> true
-                        !reward.hasAddons() && backing?.isBacked(reward) != true -> true
-                        backing?.rewardId() != reward.id() && RewardUtils.isAvailable(
-                            project,
-                            reward
-                        ) && reward.isAvailable() -> true
-
-                        reward.hasAddons() && backing?.rewardId() == reward.id() && (project.isLive || (project.postCampaignPledgingEnabled() ?: false && project.isInPostCampaignPledgingPhase() ?: false)) && reward.isAvailable() -> true
-
-                        else -> false
-                    }
-                    val isBacked = backing?.isBacked(reward) ?: false
+                    items = rewardCards,
+                    key = rewardKey,
+                    contentType = { card -> card.contentType }
+                ) { card ->
+                    val reward = card.reward
+                    val ctaButtonEnabled = card.ctaButtonEnabled
+                    val isBacked = card.isBacked
 
                     val ctaButtonText = when {
                         ctaButtonEnabled -> R.string.Select
@@ -224,7 +266,7 @@ fun RewardCarouselScreen(
                             ),
                             onRewardSelectClicked = { onRewardSelected(reward) },
                             isCTAButtonVisible = project.isAllowedToPledge(),
-                            yourSelectionIsVisible = project.backing()?.isBacked(reward) ?: false,
+                            yourSelectionIsVisible = card.yourSelectionIsVisible,
                         )
                     } else {
                         KSRewardCard(
@@ -282,7 +324,7 @@ fun RewardCarouselScreen(
                             estimatedDelivery = if (reward.estimatedDeliveryOn().isNotNull()) {
                                 DateTimeUtils.estimatedDeliveryOn(requireNotNull(reward.estimatedDeliveryOn()))
                             } else "",
-                            yourSelectionIsVisible = project.backing()?.isBacked(reward) ?: false,
+                            yourSelectionIsVisible = card.yourSelectionIsVisible,
                             localPickup = if (RewardUtils.isLocalPickup(reward) && !RewardUtils.isShippable(
                                     reward
                                 )
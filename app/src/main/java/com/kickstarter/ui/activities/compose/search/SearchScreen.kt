@@ -23,6 +23,7 @@ import androidx.compose.material.rememberScaffoldState
 import androidx.compose.runtime.Composable
 import androidx.compose.runtime.getValue
 import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.remember
 import androidx.compose.runtime.saveable.rememberSaveable
 import androidx.compose.runtime.setValue
 import androidx.compose.ui.Alignment
@@ -45,11 +46,16 @@ import com.kickstarter.ui.compose.designsystem.KSTheme
 import com.kickstarter.ui.compose.designsystem.KSTheme.colors
 import com.kickstarter.ui.compose.designsystem.KSTheme.dimensions
 import com.kickstarter.ui.compose.designsystem.KSTheme.typography
+import com.kickstarter.ui.compose.stableKeyOrNull
 import com.kickstarter.ui.viewholders.compose.search.FeaturedSearchViewHolder
 import com.kickstarter.ui.viewholders.compose.search.ProjectSearchViewHolder
 import com.kickstarter.ui.views.compose.search.SearchEmptyView
 import com.kickstarter.ui.views.compose.search.SearchTopBar
 
+private const val POPULAR_FEATURED_CONTENT_TYPE = "popular_featured_project"
+private const val FEATURED_CONTENT_TYPE = "featured_project"
+private const val PROJECT_CONTENT_TYPE = "project"
+
 @Composable
 @Preview(name = "Light", uiMode = Configuration.UI_MODE_NIGHT_NO)
 @Preview(name = "Dark", uiMode = Configuration.UI_MODE_NIGHT_YES)
@@ -120,6 +126,7 @@ fun SearchScreen(
     onItemClicked: (Project) -> Unit
 ) {
     val context = LocalContext.current
+    val projectKey = remember(itemsList) { stableKeyOrNull(itemsList) { it.id() } }
     var currentSearchTerm by rememberSaveable { mutableStateOf("") }
 
     Scaffold(
@@ -157,7 +164,17 @@ fun SearchScreen(
                 state = lazyColumnListState,
                 horizontalAlignment = Alignment.CenterHorizontally
             ) {
-                itemsIndexed(itemsList) { index, project ->
+                itemsIndexed(
+                    items = itemsList,
+                    key = projectKey?.let { key -> { _: Int, project: Project -> key(project) } },
+                    contentType = { index, _ ->
+                        when {
+                            index == 0 && isPopularList -> POPULAR_FEATURED_CONTENT_TYPE
+                            index == 0 -> FEATURED_CONTENT_TYPE
+                            else -> PROJECT_CONTENT_TYPE
+                        }
+                    }
+                ) { index, project ->
                     if (index == 0 && isPopularList) {
                         Spacer(modifier = Modifier.height(dimensions.paddingMedium))
 
@@ -14,10 +14,13 @@ import com.kickstarter.libs.utils.ExceptionUtils;
 import com.kickstarter.ui.viewholders.KSViewHolder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
-  private final List<List<Object>> sections = new ArrayList<>();
+  private final SectionOffsets offsets = new SectionOffsets();
+  private final List<List<Object>> sections = new InvalidatingList<>(this.offsets, true);
 
   public List<List<Object>> sections() {
     return this.sections;
@@ -28,7 +31,7 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
   }
 
   public <T> void addSection(final @NonNull List<T> section) {
-    this.sections.add(new ArrayList<>(section));
+    this.sections.add(new InvalidatingList<>(this.offsets, section));
   }
 
   public <T> void addSections(final @NonNull List<List<T>> sections) {
@@ -38,11 +41,11 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
   }
 
   public <T> void setSection(final int location, final @NonNull List<T> section) {
-    this.sections.set(location, new ArrayList<>(section));
+    this.sections.set(location, new InvalidatingList<>(this.offsets, section));
   }
 
   public <T> void insertSection(final int location, final @NonNull List<T> section) {
-    this.sections.add(location, new ArrayList<>(section));
+    this.sections.add(location, new InvalidatingList<>(this.offsets, section));
   }
 
   /**
@@ -101,12 +104,7 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
 
   @Override
   public final int getItemCount() {
-    int itemCount = 0;
-    for (final List<?> section : this.sections) {
-      itemCount += section.size();
-    }
-
-    return itemCount;
+    return this.offsets.itemCount(this.sections);
   }
 
   /**
@@ -131,20 +129,12 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
   }
 
   private @NonNull SectionRow sectionRowFromPosition(final int position) {
-    final SectionRow sectionRow = new SectionRow();
-    int cursor = 0;
-    for (final List<?> section : this.sections) {
-      for (final Object __ : section) {
-        if (cursor == position) {
-          return sectionRow;
-        }
-        cursor++;
-        sectionRow.nextRow();
-      }
-      sectionRow.nextSection();
+    final int section = this.offsets.sectionOf(position, this.sections);
+    if (section == -1) {
+      throw new RuntimeException("Position " + position + " not found in sections");
     }
 
-    throw new RuntimeException("Position " + position + " not found in sections");
+    return new SectionRow(section, position - this.offsets.offsetOf(section, this.sections));
   }
 
   private @NonNull View inflateView(final @NonNull ViewGroup viewGroup, final @LayoutRes int viewType) {
@@ -152,6 +142,105 @@ public abstract class KSAdapter extends RecyclerView.Adapter<KSViewHolder> {
     return layoutInflater.inflate(viewType, viewGroup, false);
   }
 
+  /**
+   * Invalidates the section offsets on every structural change, so subclasses can keep mutating
+   * `sections()` and the sections added through this adapter directly. Changes to the list of sections
+   * only invalidate the offsets from the section that changed.
+   */
+  private static final class InvalidatingList<E> extends ArrayList<E> {
+    private final SectionOffsets offsets;
+    private final boolean isSectionList;
+
+    InvalidatingList(final @NonNull SectionOffsets offsets, final boolean isSectionList) {
+      this.offsets = offsets;
+      this.isSectionList = isSectionList;
+    }
+
+    InvalidatingList(final @NonNull SectionOffsets offsets, final @NonNull Collection<? extends E> elements) {
+      super(elements);
+      this.offsets = offsets;
+      this.isSectionList = false;
+    }
+
+    private void invalidateFrom(final int index) {
+      this.offsets.invalidateFrom(this.isSectionList ? index : 0);
+    }
+
+    @Override
+    public boolean add(final E element) {
+      invalidateFrom(size());
+      return super.add(element);
+    }
+
+    @Override
+    public void add(final int index, final E element) {
+      invalidateFrom(index);
+      super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(final @NonNull Collection<? extends E> elements) {
+      this.offsets.invalidate();
+      return super.addAll(elements);
+    }
+
+    @Override
+    public boolean addAll(final int index, final @NonNull Collection<? extends E> elements) {
+      this.offsets.invalidate();
+      return super.addAll(index, elements);
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+      if (this.isSectionList) {
+        invalidateFrom(index);
+      }
+      return super.set(index, element);
+    }
+
+    @Override
+    public E remove(final int index) {
+      invalidateFrom(index);
+      return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(final Object element) {
+      this.offsets.invalidate();
+      return super.remove(element);
+    }
+
+    @Override
+    public boolean removeAll(final @NonNull Collection<?> elements) {
+      this.offsets.invalidate();
+      return super.removeAll(elements);
+    }
+
+    @Override
+    public boolean retainAll(final @NonNull Collection<?> elements) {
+      this.offsets.invalidate();
+      return super.retainAll(elements);
+    }
+
+    @Override
+    public boolean removeIf(final @NonNull Predicate<? super E> filter) {
+      this.offsets.invalidate();
+      return super.removeIf(filter);
+    }
+
+    @Override
+    protected void removeRange(final int fromIndex, final int toIndex) {
+      this.offsets.invalidate();
+      super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public void clear() {
+      this.offsets.invalidate();
+      super.clear();
+    }
+  }
+
   /**
    * SectionRows allow RecyclerViews to be structured into sections of rows.
    */
@@ -24,6 +24,7 @@ abstract class KSListAdapter(
     }
 ) : ListAdapter<Any, KSViewHolder>(diffUtil) {
     private val sections = ArrayList<List<Any>>()
+    private val offsets = SectionOffsets()
 
     fun sections(): List<List<Any>> {
         return this.sections
@@ -31,9 +32,11 @@ abstract class KSListAdapter(
 
     fun clearSections() {
         this.sections.clear()
+        this.offsets.invalidate()
     }
 
     fun <T> addSection(section: List<T>) {
+        this.offsets.invalidateFrom(this.sections.size)
         this.sections.add(ArrayList<Any>(section))
     }
 
@@ -53,10 +56,12 @@ abstract class KSListAdapter(
     }
 
     fun <T> setSection(location: Int, section: List<T>) {
+        this.offsets.invalidateFrom(location)
         this.sections[location] = ArrayList<Any>(section)
     }
 
     fun <T> insertSection(location: Int, section: List<T>) {
+        this.offsets.invalidateFrom(location)
         this.sections.add(location, ArrayList<Any>(section))
     }
 
@@ -106,7 +111,7 @@ abstract class KSListAdapter(
     }
 
     override fun getItemCount(): Int {
-        return items().size
+        return this.offsets.itemCount(this.sections)
     }
 
     /**
@@ -133,19 +138,11 @@ abstract class KSListAdapter(
     }
 
     private fun sectionRowFromPosition(position: Int): SectionRow? {
-        val sectionRow = SectionRow()
-        var cursor = 0
-        for (section in this.sections) {
-            for (item in section) {
-                if (cursor == position) {
-                    return sectionRow
-                }
-                cursor++
-                sectionRow.nextRow()
-            }
-            sectionRow.nextSection()
+        val section = this.offsets.sectionOf(position, this.sections)
+        if (section == -1) {
+            return null
         }
-        return null
+        return SectionRow(section, position - this.offsets.offsetOf(section, this.sections))
     }
 
     private fun inflateView(viewGroup: ViewGroup, @LayoutRes viewType: Int): View {
@@ -0,0 +1,78 @@
+package com.kickstarter.ui.adapters
+
+/**
+ * Prefix sums of the sizes of an adapter's sections, so the section of a position is found with a
+ * binary search over the sections instead of walking every row before it.
+ *
+ * Offsets are recomputed lazily, and only from the first section that changed.
+ */
+class SectionOffsets {
+    private var offsets = IntArray(INITIAL_CAPACITY)
+    private var sectionCount = 0
+    private var itemCount = 0
+    private var validUntil = 0
+
+    /**
+     * Invalidates the offsets of the section at `location` and every section after it.
+     */
+    fun invalidateFrom(location: Int) {
+        validUntil = minOf(validUntil, maxOf(location, 0))
+    }
+
+    fun invalidate() = invalidateFrom(0)
+
+    fun itemCount(sections: List<List<*>>): Int {
+        ensureValid(sections)
+        return itemCount
+    }
+
+    /**
+     * Index of the section containing `position`, or -1 when the position is out of bounds.
+     */
+    fun sectionOf(position: Int, sections: List<List<*>>): Int {
+        ensureValid(sections)
+        if (position < 0 || position >= itemCount) {
+            return -1
+        }
+
+        // - Last section starting at or before the position, empty sections share their offset with the next one
+        var low = 0
+        var high = sectionCount - 1
+        while (low < high) {
+            val mid = (low + high + 1) ushr 1
+            if (offsets[mid] <= position) low = mid else high = mid - 1
+        }
+        return low
+    }
+
+    /**
+     * First position of the section at `section`.
+     */
+    fun offsetOf(section: Int, sections: List<List<*>>): Int {
+        ensureValid(sections)
+        return offsets[section]
+    }
+
+    private fun ensureValid(sections: List<List<*>>) {
+        if (validUntil == sections.size && sectionCount == sections.size) {
+            return
+        }
+        val from = minOf(validUntil, sectionCount, sections.size)
+        if (offsets.size < sections.size) {
+            offsets = offsets.copyOf(maxOf(sections.size, offsets.size * 2))
+        }
+
+        var offset = if (from == 0) 0 else offsets[from - 1] + sections[from - 1].size
+        for (i in from until sections.size) {
+            offsets[i] = offset
+            offset += sections[i].size
+        }
+        sectionCount = sections.size
+        itemCount = offset
+        validUntil = sections.size
+    }
+
+    private companion object {
+        const val INITIAL_CAPACITY = 8
+    }
+}
@@ -21,6 +21,7 @@ import com.kickstarter.libs.htmlparser.ImageViewElement
 import com.kickstarter.libs.htmlparser.TextViewElement
 import com.kickstarter.libs.htmlparser.VideoViewElement
 import com.kickstarter.libs.htmlparser.ViewElement
+import com.kickstarter.libs.video.VideoCache
 import com.kickstarter.ui.viewholders.EmptyViewHolder
 import com.kickstarter.ui.viewholders.KSViewHolder
 import com.kickstarter.ui.viewholders.projectcampaign.AudioElementViewHolder
@@ -219,6 +220,8 @@ class ViewElementAdapter(
             }
         }
 
+        prefetchUpcomingVideos(position)
+
         (element as? AudioViewElement)?.let { audioElement ->
             (viewHolder as? AudioElementViewHolder)?.let {
                 viewHolder.setIsRecyclable(false)
@@ -261,6 +264,20 @@ class ViewElementAdapter(
         super.onViewRecycled(holder)
     }
 
+    /**
+     * Caches the first seconds of the videos about to be scrolled into view, so they don't wait for
+     * the network once their player is prepared.
+     */
+    private fun prefetchUpcomingVideos(position: Int) {
+        val elements = this.elements.currentList
+        val last = minOf(position + VIDEO_PREFETCH_DISTANCE, elements.size - 1)
+        for (index in position + 1..last) {
+            (elements[index] as? VideoViewElement)?.let {
+                VideoCache.getInstance(requireActivity).prefetch(it.sourceUrl)
+            }
+        }
+    }
+
     private enum class ElementViewHolderType {
         TEXT,
         IMAGE,
@@ -294,6 +311,10 @@ class ViewElementAdapter(
         return lifecycleObservable.onNext(KSLifecycleEvent.DESTROY)
     }
 
+    companion object {
+        private const val VIDEO_PREFETCH_DISTANCE = 4
+    }
+
     interface FullScreenDelegate {
         fun onFullScreenOpened(index: Int, source: String, seekPosition: Long = 0L)
     }
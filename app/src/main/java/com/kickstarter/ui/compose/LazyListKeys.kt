@@ -0,0 +1,27 @@
+package com.kickstarter.ui.compose
+
+/**
+ * Returns [id] as the key of the lazy list items, so an item keeps its state and the scroll position
+ * follows it when items are inserted, removed or filtered. Lazy lists crash on a repeated key, so
+ * when two items share an id this returns `null` and the list falls back to keying by position.
+ */
+fun <T> stableKeyOrNull(items: List<T>, id: (T) -> Any): ((T) -> Any)? {
+    val ids = HashSet<Any>(items.size)
+    return if (items.all { ids.add(id(it)) }) id else null
+}
+
+/**
+ * Returns the key of the item at a position: its [id] when no other item of [items] shares it, its
+ * position otherwise. Unlike [stableKeyOrNull], only the items without a unique id are keyed by position,
+ * the other ones keep their state when the list changes. Keys are strings so they can be saved in a Bundle.
+ */
+fun <T> stableKeyOrPosition(items: List<T>, id: (T) -> Any?): (index: Int, item: T?) -> Any {
+    val ids = HashSet<Any>(items.size)
+    val repeatedIds = HashSet<Any>()
+    items.forEach { item -> id(item)?.let { if (!ids.add(it)) repeatedIds.add(it) } }
+
+    return { index, item ->
+        val itemId = item?.let(id)
+        if (itemId != null && itemId !in repeatedIds) "id:$itemId" else "position:$index"
+    }
+}
@@ -20,6 +20,7 @@ import com.kickstarter.R
 import com.kickstarter.databinding.FragmentDiscoveryBinding
 import com.kickstarter.libs.ActivityRequestCodes
 import com.kickstarter.libs.RefTag
+import com.kickstarter.libs.recyclerviewpagination.PrefetchDistance
 import com.kickstarter.libs.recyclerviewpagination.RecyclerViewPaginatorV2
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.AnimationUtils.crossFadeAndReverse
@@ -98,7 +99,8 @@ class DiscoveryFragment : Fragment() {
             recyclerViewPaginator = RecyclerViewPaginatorV2(
                 this,
                 { this@DiscoveryFragment.viewModel.inputs.nextPage() },
-                this@DiscoveryFragment.viewModel.outputs.isFetchingProjects()
+                this@DiscoveryFragment.viewModel.outputs.isFetchingProjects(),
+                PrefetchDistance()
             )
         }
 
@@ -5,6 +5,8 @@ import android.net.Uri
 import android.os.Build
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.utils.KsOptional
+import com.kickstarter.libs.utils.extensions.getRegisteredProject
+import com.kickstarter.libs.utils.extensions.getRegisteredProjectParam
 import com.kickstarter.libs.utils.extensions.query
 import com.kickstarter.models.Project
 import com.kickstarter.services.ApiClientTypeV2
@@ -25,7 +27,8 @@ object ProjectIntentMapper {
     )
 
     fun project(intent: Intent, apolloClient: ApolloClientTypeV2): io.reactivex.Observable<Project> {
-        val intentProject = projectFromIntent(intent)
+        val registeredProject = intent.getRegisteredProject()
+        val intentProject = projectFromIntent(intent, registeredProject)
         val projectFromParceledProject =
             if (intentProject == null) io.reactivex.Observable.empty() else io.reactivex.Observable.just(intentProject)
                 .switchMap { project: Project? ->
@@ -34,7 +37,7 @@ object ProjectIntentMapper {
                 .startWith(intentProject)
                 .retry(3)
 
-        val projectFromParceledParam = io.reactivex.Observable.just(paramFromIntent(intent) ?: "")
+        val projectFromParceledParam = io.reactivex.Observable.just(paramFromIntent(intent, registeredProject) ?: "")
             .filter { it.isNotEmpty() }
             .switchMap { slug: String? ->
                 slug?.let { apolloClient.getProject(it) }
@@ -49,7 +52,8 @@ object ProjectIntentMapper {
      * param rather than a parceled project.
      */
     fun project(intent: Intent, client: ApiClientTypeV2): io.reactivex.Observable<Project> {
-        val intentProject = projectFromIntent(intent)
+        val registeredProject = intent.getRegisteredProject()
+        val intentProject = projectFromIntent(intent, registeredProject)
         val projectFromParceledProject =
             if (intentProject == null) io.reactivex.Observable.empty() else io.reactivex.Observable.just(intentProject)
                 .flatMap { project: Project? ->
@@ -58,7 +62,7 @@ object ProjectIntentMapper {
                 .startWith(intentProject)
                 .retry(3)
 
-        val projectFromParceledParam = io.reactivex.Observable.just(paramFromIntent(intent) ?: "")
+        val projectFromParceledParam = io.reactivex.Observable.just(paramFromIntent(intent, registeredProject) ?: "")
             .filter { it.isNotEmpty() }
             .flatMap { param: String ->
                 client.fetchProject(param)
@@ -83,9 +87,11 @@ object ProjectIntentMapper {
     }
 
     /**
-     * Gets a parceled project from the intent data, may return `null`.
+     * Gets a registered or parceled project from the intent data, may return `null`.
      */
-    private fun projectFromIntent(intent: Intent): Project? {
+    private fun projectFromIntent(intent: Intent, registeredProject: Project?): Project? {
+        registeredProject?.let { return it }
+
         return if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
             intent.getParcelableExtra(IntentKey.PROJECT, Project::class.java)
         } else {
@@ -94,12 +100,15 @@ object ProjectIntentMapper {
     }
 
     /**
-     * Gets a project param from the intent data, may return `null`.
+     * Gets a project param from the intent data, may return `null`. The param of a registered project
+     * is only used when [registeredProject], read once by the caller, is no longer registered.
      */
-    private fun paramFromIntent(intent: Intent): String? {
+    private fun paramFromIntent(intent: Intent, registeredProject: Project?): String? {
         return if (intent.hasExtra(IntentKey.PROJECT_PARAM)) {
             intent.getStringExtra(IntentKey.PROJECT_PARAM)
-        } else paramFromUri(IntentMapper.uri(intent))
+        } else if (registeredProject == null) {
+            intent.getRegisteredProjectParam() ?: paramFromUri(IntentMapper.uri(intent))
+        } else null
     }
 
     /**
@@ -4,15 +4,13 @@ import android.view.View
 import android.widget.ImageView
 import androidx.core.view.isVisible
 import androidx.fragment.app.FragmentActivity
-import com.google.android.exoplayer2.MediaItem
 import com.google.android.exoplayer2.Player
-import com.google.android.exoplayer2.SimpleExoPlayer
-import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection
-import com.google.android.exoplayer2.trackselection.DefaultTrackSelector
 import com.kickstarter.R
 import com.kickstarter.databinding.ViewElementVideoFromHtmlBinding
 import com.kickstarter.libs.Build
 import com.kickstarter.libs.htmlparser.VideoViewElement
+import com.kickstarter.libs.utils.extensions.findActivity
+import com.kickstarter.libs.video.VideoPlayerPool
 import com.kickstarter.ui.adapters.projectcampaign.ViewElementAdapter
 import com.kickstarter.ui.extensions.loadImage
 import com.kickstarter.ui.viewholders.KSViewHolder
@@ -30,7 +28,6 @@ class VideoElementViewHolder(
     private val videoPlayerView = binding.videoPlayerView
 
     private var fullscreenButton: ImageView? = null
-    private var trackSelector: DefaultTrackSelector? = null
 
     private val listener = object : Player.Listener {
         override fun onPlaybackStateChanged(playbackState: Int) {
@@ -59,6 +56,14 @@ class VideoElementViewHolder(
         }
     }
 
+    // - The pool reused or released the player of this view's video
+    private val onPlayerReclaimed = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed ->
+        reclaimed.removeListener(listener)
+        if (videoPlayerView.player === reclaimed) {
+            videoPlayerView.player = null
+        }
+    }
+
     fun configure(element: VideoViewElement) {
         build = requireNotNull(environment().build())
         thumbnail.loadImage(element.thumbnailUrl, context())
@@ -77,111 +82,96 @@ class VideoElementViewHolder(
     }
 
     private fun loadVideo(url: String, seekPosition: Long) {
-        val adaptiveTrackSelectionFactory: AdaptiveTrackSelection.Factory = AdaptiveTrackSelection.Factory()
-        trackSelector = DefaultTrackSelector(context(), adaptiveTrackSelectionFactory)
-
-        val playerBuilder = SimpleExoPlayer.Builder(context())
-        trackSelector?.let { playerBuilder.setTrackSelector(it) }
-
-        val playerIsResuming = (seekPosition != 0L || playersMap[bindingAdapterPosition]?.currentPosition != 0L)
-
-        // Provide url to load the video from here
-        val player = playerBuilder.build().also { exoPlayer ->
-            exoPlayer.playWhenReady = false
-            if (seekPosition != 0L) {
-                exoPlayer.seekTo(seekPosition)
-                exoPlayer.playWhenReady = true
-            } else {
-                // add player with its index to map
-                if (playersMap.containsKey(bindingAdapterPosition)) {
-                    playersMap[bindingAdapterPosition]?.currentPosition?.let {
-                        exoPlayer.seekTo(it)
-                        if (it != 0L)
-                            exoPlayer.playWhenReady = true
-                    }
-                }
-            }
-            exoPlayer.setMediaItem(MediaItem.fromUri(url), !playerIsResuming)
-            exoPlayer.prepare()
+        val playerPool = VideoPlayerPool.shared(context()).also { pool = it }
+
+        // - A video that already has a player keeps its buffer and position, ie. coming back from full screen
+        val isHandoff = playerPool.peek(url) != null
+        val player = playerPool.acquire(url, context().findActivity(), onPlayerReclaimed)
+
+        if (seekPosition != 0L) {
+            if (!isHandoff) player.seekTo(seekPosition)
+            player.playWhenReady = true
         }
 
+        videoPlayerView.player?.removeListener(listener)
         videoPlayerView.apply {
             // When changing track, retain the latest frame instead of showing a black screen
             this.setKeepContentOnPlayerReset(true)
             // We'll show the controller, change to true if want controllers as pause and start
             useController = true
+            // - Set again even if it's the same player, full screen might have taken its surface
+            this.player = null
             this.player = player
-            this.player?.addListener(listener)
         }
+        player.addListener(listener)
 
-        playersMap[bindingAdapterPosition] = player
+        videoUrls[bindingAdapterPosition] = url
     }
 
     private fun openFullscreenDialog(url: String) {
         fullScreenDelegate.onFullScreenOpened(
             bindingAdapterPosition, url,
-            playersMap[bindingAdapterPosition]?.currentPosition ?: 0
+            playerAt(bindingAdapterPosition)?.currentPosition ?: 0
         )
     }
 
+    /**
+     * Detaches the player from this view, it stays in the [VideoPlayerPool] until evicted so
+     * scrolling back to the video doesn't buffer it again.
+     */
     fun releasePlayer(index: Int) {
-        playersMap[index]?.let {
-            it.release()
-            trackSelector = null
+        videoPlayerView.player?.let {
+            it.removeListener(listener)
+            it.playWhenReady = false
+        }
+        videoUrls[index]?.let { pool?.detach(it, onPlayerReclaimed) }
+        videoPlayerView.player = null
+        if (currentPlayingVideo == index) {
+            currentPlayingVideo = null
         }
     }
 
     companion object {
-        // for hold all players generated
-        private var playersMap: MutableMap<Int, SimpleExoPlayer?> = mutableMapOf()
+        private var pool: VideoPlayerPool? = null
 
-        // for hold current player
-        private var currentPlayingVideo: Pair<Int, SimpleExoPlayer?>? = null
+        // - Url of the video bound at each adapter position, the players themselves live in the pool
+        private val videoUrls: MutableMap<Int, String> = mutableMapOf()
 
-        fun releaseAllPlayers() {
-            val itr = playersMap.iterator()
-            while (itr.hasNext()) {
-                val entry = itr.next()
+        // for hold current player index
+        private var currentPlayingVideo: Int? = null
 
-                entry.value?.release()
-                entry.setValue(null)
-                itr.remove()
-            }
+        private fun playerAt(index: Int) = videoUrls[index]?.let { pool?.peek(it) }
 
-            playersMap.clear()
-            playersMap = mutableMapOf()
-            currentPlayingVideo?.second?.release()
+        fun releaseAllPlayers() {
+            videoUrls.values.forEach { pool?.release(it) }
+            videoUrls.clear()
             currentPlayingVideo = null
         }
 
         fun releasePlayersOnPause() {
-            playersMap.forEach { item ->
-                item.value?.playWhenReady = false
+            videoUrls.keys.forEach { index ->
+                playerAt(index)?.playWhenReady = false
             }
         }
 
         fun setPlayerSeekPosition(index: Int, seekPosition: Long) {
-            playersMap[index]?.seekTo(seekPosition)
+            playerAt(index)?.seekTo(seekPosition)
         }
 
         // call when scroll to pause any playing player
         private fun pauseCurrentPlayingVideo() {
-            if (currentPlayingVideo != null) {
-                currentPlayingVideo?.second?.playWhenReady = false
-            }
+            currentPlayingVideo?.let { playerAt(it)?.playWhenReady = false }
         }
 
         fun playIndexThenPausePreviousPlayer(index: Int) {
-            if (playersMap[index]?.playWhenReady == false) {
+            val player = playerAt(index)
+            if (player?.playWhenReady == false) {
                 pauseCurrentPlayingVideo()
-                playersMap[index]?.currentPosition?.let {
-                    playersMap[index]?.isCurrentWindowSeekable
-                    if (it != 0L) {
-                        playersMap[index]?.playWhenReady = true
-                    }
+                if (player.currentPosition != 0L) {
+                    player.playWhenReady = true
                 }
 
-                currentPlayingVideo = Pair(index, playersMap[index])
+                currentPlayingVideo = index
             }
         }
     }
@@ -1,26 +1,18 @@
 package com.kickstarter.ui.views
 
 import android.content.Context
-import android.net.Uri
 import android.util.AttributeSet
 import android.view.LayoutInflater
 import android.view.View
 import android.widget.ImageView
 import androidx.constraintlayout.widget.ConstraintLayout
 import androidx.core.view.isVisible
-import com.google.android.exoplayer2.C
 import com.google.android.exoplayer2.ExoPlayer
-import com.google.android.exoplayer2.MediaItem
 import com.google.android.exoplayer2.Player
-import com.google.android.exoplayer2.source.MediaSource
-import com.google.android.exoplayer2.source.ProgressiveMediaSource
-import com.google.android.exoplayer2.source.hls.HlsMediaSource
-import com.google.android.exoplayer2.trackselection.AdaptiveTrackSelection
-import com.google.android.exoplayer2.trackselection.DefaultTrackSelector
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSource
-import com.google.android.exoplayer2.util.Util
 import com.kickstarter.R
 import com.kickstarter.databinding.VideoPlayerLayoutBinding
+import com.kickstarter.libs.utils.extensions.findActivity
+import com.kickstarter.libs.video.VideoPlayerPool
 import com.kickstarter.ui.data.VideoModelElement
 
 class VideoPlayerViewer @JvmOverloads constructor(
@@ -39,7 +31,6 @@ class VideoPlayerViewer @JvmOverloads constructor(
     private var player: ExoPlayer? = null
 
     private var fullscreenButton: ImageView? = null
-    private var trackSelector: DefaultTrackSelector? = null
 
     private var playWhenReady = false
     private var currentItem = 0
@@ -66,6 +57,15 @@ class VideoPlayerViewer @JvmOverloads constructor(
         }
     }
 
+    // - The pool reused or released the player of this view's video
+    private val onPlayerReclaimed = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed ->
+        reclaimed.removeListener(playbackStateListener)
+        if (player === reclaimed) {
+            videoPlayerView.player = null
+            player = null
+        }
+    }
+
     fun setVideoModelElement(element: VideoModelElement) {
         this.element = element
         initializePlayer()
@@ -82,29 +82,25 @@ class VideoPlayerViewer @JvmOverloads constructor(
     }
 
     fun initializePlayer() {
-        if (element == null)
-            return
-        val adaptiveTrackSelectionFactory: AdaptiveTrackSelection.Factory = AdaptiveTrackSelection.Factory()
-        trackSelector = DefaultTrackSelector(context, adaptiveTrackSelectionFactory)
+        val sourceUrl = element?.sourceUrl ?: return
 
         fullscreenButton = videoPlayerView.findViewById(R.id.exo_fullscreen_icon)
 
-        player = ExoPlayer.Builder(context).apply {
-            trackSelector?.let { setTrackSelector(it) }
-        }.build()
+        val pool = VideoPlayerPool.shared(context)
+        // - Coming back from full screen the pooled player is already buffered at the right position
+        val isHandoff = pool.peek(sourceUrl) != null
+
+        player = pool.acquire(sourceUrl, context.findActivity(), onPlayerReclaimed)
             .also { exoPlayer ->
-                videoPlayerView.player = exoPlayer
-                element?.sourceUrl?.let {
-                    exoPlayer.setMediaItem(MediaItem.fromUri(it))
-                    val playerIsResuming = (playbackPosition != 0L)
-                    exoPlayer.setMediaSource(getMediaSource(it), playerIsResuming)
-                }
                 exoPlayer.addListener(playbackStateListener)
-                exoPlayer.seekTo(playbackPosition)
+                if (!isHandoff) {
+                    exoPlayer.seekTo(playbackPosition)
+                }
                 exoPlayer.playWhenReady = playWhenReady
-                exoPlayer.prepare()
             }
 
+        // - Set again even if it's the same player, full screen might have taken its surface
+        videoPlayerView.player = null
         videoPlayerView.player = player
 
         fullscreenButton?.setOnClickListener {
@@ -120,27 +116,20 @@ class VideoPlayerViewer @JvmOverloads constructor(
             fullscreenButton?.setImageResource(R.drawable.ic_fullscreen_close)
     }
 
-    private fun getMediaSource(videoUrl: String): MediaSource {
-        val dataSourceFactory = DefaultHttpDataSource.Factory()
-        val videoUri = Uri.parse(videoUrl)
-        val fileType = Util.inferContentType(videoUri)
-
-        return if (fileType == C.TYPE_HLS) {
-            HlsMediaSource.Factory(dataSourceFactory).createMediaSource(MediaItem.fromUri(videoUri))
-        } else {
-            ProgressiveMediaSource.Factory(dataSourceFactory)
-                .createMediaSource(MediaItem.fromUri(videoUri))
-        }
-    }
-
+    /**
+     * Pauses and detaches the player, it is kept in the [VideoPlayerPool] so full screen playback or
+     * resuming this screen continues from its buffer.
+     */
     fun releasePlayer() {
         player?.let { exoPlayer ->
             playbackPosition = exoPlayer.currentPosition
             currentItem = exoPlayer.currentMediaItemIndex
             playWhenReady = exoPlayer.playWhenReady
             exoPlayer.removeListener(playbackStateListener)
-            exoPlayer.release()
+            exoPlayer.playWhenReady = false
         }
+        element?.sourceUrl?.let { VideoPlayerPool.shared(context).detach(it, onPlayerReclaimed) }
+        videoPlayerView.player = null
         player = null
     }
 
@@ -9,6 +9,8 @@ import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.RefTag
+import com.kickstarter.libs.deeplink.DeepLinkMatch
+import com.kickstarter.libs.deeplink.DeepLinkRouter
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.rx.transformers.Transformers.combineLatestPair
@@ -16,21 +18,10 @@ import com.kickstarter.libs.utils.UrlUtils.appendRefTag
 import com.kickstarter.libs.utils.UrlUtils.refTag
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.canUpdateFulfillment
-import com.kickstarter.libs.utils.extensions.isCheckoutUri
-import com.kickstarter.libs.utils.extensions.isEmailDomain
 import com.kickstarter.libs.utils.extensions.isKSDomain
-import com.kickstarter.libs.utils.extensions.isMainPage
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isNull
-import com.kickstarter.libs.utils.extensions.isProjectCommentUri
-import com.kickstarter.libs.utils.extensions.isProjectPreviewUri
-import com.kickstarter.libs.utils.extensions.isProjectSaveUri
-import com.kickstarter.libs.utils.extensions.isProjectSurveyUri
-import com.kickstarter.libs.utils.extensions.isProjectUpdateCommentsUri
-import com.kickstarter.libs.utils.extensions.isProjectUpdateUri
 import com.kickstarter.libs.utils.extensions.isProjectUri
-import com.kickstarter.libs.utils.extensions.isRewardFulfilledDl
-import com.kickstarter.libs.utils.extensions.isSettingsUrl
 import com.kickstarter.models.Project
 import com.kickstarter.models.User
 import com.kickstarter.services.ApiClientTypeV2
@@ -100,6 +91,7 @@ interface DeepLinkViewModel {
         private val apiClientType = requireNotNull(environment.apiClientV2())
         private val currentUser = requireNotNull(environment.currentUserV2())
         private val webEndpoint = requireNotNull(environment.webEndpoint())
+        private val router = DeepLinkRouter(webEndpoint)
         private val projectObservable: Observable<Project>
         private val startPreLaunchProjectActivity = BehaviorSubject.create<Pair<Uri, Project>>()
 
@@ -108,6 +100,10 @@ interface DeepLinkViewModel {
         private val disposables = CompositeDisposable()
         private fun intent() = intent?.let { Observable.just(it) } ?: Observable.empty()
 
+        // - The intent's URI is classified once, every output below reads from the same match
+        private val deepLinkMatch = intent?.data?.let { router.match(it) }
+        private fun deepLinkMatch() = deepLinkMatch?.let { Observable.just(it) } ?: Observable.empty()
+
         val outputs: Outputs = this
 
         init {
@@ -116,9 +112,12 @@ interface DeepLinkViewModel {
                 .map { obj: Intent -> obj.data }
                 .ofType(Uri::class.java)
 
+            val matchFromIntent = deepLinkMatch()
+
             // - Takes URI from Marketing email domain, executes network call that and redirection took place
-            val uriFromEmailDomain = uriFromIntent
-                .filter { it.isEmailDomain() }
+            val uriFromEmailDomain = matchFromIntent
+                .filter { it.isEmailDomain }
+                .map { it.uri }
                 .switchMap {
                     externalCall.obtainUriFromRedirection(it)
                 }
@@ -139,8 +138,8 @@ interface DeepLinkViewModel {
                 }
 
             // - Take URI from main page Open button with URL - ksr://www.kickstarter.com/?app_banner=1&ref=nav
-            val mainPageUri = uriFromIntent
-                .filter { it.isMainPage() }
+            val mainPageUri = matchFromIntent
+                .filter { it.isMainPage }
 
             mainPageUri
                 .subscribe {
@@ -157,8 +156,8 @@ interface DeepLinkViewModel {
                     startDiscoveryActivity.onNext(Unit)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { lastPathSegmentIsProjects(it) }
+            matchFromIntent
+                .filter { it.lastPathSegmentIsProjects }
                 .compose(Transformers.ignoreValuesV2())
                 .subscribe {
                     startDiscoveryActivity.onNext(it)
@@ -176,86 +175,61 @@ interface DeepLinkViewModel {
                 .filter { it.value.isNotNull() }
                 .map { it.value }
 
-            uriFromIntent
-                .filter {
-                    !it.isProjectSaveUri(webEndpoint)
-                }
-                .filter {
-                    !it.isCheckoutUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectPreviewUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectCommentUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectUpdateUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectUpdateCommentsUri(webEndpoint)
-                }
+            matchFromIntent
                 .filter {
-                    !it.isRewardFulfilledDl()
+                    !it.isProjectSave &&
+                        !it.isCheckout &&
+                        !it.isProjectPreview &&
+                        !it.isProjectComment &&
+                        !it.isProjectUpdate &&
+                        !it.isProjectUpdateComments &&
+                        !it.isRewardFulfilled &&
+                        it.isProject
                 }
-                .filter {
-                    it.isProjectUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+                .map { appendRefTagIfNone(it.uri) }
                 .compose(Transformers.combineLatestPair(projectObservable))
                 .subscribe {
                     onDeepLinkToProjectPage(it, startProjectActivity)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectSaveUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            matchFromIntent
+                .filter { it.isProjectSave }
+                .map { appendRefTagIfNone(it.uri) }
                 .compose(Transformers.combineLatestPair(projectObservable))
                 .subscribe {
                     onDeepLinkToProjectPage(it, startProjectActivityToSave)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectCommentUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            matchFromIntent
+                .filter { it.isProjectComment }
+                .map { appendRefTagIfNone(it.uri) }
                 .subscribe {
                     startProjectActivityForComment.onNext(it)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectUpdateUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectUpdateCommentsUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            matchFromIntent
+                .filter { it.isProjectUpdate && !it.isProjectUpdateComments }
+                .map { appendRefTagIfNone(it.uri) }
                 .subscribe {
                     startProjectActivityForUpdate.onNext(it)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectUpdateCommentsUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            matchFromIntent
+                .filter { it.isProjectUpdateComments }
+                .map { appendRefTagIfNone(it.uri) }
                 .subscribe {
                     startProjectActivityForCommentToUpdate.onNext(it)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { it.isSettingsUrl() }
+            matchFromIntent
+                .filter { it.isSettings }
                 .subscribe {
                     updateUserPreferences.onNext(true)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { it.isProjectSurveyUri(webEndpoint) }
-                .map { appendRefTagIfNone(it) }
+            matchFromIntent
+                .filter { it.isProjectSurvey }
+                .map { appendRefTagIfNone(it.uri) }
                 .withLatestFrom(this.currentUser.isLoggedIn) { url, isLoggedIn ->
                     return@withLatestFrom Pair(url, isLoggedIn)
                 }
@@ -295,31 +269,21 @@ interface DeepLinkViewModel {
                     finishDeeplinkActivity.onNext(Unit)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { it.isCheckoutUri(webEndpoint) }
-                .map { appendRefTagIfNone(it) }
+            matchFromIntent
+                .filter { it.isCheckout }
+                .map { appendRefTagIfNone(it.uri) }
                 .subscribe {
                     startProjectActivityWithCheckout.onNext(it)
                 }.addToDisposable(disposables)
 
-            val projectPreview = uriFromIntent
-                .filter { it.isProjectPreviewUri(webEndpoint) }
-
-            val unsupportedDeepLink = uriFromIntent
-                .filter { !lastPathSegmentIsProjects(it) }
-                .filter { !it.isSettingsUrl() }
-                .filter { !it.isProjectSaveUri(webEndpoint) }
-                .filter { !it.isCheckoutUri(webEndpoint) }
-                .filter { !it.isProjectCommentUri(webEndpoint) }
-                .filter { !it.isProjectUpdateUri(webEndpoint) }
-                .filter { !it.isProjectUpdateCommentsUri(webEndpoint) }
-                .filter { !it.isProjectUri(webEndpoint) }
-                .filter { !it.isRewardFulfilledDl() }
-                .filter { !it.isEmailDomain() }
-                .filter { !it.isProjectSurveyUri(webEndpoint) }
+            val projectPreview = matchFromIntent
+                .filter { it.isProjectPreview }
+
+            val unsupportedDeepLink = matchFromIntent
+                .filter { !isSupported(it) }
 
             Observable.merge(projectPreview, unsupportedDeepLink)
-                .map { obj: Uri -> obj.toString() }
+                .map { it.uri.toString() }
                 .filter { !TextUtils.isEmpty(it) }
                 .subscribe {
                     startBrowser.onNext(it)
@@ -342,7 +306,9 @@ interface DeepLinkViewModel {
                 .compose(Transformers.neverErrorV2())
                 .distinctUntilChanged()
 
+        // - A deep link opens the project once, even if the client emits a cached project before the network one
         private fun getProject(it: String) = apolloClient.getProject(it)
+            .take(1)
             .materialize()
             .share()
             .distinctUntilChanged()
@@ -360,8 +326,18 @@ interface DeepLinkViewModel {
             } else uri
         }
 
-        private fun lastPathSegmentIsProjects(uri: Uri): Boolean {
-            return uri.lastPathSegment == "projects"
+        private fun isSupported(match: DeepLinkMatch): Boolean {
+            return match.lastPathSegmentIsProjects ||
+                match.isSettings ||
+                match.isProjectSave ||
+                match.isCheckout ||
+                match.isProjectComment ||
+                match.isProjectUpdate ||
+                match.isProjectUpdateComments ||
+                match.isProject ||
+                match.isRewardFulfilled ||
+                match.isEmailDomain ||
+                match.isProjectSurvey
         }
 
         private fun updateSettings(
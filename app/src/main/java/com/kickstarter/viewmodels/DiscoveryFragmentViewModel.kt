@@ -10,7 +10,6 @@ import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.loadmore.ApolloPaginateV2
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventContextValues.ContextPageName.DISCOVER
-import com.kickstarter.libs.utils.ListUtils
 import com.kickstarter.libs.utils.RefTagUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.combineProjectsAndParams
@@ -210,9 +209,7 @@ interface DiscoveryFragmentViewModel {
                     }
                 }
                 .clearWhenStartingOver(false)
-                .concater { xs, ys ->
-                    ListUtils.concatDistinct(xs, ys)
-                }
+                .concatDistinctBy { it.id() }
                 .build()
 
             paginator.isFetching
@@ -31,6 +31,7 @@ import com.kickstarter.libs.utils.extensions.isNull
 import com.kickstarter.libs.utils.extensions.isTrue
 import com.kickstarter.libs.utils.extensions.negate
 import com.kickstarter.libs.utils.extensions.parseToDouble
+import com.kickstarter.libs.utils.extensions.pledgeAmountTotal
 import com.kickstarter.mock.factories.ShippingRuleFactory
 import com.kickstarter.models.Backing
 import com.kickstarter.models.Checkout
@@ -621,9 +622,12 @@ interface PledgeFragmentViewModel {
                 .subscribe { this.rewardAndAddOns.onNext(it) }
                 .addToDisposable(disposables)
 
+            // - Read once from the arguments, instead of on every reward, add-on or quantity change
+            val isLatePledge = backing.blockingLast(Backing.builder().build()).isPostCampaign()
+
             val pledgeAmountHeader = this.rewardAndAddOns
                 .filter { !RewardUtils.isNoReward(it.first()) }
-                .map { getPledgeAmount(it, backing.blockingLast(Backing.builder().build()).isPostCampaign()) }
+                .map { pledgeAmountTotal(it.first(), it.drop(1), isLatePledge) }
 
             pledgeAmountHeader
                 .compose<Pair<Double, Project>>(combineLatestPair(project))
@@ -1652,36 +1656,6 @@ interface PledgeFragmentViewModel {
 
         private fun getAmountDigital(pledgeAmount: Double, bAmount: Double, pReason: PledgeReason) = pledgeAmount + bAmount
 
-        /**
-         *  Calculate the pledge amount for the selected reward + addOns
-         */
-        private fun getPledgeAmount(rewards: List<Reward>, isLatePledge: Boolean): Double {
-            var totalPledgeAmount = 0.0
-            rewards.forEach {
-                totalPledgeAmount += if (isLatePledge) {
-                    if (it.latePledgeAmount() > 0) {
-                        if (RewardUtils.isNoReward(it) && !it.isAddOn()) it.latePledgeAmount() // - Cost of the selected Reward
-                        else it.quantity()?.let { q -> (q * it.latePledgeAmount()) } ?: it.latePledgeAmount() // - Cost of each addOn
-                    } else {
-                        // We don't have a late pledge amount to work with, use the default minimum
-                        if (RewardUtils.isNoReward(it) && !it.isAddOn()) it.minimum() // - Default cost of the selected Reward
-                        else it.quantity()?.let { q -> (q * it.minimum()) } ?: it.minimum() // - Default cost of each addOn
-                    }
-                } else {
-                    // We have a pledge amount to work with, use it
-                    if (it.pledgeAmount() > 0.0) {
-                        if (RewardUtils.isNoReward(it) && !it.isAddOn()) it.pledgeAmount() // - Cost of the selected Reward during the campaign
-                        else it.quantity()?.let { q -> (q * it.pledgeAmount()) } ?: it.pledgeAmount() // - Cost of each addOn during the campaign
-                    } else {
-                        // We don't have a pledge amount to work with, use the default minimum
-                        if (RewardUtils.isNoReward(it) && !it.isAddOn()) it.minimum() // - Default cost of the selected Reward
-                        else it.quantity()?.let { q -> (q * it.minimum()) } ?: it.minimum() // - Default cost of each addOn
-                    }
-                }
-            }
-            return totalPledgeAmount
-        }
-
         /**
          *  Logic to hide/show the shipping location sections
          *  @return Pair.first ShippingRulesSection -> This section shows/Hide the shippingSelector for shippable rewards without addOns
@@ -187,12 +187,7 @@ interface SearchViewModel {
                     env.urls()?.api()?.moreProjects()
                 }
                 .clearWhenStartingOver(true)
-                .concater { xs: List<Project>, ys: List<Project> ->
-                    ListUtils.concatDistinct(
-                        xs,
-                        ys
-                    )
-                }
+                .concatDistinctBy { it.id() }
                 .loadWithParams {
                     apiClient.fetchProjects(it)
                 }
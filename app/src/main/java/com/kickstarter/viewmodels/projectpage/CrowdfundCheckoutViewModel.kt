@@ -10,11 +10,9 @@ import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.utils.RefTagUtils
 import com.kickstarter.libs.utils.RewardUtils
 import com.kickstarter.libs.utils.ThirdPartyEventValues
-import com.kickstarter.libs.utils.extensions.checkoutTotalAmount
 import com.kickstarter.libs.utils.extensions.expandedRewardsAndAddOnsList
-import com.kickstarter.libs.utils.extensions.pledgeAmountTotal
+import com.kickstarter.libs.utils.extensions.pledgeSummary
 import com.kickstarter.libs.utils.extensions.rewardsAndAddOnsList
-import com.kickstarter.libs.utils.extensions.shippingCostIfShipping
 import com.kickstarter.models.Backing
 import com.kickstarter.models.Location
 import com.kickstarter.models.Project
@@ -232,10 +230,11 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
             )
             shippingRule = pData.shippingRule()
 
+            val summary = pData.pledgeSummary()
             if (!isNoReward) {
-                shippingAmount = pData.shippingCostIfShipping()
-                bonusAmount = pData.bonusAmount()
-                totalAmount = pData.checkoutTotalAmount()
+                shippingAmount = summary.shippingAmount
+                bonusAmount = summary.bonusAmount
+                totalAmount = summary.totalAmount
             }
 
             if (isNoReward) {
@@ -244,14 +243,16 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
             }
 
             checkoutData = CheckoutData.builder()
-                .amount(pData.pledgeAmountTotal())
+                .amount(summary.pledgeAmount)
                 .paymentType(CreditCardPaymentType.CREDIT_CARD)
                 .bonusAmount(bonusAmount)
-                .shippingAmount(pData.shippingCostIfShipping())
+                .shippingAmount(summary.shippingAmount)
                 .build()
         }
     }
 
+    private fun pledgeSummary() = pledgeData?.pledgeSummary()
+
     fun provideErrorAction(errorAction: (message: String?) -> Unit) {
         this.errorAction = errorAction
     }
@@ -342,7 +343,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
                     project = Observable.just(project),
                     currentUser = requireNotNull(environment.currentUserV2()),
                     apolloClient = apolloClient,
-                    draftPledge = Pair(pledgeData?.pledgeAmountTotal(), shippingAmount),
+                    draftPledge = Pair(pledgeSummary()?.pledgeAmount, shippingAmount),
                     checkoutAndPledgeData = Observable.just(Pair(checkoutData, pledgeData)),
                     eventName = ThirdPartyEventValues.EventName.ADD_PAYMENT_INFO
                 ).asFlow().collect {
@@ -383,7 +384,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
         val locationID = pledgeData?.shippingRule()?.location()?.id()?.toString()
         val backingData = selectedPaymentMethod.getBackingData(
             proj = project,
-            amount = pledgeData?.checkoutTotalAmount().toString(),
+            amount = pledgeSummary()?.totalAmount.toString(),
             locationId = if (shouldNotSendId) null else locationID,
             rewards = RewardUtils.extendAddOns(pledgeData?.rewardsAndAddOnsList() ?: emptyList<Reward>()),
             cookieRefTag = refTag
@@ -438,7 +439,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
 
                     getUpdateBackingData(
                         backing,
-                        pledgeData?.checkoutTotalAmount().toString(),
+                        pledgeSummary()?.totalAmount.toString(),
                         locationId = locationIdOrNull,
                         rwListOrEmpty,
                         selectedPaymentMethod
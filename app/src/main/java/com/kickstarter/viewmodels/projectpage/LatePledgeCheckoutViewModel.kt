@@ -4,13 +4,12 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import androidx.lifecycle.viewModelScope
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.utils.PledgeSummary
 import com.kickstarter.libs.utils.RewardUtils
-import com.kickstarter.libs.utils.extensions.checkoutTotalAmount
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.locationId
-import com.kickstarter.libs.utils.extensions.pledgeAmountTotal
+import com.kickstarter.libs.utils.extensions.pledgeSummary
 import com.kickstarter.libs.utils.extensions.rewardsAndAddOnsList
-import com.kickstarter.libs.utils.extensions.shippingCostIfShipping
 import com.kickstarter.models.Backing
 import com.kickstarter.models.Checkout
 import com.kickstarter.models.CheckoutPayment
@@ -56,6 +55,7 @@ data class LatePledgeCheckoutUIState(
 class LatePledgeCheckoutViewModel(val environment: Environment) : ViewModel() {
 
     private var pledgeData: PledgeData? = null
+    private var pledgeSummary: PledgeSummary? = null
     private var checkoutData: CheckoutData? = null
     private val apolloClient = requireNotNull(environment.apolloClientV2())
     private val analytics = requireNotNull(environment.analytics())
@@ -205,7 +205,7 @@ class LatePledgeCheckoutViewModel(val environment: Environment) : ViewModel() {
     fun onPledgeButtonClicked(selectedCard: StoredCard?) {
         this.pledgeData?.let {
             val project = it.projectData().project()
-            createPaymentIntentForCheckout(selectedCard, project, it.checkoutTotalAmount())
+            createPaymentIntentForCheckout(selectedCard, project, it.pledgeSummary().totalAmount)
         }
     }
 
@@ -375,8 +375,8 @@ class LatePledgeCheckoutViewModel(val environment: Environment) : ViewModel() {
                 userEmail = userEmail,
                 isLoading = isLoading,
                 selectedRewards = selectedRewards.toList(),
-                shippingAmount = this.pledgeData?.shippingCostIfShipping() ?: 0.0,
-                checkoutTotal = this.pledgeData?.checkoutTotalAmount() ?: 0.0,
+                shippingAmount = this.pledgeSummary?.shippingAmount ?: 0.0,
+                checkoutTotal = this.pledgeSummary?.totalAmount ?: 0.0,
                 isPledgeButtonEnabled = buttonEnabled,
             )
         )
@@ -420,7 +420,7 @@ class LatePledgeCheckoutViewModel(val environment: Environment) : ViewModel() {
         this.pledgeData?.let { pData ->
             val locationId = if (!RewardUtils.isNoReward(pData.reward())) pData.locationId() else null
             val rewards = if (!RewardUtils.isNoReward(pData.reward())) pData.rewardsAndAddOnsList() else emptyList()
-            val totalPledge = pData.checkoutTotalAmount()
+            val totalPledge = pData.pledgeSummary().totalAmount
 
             this.pledgeData?.projectData()?.let { projectData ->
                 if (projectData.project()
@@ -459,8 +459,10 @@ class LatePledgeCheckoutViewModel(val environment: Environment) : ViewModel() {
     }
 
     fun providePledgeData(pledgeData: PledgeData) {
+        val pledgeSummary = pledgeData.pledgeSummary()
         this.pledgeData = pledgeData
-        this.checkoutData = createCheckoutData(pledgeData.shippingCostIfShipping(), pledgeData.pledgeAmountTotal(), pledgeData.bonusAmount())
+        this.pledgeSummary = pledgeSummary
+        this.checkoutData = createCheckoutData(pledgeSummary.shippingAmount, pledgeSummary.pledgeAmount, pledgeSummary.bonusAmount)
         viewModelScope.launch {
             selectedRewards.clear()
             pledgeData.addOns()?.let { addOns ->
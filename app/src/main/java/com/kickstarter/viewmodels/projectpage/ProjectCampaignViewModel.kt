@@ -4,13 +4,16 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.htmlparser.HTMLParser
+import com.kickstarter.libs.htmlparser.ParsedStoryCache
 import com.kickstarter.libs.htmlparser.VideoViewElement
 import com.kickstarter.libs.htmlparser.ViewElement
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.ui.data.ProjectData
 import io.reactivex.Observable
+import io.reactivex.Scheduler
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 
 class ProjectCampaignViewModel {
@@ -29,11 +32,15 @@ class ProjectCampaignViewModel {
         fun updateVideoCloseSeekPosition(): Observable<Pair<Int, Long>>
     }
 
-    class ProjectCampaignViewModel(val environment: Environment) : ViewModel(), Inputs, Outputs {
+    class ProjectCampaignViewModel(
+        val environment: Environment,
+        private val storyCache: ParsedStoryCache = ParsedStoryCache.shared
+    ) : ViewModel(), Inputs, Outputs {
         val inputs: Inputs = this
         val outputs: Outputs = this
 
         private val htmlParser = HTMLParser()
+        private val parsingScheduler: Scheduler = environment.schedulerV2() ?: Schedulers.computation()
         private val projectDataInput = BehaviorSubject.create<ProjectData>()
         private val storyViewElementsList = BehaviorSubject.create<List<ViewElement>>()
 
@@ -52,8 +59,7 @@ class ProjectCampaignViewModel {
 
             project.distinctUntilChanged()
                 .filter { it.story().isNotNull() }
-                .map { requireNotNull(it.story()) }
-                .map { htmlParser.parse(it) }
+                .switchMap { storyViewElements(it.id(), requireNotNull(it.story())) }
                 .subscribe {
                     storyViewElementsList.onNext(it)
                 }.addToDisposable(disposables)
@@ -98,6 +104,32 @@ class ProjectCampaignViewModel {
                 }.addToDisposable(disposables)
         }
 
+        /**
+         * Parses the story off the main thread, emitting the first elements as soon as they are parsed
+         * and then the whole story. Stories already parsed are emitted from [storyCache], a parse that is
+         * disposed stops and is not cached.
+         */
+        private fun storyViewElements(projectId: Long, story: String): Observable<List<ViewElement>> =
+            Observable.defer {
+                storyCache.get(projectId, story)?.let { return@defer Observable.just(it) }
+
+                Observable.create<List<ViewElement>> { emitter ->
+                    var firstElementsCount = 0
+                    // - Leaving the campaign, or another project, stops the parse instead of walking the rest of the story
+                    val viewElements = htmlParser.parse(story, FIRST_ELEMENTS_COUNT, isCancelled = { emitter.isDisposed }) {
+                        firstElementsCount = it.size
+                        emitter.onNext(it)
+                    }
+                    if (emitter.isDisposed) return@create
+                    storyCache.put(projectId, story, viewElements)
+
+                    if (viewElements.size != firstElementsCount) {
+                        emitter.onNext(viewElements)
+                    }
+                    emitter.onComplete()
+                }.subscribeOn(parsingScheduler)
+            }
+
         // - Inputs
         override fun configureWith(projectData: ProjectData) =
             this.projectDataInput.onNext(projectData)
@@ -120,6 +152,11 @@ class ProjectCampaignViewModel {
         }
     }
 
+    companion object {
+        // - Roughly two screens of story, rendered before the rest of a long story is parsed
+        private const val FIRST_ELEMENTS_COUNT = 30
+    }
+
     class Factory(private val environment: Environment) : ViewModelProvider.Factory {
         override fun <T : ViewModel> create(modelClass: Class<T>): T {
             return ProjectCampaignViewModel(environment) as T
@@ -103,7 +103,8 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
                             config = config,
                             projectRewards = rewardsList,
                             viewModelScope,
-                            Dispatchers.IO
+                            Dispatchers.IO,
+                            indexDispatcher = Dispatchers.Default
                         )
                     }
                     shippingRulesUseCase?.invoke()
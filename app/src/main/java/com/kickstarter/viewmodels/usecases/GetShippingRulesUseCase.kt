@@ -16,6 +16,7 @@ import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
 
 data class ShippingRulesState(
     val shippingRules: List<ShippingRule> = emptyList(),
@@ -34,6 +35,7 @@ data class ShippingRulesState(
  *  Should be provided with:
  *  @param scope
  *  @param dispatcher
+ *  @param indexDispatcher to build the [ShippingRulesIndex] of the project rewards, once per UseCase
  *
  *  As the UseCase is lifecycle agnostic and is scoped to the class that uses it.
  */
@@ -42,35 +44,16 @@ class GetShippingRulesUseCase(
     private val config: Config?,
     private val projectRewards: List<Reward> = emptyList(),
     private val scope: CoroutineScope,
-    private val dispatcher: CoroutineDispatcher = Dispatchers.IO
+    private val dispatcher: CoroutineDispatcher = Dispatchers.IO,
+    private val indexDispatcher: CoroutineDispatcher = dispatcher
 ) {
 
     private val filteredRewards = mutableListOf<Reward>()
     private var defaultShippingRule = ShippingRule.builder().build()
-    private var rewardsByShippingType: List<Reward>
     private val allAvailableRulesForProject = mutableMapOf<Long, ShippingRule>()
 
-    init {
-
-        // To avoid duplicates insert reward.id as key
-        val rewardsToExtractLocation = mutableMapOf<Long, Reward>()
-
-        // Get first reward with unrestricted shipping preference, when quering `getShippingRules` will return ALL available locations, no need to query more rewards locations
-        projectRewards.filter { RewardUtils.shipsWorldwide(reward = it) }?.firstOrNull()?.let {
-            rewardsToExtractLocation.put(it.id(), it)
-        }
-
-        // In case there is no unrestricted preference need to get restricted and local rewards, to query their specific locations
-        if (rewardsToExtractLocation.isEmpty()) {
-            projectRewards.filter {
-                RewardUtils.shipsToRestrictedLocations(reward = it)
-            }.forEach {
-                rewardsToExtractLocation[it.id()] = it
-            }
-        }
-
-        this.rewardsByShippingType = rewardsToExtractLocation.values.toList()
-    }
+    @Volatile
+    private var index: ShippingRulesIndex? = null
 
     // - Do not expose mutable states
     private val _mutableShippingRules =
@@ -85,32 +68,18 @@ class GetShippingRulesUseCase(
     // - IO dispatcher for network operations to avoid blocking main thread
     operator fun invoke() {
         scope.launch(dispatcher) {
-            val avShipMap = allAvailableRulesForProject
             emitCurrentState(isLoading = true)
+            val rewardsByShippingType = index().rewardsByShippingType
 
             if (rewardsByShippingType.isNotEmpty() && project.isAllowedToPledge()) {
-                rewardsByShippingType.forEachIndexed { index, reward ->
-
-                    if (RewardUtils.shipsToRestrictedLocations(reward) || RewardUtils.shipsWorldwide(reward)) {
-                        reward.shippingRules()?.map {
-                            avShipMap.put(
-                                requireNotNull(
-                                    it.location()?.id()
-                                ),
-                                it
-                            )
-                        }
-                    }
-
-                    // - Filter rewards once all shipping rules have been collected
-                    if (index == rewardsByShippingType.size - 1) {
-                        defaultShippingRule = getDefaultShippingRule(
-                            avShipMap,
-                            project
-                        )
-                        filterRewardsByLocation(avShipMap, defaultShippingRule, projectRewards)
-                    }
-                }
+                allAvailableRulesForProject.putAll(index().shippingRules)
+
+                // - Filter rewards once all shipping rules have been collected
+                defaultShippingRule = getDefaultShippingRule(
+                    allAvailableRulesForProject,
+                    project
+                )
+                filterRewardsByLocation(defaultShippingRule)
             }
             // - all rewards digital
             if (rewardsByShippingType.isEmpty() && project.isAllowedToPledge()) {
@@ -137,10 +106,13 @@ class GetShippingRulesUseCase(
             defaultShippingRule = shippingRule
             emitCurrentState(isLoading = true)
             delay(500) // Added delay due to the filtering happening too fast for the user to perceive the loading state
-            filterRewardsByLocation(allAvailableRulesForProject, shippingRule, projectRewards)
+            filterRewardsByLocation(shippingRule)
         }
     }
 
+    private suspend fun index(): ShippingRulesIndex =
+        index ?: withContext(indexDispatcher) { ShippingRulesIndex(projectRewards) }.also { index = it }
+
     private suspend fun emitCurrentState(isLoading: Boolean, errorMessage: String? = null) {
         _mutableShippingRules.emit(
             ShippingRulesState(
@@ -155,48 +127,17 @@ class GetShippingRulesUseCase(
 
     /**
      * Check if the given @param rule is available in the list
-     * of @param allAvailableShippingRules for this project.
+     * of shipping rules for this project.
      *
      * In case it is available, return only those rewards able to ship to
      * the selected rule
      */
-    private suspend fun filterRewardsByLocation(
-        allAvailableShippingRules: MutableMap<Long, ShippingRule>,
-        rule: ShippingRule,
-        rewards: List<Reward>
-    ) {
-        filteredRewards.clear()
+    private suspend fun filterRewardsByLocation(rule: ShippingRule) {
         val locationId = rule.location()?.id() ?: 0
-        val isIsValidRule = allAvailableShippingRules[locationId]
+        val rewards = index().rewardsFor(locationId, allAvailableRulesForProject.containsKey(locationId))
 
-        rewards.map { rw ->
-            if (RewardUtils.shipsWorldwide(rw) && rw.isAvailable()) {
-                filteredRewards.add(rw)
-            }
-
-            if (RewardUtils.isNoReward(rw)) {
-                filteredRewards.add(rw)
-            }
-
-            if (RewardUtils.isLocalPickup(rw) && rw.isAvailable()) {
-                filteredRewards.add(rw)
-            }
-
-            if (RewardUtils.isDigital(rw) && rw.isAvailable()) {
-                filteredRewards.add(rw)
-            }
-
-            // - If shipping is restricted, make sure the reward is able to ship to selected rule
-            if (RewardUtils.shipsToRestrictedLocations(rw) && rw.isAvailable()) {
-                if (isIsValidRule != null) {
-                    rw.shippingRules()?.map {
-                        if (it.location()?.id() == locationId) {
-                            filteredRewards.add(rw)
-                        }
-                    }
-                }
-            }
-        }
+        filteredRewards.clear()
+        filteredRewards.addAll(rewards)
 
         emitCurrentState(isLoading = false)
     }
@@ -0,0 +1,105 @@
+package com.kickstarter.viewmodels.usecases
+
+import com.kickstarter.libs.utils.RewardUtils
+import com.kickstarter.models.Reward
+import com.kickstarter.models.ShippingRule
+
+/**
+ * The rewards of a project indexed by the location they ship to, built once so that
+ * filtering the rewards for a new location doesn't go through every reward and shipping rule again.
+ *
+ * `rewardsFor` returns the same rewards, in the same order, as checking each reward against the location:
+ * - Rewards shipping worldwide, digital or local pickup rewards, when available, and no reward are always included
+ * - Rewards shipping to restricted locations, when available, are included once per rule for that location
+ */
+class ShippingRulesIndex(private val rewards: List<Reward>) {
+
+    /**
+     * Rewards to read the available locations of the project from: the first reward shipping worldwide
+     * holds all locations, otherwise every reward shipping to restricted locations.
+     */
+    val rewardsByShippingType: List<Reward>
+
+    /**
+     * Shipping rules of [rewardsByShippingType] by location id.
+     */
+    val shippingRules: Map<Long, ShippingRule>
+
+    // - Positions in `rewards`, repeated once per match and in ascending order
+    private val alwaysIncluded: IntArray
+    private val restrictedByLocation: Map<Long, IntArray>
+
+    init {
+        // To avoid duplicates insert reward.id as key
+        val rewardsToExtractLocation = mutableMapOf<Long, Reward>()
+
+        // Get first reward with unrestricted shipping preference, it holds ALL available locations, no need to read more rewards locations
+        rewards.firstOrNull { RewardUtils.shipsWorldwide(reward = it) }?.let {
+            rewardsToExtractLocation[it.id()] = it
+        }
+
+        // In case there is no unrestricted preference need to get restricted and local rewards, to read their specific locations
+        if (rewardsToExtractLocation.isEmpty()) {
+            rewards.filter {
+                RewardUtils.shipsToRestrictedLocations(reward = it)
+            }.forEach {
+                rewardsToExtractLocation[it.id()] = it
+            }
+        }
+
+        rewardsByShippingType = rewardsToExtractLocation.values.toList()
+
+        val rules = LinkedHashMap<Long, ShippingRule>()
+        rewardsByShippingType.forEach { reward ->
+            reward.shippingRules()?.forEach {
+                rules[requireNotNull(it.location()?.id())] = it
+            }
+        }
+        shippingRules = rules
+
+        val always = ArrayList<Int>(rewards.size)
+        val restricted = HashMap<Long, ArrayList<Int>>()
+        rewards.forEachIndexed { position, rw ->
+            var matches = 0
+            if (RewardUtils.shipsWorldwide(rw) && rw.isAvailable()) matches++
+            if (RewardUtils.isNoReward(rw)) matches++
+            if (RewardUtils.isLocalPickup(rw) && rw.isAvailable()) matches++
+            if (RewardUtils.isDigital(rw) && rw.isAvailable()) matches++
+            repeat(matches) { always.add(position) }
+
+            if (RewardUtils.shipsToRestrictedLocations(rw) && rw.isAvailable()) {
+                rw.shippingRules()?.forEach { rule ->
+                    rule.location()?.id()?.let { locationId ->
+                        restricted.getOrPut(locationId) { ArrayList() }.add(position)
+                    }
+                }
+            }
+        }
+        alwaysIncluded = always.toIntArray()
+        restrictedByLocation = restricted.mapValues { it.value.toIntArray() }
+    }
+
+    /**
+     * Rewards available for [locationId]. Rewards shipping to restricted locations are only included
+     * when [isValidLocation], i.e. the location is one of the project's available shipping rules.
+     */
+    fun rewardsFor(locationId: Long, isValidLocation: Boolean): List<Reward> {
+        val restricted = (if (isValidLocation) restrictedByLocation[locationId] else null)
+            ?: return alwaysIncluded.map { rewards[it] }
+
+        val filtered = ArrayList<Reward>(alwaysIncluded.size + restricted.size)
+        var always = 0
+        var matching = 0
+        while (always < alwaysIncluded.size || matching < restricted.size) {
+            val position = if (matching == restricted.size ||
+                (always < alwaysIncluded.size && alwaysIncluded[always] <= restricted[matching])
+            ) {
+                alwaysIncluded[always++]
+            } else {
+                restricted[matching++]
+            }
+            filtered.add(rewards[position])
+        }
+        return filtered
+    }
+}
@@ -2,12 +2,17 @@ package com.kickstarter
 
 import com.kickstarter.libs.CurrentConfigTypeV2
 import com.kickstarter.libs.KSCurrency
+import com.kickstarter.libs.NumberOptions
 import com.kickstarter.libs.models.Country
+import com.kickstarter.libs.utils.NumberUtils
+import com.kickstarter.libs.utils.extensions.trimAllWhitespace
 import com.kickstarter.mock.MockCurrentConfigV2
 import com.kickstarter.mock.factories.ConfigFactory.config
 import com.kickstarter.mock.factories.ProjectFactory.caProject
 import com.kickstarter.mock.factories.ProjectFactory.project
 import com.kickstarter.mock.factories.ProjectFactory.ukProject
+import com.kickstarter.mock.factories.RewardFactory
+import com.kickstarter.models.Project
 import com.kickstarter.type.CurrencyCode
 import junit.framework.TestCase
 import org.junit.Test
@@ -685,7 +690,71 @@ class KSCurrencyTest : TestCase() {
         assertEquals("\u00A0US$\u00A0", unlaunchedCurrency.getCurrencySymbol(Country.US, false))
     }
 
+    @Test
+    fun testFindByCurrencyCode() {
+        assertEquals(Country.US, Country.findByCurrencyCode("USD"))
+        assertEquals(Country.CA, Country.findByCurrencyCode("CAD"))
+        // - The first country using a currency
+        assertEquals(Country.AT, Country.findByCurrencyCode("EUR"))
+        assertNull(Country.findByCurrencyCode("XXX"))
+    }
+
+    @Test
+    fun testGetSymbolForCurrency_updatesWithConfig() {
+        val currentConfig: CurrentConfigTypeV2 = MockCurrentConfigV2()
+        currentConfig.config(config().toBuilder().countryCode("US").build())
+        val currency = KSCurrency(currentConfig)
+        assertEquals("$", currency.getCurrencySymbol(Country.US, true))
+
+        currentConfig.config(config().toBuilder().countryCode("CA").build())
+        assertEquals("\u00A0US$\u00A0", currency.getCurrencySymbol(Country.US, true))
+    }
+
+    /**
+     * Formats every reward of a 500 reward project, as the rewards carousel does, and compares with
+     * building the [NumberOptions] and formatter for every price.
+     */
+    @Test
+    fun testFormat_500Rewards_matchesUncachedFormatter() {
+        val currency = createKSCurrency("CA")
+        val rewards = (1..500).map {
+            RewardFactory.reward().toBuilder()
+                .id(it.toLong())
+                .minimum(it * 7.5)
+                .convertedMinimum(it * 9.75)
+                .build()
+        }
+        val project = project().toBuilder()
+            .rewards(rewards)
+            .currentCurrency("CAD")
+            .fxRate(1.3f)
+            .build()
+
+        rewards.forEach {
+            assertEquals(uncachedFormat(currency, it.minimum(), project), currency.format(it.minimum(), project, RoundingMode.HALF_UP))
+            assertEquals(
+                uncachedFormat(currency, it.convertedMinimum(), project),
+                currency.format(it.convertedMinimum(), project, RoundingMode.HALF_UP)
+            )
+        }
+    }
+
     companion object {
+        /**
+         * Formatting as done before formatters were cached: a linear country scan, options and a fresh
+         * formatter for every price.
+         */
+        private fun uncachedFormat(currency: KSCurrency, value: Double, project: Project): String {
+            val country = Country.values().first { it.currencyCode == project.currency() }
+            val numberOptions = NumberOptions.builder()
+                .currencyCode("")
+                .currencySymbol(currency.getCurrencySymbol(country, true))
+                .roundingMode(RoundingMode.HALF_UP)
+                .precision(NumberUtils.precision(value, RoundingMode.HALF_UP))
+                .build()
+            return NumberUtils.format(value.toFloat(), numberOptions).trimAllWhitespace()
+        }
+
         private fun createKSCurrency(countryCode: String): KSCurrency {
             val config = config().toBuilder()
                 .countryCode(countryCode)
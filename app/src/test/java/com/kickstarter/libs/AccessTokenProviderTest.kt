@@ -0,0 +1,106 @@
+package com.kickstarter.libs
+
+import com.google.gson.Gson
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.featureflag.FlagKey
+import com.kickstarter.libs.keystore.EncryptionEngine
+import com.kickstarter.libs.keystore.KSKeyStore
+import com.kickstarter.libs.preferences.MockStringPreference
+import com.kickstarter.libs.preferences.StringPreferenceType
+import com.kickstarter.mock.MockFeatureFlagClient
+import com.kickstarter.mock.factories.UserFactory
+import org.junit.Test
+import java.security.Key
+import java.security.KeyStore
+import javax.crypto.spec.SecretKeySpec
+
+class AccessTokenProviderTest : KSRobolectricTestCase() {
+
+    /**
+     * Counts how many times the persisted token is read and decrypted.
+     */
+    private class CountingPreference(private val preference: StringPreferenceType) : StringPreferenceType by preference {
+        var reads = 0
+        override fun get(): String? {
+            reads++
+            return preference.get()
+        }
+    }
+
+    private val deviceRegistrar = object : DeviceRegistrarType {
+        override fun registerDevice() {}
+        override fun unregisterDevice() {}
+    }
+
+    private fun encryptedPreference(): StringPreferenceType {
+        val engine = EncryptionEngine(
+            sharedPreferences = MockSharedPreferences(),
+            "Alias",
+            context(),
+            object : MockFeatureFlagClient() {
+                override fun getBoolean(FlagKey: FlagKey) = FlagKey == FlagKey.ANDROID_ENCRYPT
+            }
+        )
+        engine.ksKeyStore = object : KSKeyStore {
+            override var ksKeyStore: KeyStore? = null
+            override fun getSecretKey(keyAlias: String): Key = SecretKeySpec("aesEncryptionKey".toByteArray(), "AES")
+        }
+        return engine
+    }
+
+    @Test
+    fun testToken_isDecryptedOnce() {
+        val preference = CountingPreference(encryptedPreference())
+        val currentUser = CurrentUserV2(preference, deviceRegistrar, Gson(), MockStringPreference())
+
+        currentUser.setToken("token")
+        repeat(1_000) { assertEquals("token", currentUser.accessToken) }
+
+        assertEquals(0, preference.reads)
+    }
+
+    @Test
+    fun testToken_invalidation() {
+        val preference = CountingPreference(MockStringPreference("persisted"))
+        val provider = AccessTokenProvider(preference)
+
+        assertEquals("persisted", provider.get())
+        assertEquals("persisted", provider.get())
+        assertEquals(1, preference.reads)
+
+        provider.invalidate()
+        assertEquals("persisted", provider.get())
+        assertEquals(2, preference.reads)
+
+        provider.set("new")
+        assertEquals("new", provider.get())
+        assertEquals(2, preference.reads)
+
+        provider.delete()
+        assertNull(provider.get())
+        assertEquals(2, preference.reads)
+    }
+
+    @Test
+    fun testRefresh_keepsToken() {
+        val preference = CountingPreference(MockStringPreference("persisted"))
+        val currentUser = CurrentUserV2(preference, deviceRegistrar, Gson(), MockStringPreference())
+
+        assertEquals("persisted", currentUser.accessToken)
+        currentUser.refresh(UserFactory.user())
+
+        assertEquals("persisted", currentUser.accessToken)
+        assertEquals(1, preference.reads)
+    }
+
+    @Test
+    fun testLogout_clearsToken() {
+        val currentUser = CurrentUserV2(MockStringPreference(), deviceRegistrar, Gson(), MockStringPreference())
+
+        currentUser.setToken("token")
+        assertEquals("token", currentUser.accessToken)
+
+        currentUser.logout()
+        assertNull(currentUser.accessToken)
+    }
+}
@@ -0,0 +1,48 @@
+package com.kickstarter.libs
+
+import com.google.gson.Gson
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.preferences.MockStringPreference
+import com.kickstarter.mock.factories.ConfigFactory
+import io.reactivex.observers.TestObserver
+import io.reactivex.schedulers.TestScheduler
+import org.junit.Test
+
+class CurrentConfigV2Test : KSRobolectricTestCase() {
+
+    private val gson = Gson()
+
+    private val persistedConfig = ConfigFactory.configForCA()
+
+    private fun configPreference() = MockStringPreference(gson.toJson(persistedConfig, Config::class.java))
+
+    @Test
+    fun testAsyncBootstrap_emitsPersistedConfigImmediately() {
+        val scheduler = TestScheduler()
+        val currentConfig = CurrentConfigV2(context().assets, gson, configPreference(), scheduler)
+        val config = TestObserver<Config>()
+
+        // - Subscribing before the bootstrap runs loads the persisted config on the subscribing thread
+        currentConfig.observable().subscribe(config)
+        assertEquals(persistedConfig.countryCode(), config.values().first().countryCode())
+
+        // - The background bootstrap doesn't emit the persisted config a second time
+        scheduler.triggerActions()
+        config.assertValueCount(1)
+    }
+
+    @Test
+    fun testAsyncBootstrap_freshConfigBeforeBootstrapWins() {
+        val scheduler = TestScheduler()
+        val currentConfig = CurrentConfigV2(context().assets, gson, configPreference(), scheduler)
+        val freshConfig = ConfigFactory.configForITUser()
+        val config = TestObserver<Config>()
+
+        currentConfig.config(freshConfig)
+        scheduler.triggerActions()
+        currentConfig.observable().subscribe(config)
+
+        config.assertValueCount(1)
+        assertEquals(freshConfig.countryCode(), config.values().first().countryCode())
+    }
+}
@@ -0,0 +1,93 @@
+package com.kickstarter.libs
+
+import com.google.gson.FieldNamingPolicy
+import com.google.gson.GsonBuilder
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.preferences.MockStringPreference
+import com.kickstarter.libs.utils.KsOptional
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.User
+import io.reactivex.observers.TestObserver
+import io.reactivex.schedulers.TestScheduler
+import org.joda.time.DateTime
+import org.junit.Test
+
+class CurrentUserV2Test : KSRobolectricTestCase() {
+
+    private val gson = GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(DateTime::class.java, DateTimeTypeConverter())
+        .create()
+
+    private val deviceRegistrar = object : DeviceRegistrarType {
+        override fun registerDevice() {}
+        override fun unregisterDevice() {}
+    }
+
+    private val persistedUser = UserFactory.user()
+
+    private fun userPreference() = MockStringPreference(gson.toJson(persistedUser, User::class.java))
+
+    @Test
+    fun testSynchronousBootstrap_emitsPersistedUserImmediately() {
+        val currentUser = CurrentUserV2(MockStringPreference(), deviceRegistrar, gson, userPreference())
+        val user = TestObserver<KsOptional<User>>()
+
+        currentUser.observable().subscribe(user)
+
+        assertEquals(persistedUser, user.values().first().getValue())
+    }
+
+    @Test
+    fun testAsyncBootstrap_emitsPersistedUserImmediately() {
+        val scheduler = TestScheduler()
+        val currentUser = CurrentUserV2(MockStringPreference(), deviceRegistrar, gson, userPreference(), scheduler)
+        val user = TestObserver<KsOptional<User>>()
+
+        // - Subscribing before the bootstrap runs loads the persisted user on the subscribing thread
+        currentUser.observable().subscribe(user)
+        assertEquals(persistedUser, user.values().first().getValue())
+
+        // - The background bootstrap doesn't emit the persisted user a second time
+        scheduler.triggerActions()
+        user.assertValueCount(1)
+    }
+
+    @Test
+    fun testAsyncBootstrap_getUserLoadsOnCallingThread() {
+        val scheduler = TestScheduler()
+        val currentUser = CurrentUserV2(MockStringPreference(), deviceRegistrar, gson, userPreference(), scheduler)
+
+        assertEquals(persistedUser, currentUser.getUser())
+
+        // - The background bootstrap doesn't emit the persisted user a second time
+        val user = TestObserver<KsOptional<User>>()
+        currentUser.observable().subscribe(user)
+        scheduler.triggerActions()
+        user.assertValueCount(1)
+    }
+
+    @Test
+    fun testAsyncBootstrap_loginBeforeBootstrapWins() {
+        val scheduler = TestScheduler()
+        val currentUser = CurrentUserV2(MockStringPreference(), deviceRegistrar, gson, userPreference(), scheduler)
+        val newUser = UserFactory.creator()
+
+        currentUser.login(newUser)
+        scheduler.triggerActions()
+
+        assertEquals(newUser, currentUser.getUser())
+    }
+
+    @Test
+    fun testAsyncBootstrap_emptyPreference() {
+        val scheduler = TestScheduler()
+        val currentUser = CurrentUserV2(MockStringPreference(), deviceRegistrar, gson, MockStringPreference(), scheduler)
+        val isLoggedIn = TestObserver<Boolean>()
+
+        currentUser.isLoggedIn.subscribe(isLoggedIn)
+        scheduler.triggerActions()
+
+        isLoggedIn.assertValue(false)
+    }
+}
@@ -0,0 +1,141 @@
+package com.kickstarter.libs
+
+import com.google.gson.FieldNamingPolicy
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonDeserializer
+import com.google.gson.JsonPrimitive
+import com.google.gson.JsonSerializer
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ActivityEnvelopeFactory
+import com.kickstarter.mock.factories.ActivityFactory
+import com.kickstarter.mock.factories.MessageFactory
+import com.kickstarter.models.Activity
+import com.kickstarter.models.Message
+import com.kickstarter.models.User
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import org.joda.time.DateTime
+import org.junit.Test
+
+class ModelTypeAdapterFactoryTest : KSRobolectricTestCase() {
+
+    private val gson = GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(DateTime::class.java, DateTimeTypeConverter())
+        .registerTypeAdapterFactory(ModelTypeAdapterFactory())
+        .create()
+
+    private val reflectiveGson = GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(DateTime::class.java, DateTimeTypeConverter())
+        .create()
+
+    // - How dates were converted before, through a JsonElement tree
+    private val treeGson = GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(
+            DateTime::class.java,
+            JsonSerializer<DateTime> { src, _, _ -> JsonPrimitive(src.millis / 1000) }
+        )
+        .registerTypeAdapter(
+            DateTime::class.java,
+            JsonDeserializer { json, _, _ -> DateTime(json.asInt * 1000L) }
+        )
+        .create()
+
+    @Test
+    fun testDateTime_readsAndWritesSeconds() {
+        assertEquals(DateTime(1_600_000_000_000L), gson.fromJson("1600000000", DateTime::class.java))
+        assertEquals("1600000000", gson.toJson(DateTime(1_600_000_000_999L)))
+        assertNull(gson.fromJson("null", DateTime::class.java))
+
+        // - Past 2038, seconds don't fit in an int
+        assertEquals(DateTime(2_200_000_000_000L), gson.fromJson("2200000000", DateTime::class.java))
+    }
+
+    @Test
+    fun testMessage_roundTrip() {
+        val message = MessageFactory.message().toBuilder()
+            .body("Hi there")
+            .createdAt(DateTime(1_600_000_000_000L))
+            .build()
+
+        val json = gson.toJson(message)
+
+        assertEquals(message, gson.fromJson(json, Message::class.java))
+        assertEquals(reflectiveGson.toJson(message), json)
+    }
+
+    @Test
+    fun testMessage_missingAndUnknownFields() {
+        val message = gson.fromJson("{\"id\":1,\"body\":null,\"unknown\":{\"a\":[1,2]}}", Message::class.java)
+
+        assertEquals(1L, message.id())
+        assertNull(gson.fromJson("null", Message::class.java))
+        assertNullFieldsMatchReflection(message, reflectiveGson.fromJson("{\"id\":1,\"body\":null}", Message::class.java))
+    }
+
+    @Test
+    fun testMessage_nullFields_matchReflectiveAdapter() {
+        listOf(
+            "{}",
+            "{\"body\":\"Hi\",\"created_at\":null,\"id\":null}",
+            "{\"body\":\"Hi\",\"created_at\":1600000000,\"id\":2}"
+        ).forEach { json ->
+            val message = gson.fromJson(json, Message::class.java)
+            val reflectiveMessage = reflectiveGson.fromJson(json, Message::class.java)
+
+            assertNullFieldsMatchReflection(message, reflectiveMessage)
+            assertEquals(reflectiveGson.toJson(reflectiveMessage), gson.toJson(message))
+        }
+    }
+
+    @Test
+    fun testActivity_nullFields_matchReflectiveAdapter() {
+        listOf(
+            "{}",
+            "{\"category\":null,\"created_at\":1600000000,\"id\":3}",
+            "{\"category\":\"backing\",\"created_at\":null,\"updated_at\":null,\"project\":null}"
+        ).forEach { json ->
+            val activity = gson.fromJson(json, Activity::class.java)
+            val reflectiveActivity = reflectiveGson.fromJson(json, Activity::class.java)
+
+            assertEquals(reflectiveActivity.category(), activity.category())
+            assertEquals(reflectiveActivity.createdAt(), activity.createdAt())
+            assertEquals(reflectiveActivity.id(), activity.id())
+            assertEquals(reflectiveActivity.updatedAt(), activity.updatedAt())
+            assertEquals(reflectiveActivity.project(), activity.project())
+            assertEquals(reflectiveGson.toJson(reflectiveActivity), gson.toJson(activity))
+        }
+    }
+
+    private fun assertNullFieldsMatchReflection(message: Message, reflectiveMessage: Message) {
+        assertEquals(reflectiveMessage.body(), message.body())
+        assertEquals(reflectiveMessage.createdAt(), message.createdAt())
+        assertEquals(reflectiveMessage.id(), message.id())
+        assertEquals(reflectiveMessage.recipient(), message.recipient())
+        assertEquals(reflectiveMessage.sender(), message.sender())
+    }
+
+    @Test
+    fun testActivity_matchesReflectiveAdapter() {
+        val json = reflectiveGson.toJson(ActivityFactory.activity())
+
+        assertEquals(reflectiveGson.fromJson(json, Activity::class.java), gson.fromJson(json, Activity::class.java))
+        assertEquals(json, gson.toJson(gson.fromJson(json, Activity::class.java)))
+    }
+
+    @Test
+    fun testActivityEnvelope_matchesTreeAndReflectiveAdapters() {
+        val activities = (1..50).map {
+            ActivityFactory.activity().toBuilder().id(it.toLong()).build()
+        }
+        val json = reflectiveGson.toJson(ActivityEnvelopeFactory.activityEnvelope(activities))
+
+        val activitiesRead = gson.fromJson(json, ActivityEnvelope::class.java).activities()
+
+        assertEquals(50, activitiesRead.size)
+        assertEquals(treeGson.fromJson(json, ActivityEnvelope::class.java).activities(), activitiesRead)
+        assertEquals(reflectiveGson.fromJson(json, ActivityEnvelope::class.java).activities(), activitiesRead)
+    }
+}
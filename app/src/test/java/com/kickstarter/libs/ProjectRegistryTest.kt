@@ -0,0 +1,157 @@
+package com.kickstarter.libs
+
+import android.content.Intent
+import android.os.Bundle
+import android.os.Parcel
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.extensions.getRegisteredProject
+import com.kickstarter.libs.utils.extensions.getRegisteredProjectParam
+import com.kickstarter.libs.utils.extensions.putRegisteredProject
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.services.MockApolloClientV2
+import com.kickstarter.models.Project
+import com.kickstarter.ui.IntentKey
+import com.kickstarter.ui.intentmappers.ProjectIntentMapper
+import io.reactivex.Observable
+import io.reactivex.observers.TestObserver
+import org.junit.After
+import org.junit.Test
+
+class ProjectRegistryTest : KSRobolectricTestCase() {
+
+    @After
+    fun clearRegistry() {
+        ProjectRegistry.shared.clear()
+    }
+
+    @Test
+    fun testPut_replacesOlderCopyOfProject() {
+        val registry = ProjectRegistry()
+        val project = ProjectFactory.project()
+        val starred = project.toBuilder().isStarred(true).build()
+
+        registry.put(project)
+        registry.put(starred)
+
+        assertEquals(starred, registry.get(project.id()))
+    }
+
+    @Test
+    fun testPut_evictsLeastRecentlyUsedProject() {
+        val registry = ProjectRegistry(maxProjects = 2)
+        val first = ProjectFactory.project().toBuilder().id(1).build()
+        val second = ProjectFactory.project().toBuilder().id(2).build()
+        val third = ProjectFactory.project().toBuilder().id(3).build()
+
+        registry.put(first)
+        registry.put(second)
+        registry.get(1)
+        registry.put(third)
+
+        assertEquals(first, registry.get(1))
+        assertNull(registry.get(2))
+        assertEquals(third, registry.get(3))
+    }
+
+    @Test
+    fun testIntent_resolvesRegisteredProject() {
+        val registry = ProjectRegistry()
+        val project = ProjectFactory.project()
+
+        val intent = Intent().putRegisteredProject(project, registry)
+
+        assertEquals(project, intent.getRegisteredProject(registry))
+        assertEquals(project.slug(), intent.getRegisteredProjectParam())
+        assertFalse(intent.hasExtra(IntentKey.PROJECT))
+    }
+
+    @Test
+    fun testIntent_whenProjectIsNoLongerRegistered_returnsSlug() {
+        val registry = ProjectRegistry()
+        val project = ProjectFactory.project()
+        val intent = Intent().putRegisteredProject(project, registry)
+
+        // - Same as a process death
+        registry.clear()
+
+        assertNull(intent.getRegisteredProject(registry))
+        assertEquals(project.slug(), intent.getRegisteredProjectParam())
+        assertNull(Intent().getRegisteredProjectParam())
+    }
+
+    @Test
+    fun testIntent_whenProjectHasNoSlug_returnsId() {
+        val registry = ProjectRegistry()
+        val project = ProjectFactory.project().toBuilder().slug(null).build()
+        val intent = Intent().putRegisteredProject(project, registry)
+
+        registry.clear()
+
+        assertEquals(project.id().toString(), intent.getRegisteredProjectParam())
+    }
+
+    @Test
+    fun testProjectIntentMapper_emitsRegisteredProjectThenFetchesIt() {
+        val project = ProjectFactory.project()
+        val fetched = ProjectFactory.backedProject()
+        val intent = Intent().putRegisteredProject(project)
+        val projects = TestObserver<Project>()
+
+        ProjectIntentMapper.project(intent, apolloClient(fetched)).subscribe(projects)
+
+        projects.assertValues(project, fetched)
+    }
+
+    @Test
+    fun testProjectIntentMapper_whenProjectIsNoLongerRegistered_fetchesBySlug() {
+        val project = ProjectFactory.project()
+        val fetched = ProjectFactory.backedProject()
+        val intent = Intent().putRegisteredProject(project)
+        val projects = TestObserver<Project>()
+        ProjectRegistry.shared.clear()
+
+        ProjectIntentMapper.project(intent, apolloClient(fetched, expectedSlug = project.slug())).subscribe(projects)
+
+        projects.assertValues(fetched)
+    }
+
+    /**
+     * Writes the intent extras to a parcel and reads them back, as done when starting the project page,
+     * returning the size of the extras and the project resolved from them.
+     */
+    private fun handoff(intent: Intent): Pair<Int, Project?> {
+        val parcel = Parcel.obtain()
+        try {
+            parcel.writeBundle(intent.extras)
+            val size = parcel.dataSize()
+            parcel.setDataPosition(0)
+
+            val received = Intent().putExtras(parcel.readBundle(javaClass.classLoader) ?: Bundle())
+            received.setExtrasClassLoader(javaClass.classLoader)
+            return Pair(size, received.getRegisteredProject() ?: received.getParcelableExtra(IntentKey.PROJECT))
+        } finally {
+            parcel.recycle()
+        }
+    }
+
+    @Test
+    fun testRegisteredProject_isHandedOffWithSmallerExtras() {
+        val project = ProjectFactory.backedProjectWithAddOns()
+
+        val parceled = handoff(Intent().putExtra(IntentKey.PROJECT, project))
+        val registered = handoff(Intent().putRegisteredProject(project))
+
+        assertEquals(project.id(), parceled.second?.id())
+        assertSame(project, registered.second)
+        assertTrue(registered.first < parceled.first)
+    }
+
+    private fun apolloClient(fetched: Project, expectedSlug: String? = null) = object : MockApolloClientV2() {
+        override fun getProject(project: Project): Observable<Project> = Observable.just(fetched)
+
+        override fun getProject(slug: String): Observable<Project> {
+            expectedSlug?.let { assertEquals(it, slug) }
+            return Observable.just(fetched)
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.kickstarter.libs
 
+import android.app.NotificationManager
 import android.content.Context
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.mock.factories.MessageThreadEnvelopeFactory
 import com.kickstarter.mock.factories.PushNotificationEnvelopeFactory
+import com.kickstarter.models.pushdata.Activity
+import com.kickstarter.models.pushdata.GCM
+import com.kickstarter.services.apiresponses.PushNotificationEnvelope
 import com.kickstarter.ui.IntentKey
+import io.reactivex.observers.TestObserver
+import io.reactivex.schedulers.TestScheduler
 import org.junit.Test
+import org.robolectric.Shadows.shadowOf
+import java.util.concurrent.TimeUnit
 
 class PushNotificationsTest : KSRobolectricTestCase() {
     lateinit var context: Context
@@ -30,4 +38,119 @@ class PushNotificationsTest : KSRobolectricTestCase() {
             assertEquals(MessagePreviousScreenType.PUSH, messageThreadIntent?.extras?.get(IntentKey.MESSAGE_SCREEN_SOURCE_CONTEXT))
         }
     }
+
+    @Test
+    fun testCoalescer_displaysLatestPushPerKey() {
+        val scheduler = TestScheduler()
+        val coalescer = PushNotificationCoalescer(1_000L, scheduler)
+        val displayed = TestObserver<PushNotificationEnvelope>()
+        val first = messageEnvelope(1, "First message")
+        val second = messageEnvelope(1, "Second message")
+        val otherThread = messageEnvelope(2, "Other thread")
+        val noKey = PushNotificationEnvelopeFactory.envelope()
+
+        listOf(
+            coalescer.offer("thread:1", first),
+            coalescer.offer("thread:1", second),
+            coalescer.offer("thread:2", otherThread),
+            coalescer.offer(null, noKey)
+        ).forEach { it.toObservable().subscribe(displayed) }
+
+        displayed.assertValues(noKey)
+
+        scheduler.advanceTimeBy(1_000L, TimeUnit.MILLISECONDS)
+        displayed.assertValues(noKey, second, otherThread)
+        assertEquals(1L, coalescer.coalesced())
+
+        // - Once displayed, the next push for the same thread waits for a new window
+        val third = TestObserver<PushNotificationEnvelope>()
+        coalescer.offer("thread:1", messageEnvelope(1, "Third message")).subscribe(third)
+        third.assertNoValues()
+        scheduler.advanceTimeBy(1_000L, TimeUnit.MILLISECONDS)
+        third.assertValueCount(1)
+    }
+
+    @Test
+    fun testProjectActivityKey_onlyMatchesDuplicatePushes() {
+        val key = PushNotifications.projectActivityKey(projectActivityEnvelope(1, "Ada backed your project"))
+
+        assertEquals(key, PushNotifications.projectActivityKey(projectActivityEnvelope(1, "Ada backed your project")))
+
+        // - Other backers, categories or projects update other notifications
+        listOf(
+            projectActivityEnvelope(1, "Grace backed your project"),
+            projectActivityEnvelope(1, "Ada backed your project", com.kickstarter.models.Activity.CATEGORY_CANCELLATION),
+            projectActivityEnvelope(2, "Ada backed your project")
+        ).forEach {
+            assertFalse(key == PushNotifications.projectActivityKey(it))
+        }
+        assertNull(PushNotifications.projectActivityKey(PushNotificationEnvelopeFactory.envelope()))
+    }
+
+    /**
+     * Feeds a burst of 1,000 pushes and checks they're all displayed by the render scheduler,
+     * with a single summary for their channel.
+     */
+    @Test
+    fun testBurstOfPushes_displayedOnRenderScheduler() {
+        val pushes = 1_000
+        val scheduler = TestScheduler()
+        val notificationManager = context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+        val pushNotifications = PushNotifications(context, requireNotNull(environment().apiClientV2()), scheduler)
+        pushNotifications.initialize()
+
+        (1..pushes).forEach {
+            pushNotifications.add(erroredPledgeEnvelope(it.toLong()))
+        }
+
+        // - Nothing is displayed off the render scheduler
+        assertEquals(0, shadowOf(notificationManager).size())
+
+        scheduler.triggerActions()
+
+        // - One notification per push, plus the summary of their channel
+        assertEquals(pushes + 1, shadowOf(notificationManager).size())
+    }
+
+    @Test
+    fun testGroupSummary_onlyPostedForMoreThanOnePush() {
+        val scheduler = TestScheduler()
+        val notificationManager = context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+        val pushNotifications = PushNotifications(context, requireNotNull(environment().apiClientV2()), scheduler)
+        pushNotifications.initialize()
+
+        pushNotifications.add(erroredPledgeEnvelope(1))
+        scheduler.triggerActions()
+        assertEquals(1, shadowOf(notificationManager).size())
+
+        pushNotifications.add(erroredPledgeEnvelope(2))
+        scheduler.triggerActions()
+        assertEquals(3, shadowOf(notificationManager).size())
+
+        val summary = shadowOf(notificationManager).getNotification(
+            "GROUP_SUMMARY",
+            PushNotifications.groupSummaryId("PROJECT_REMINDER")
+        )
+        assertEquals("PROJECT_REMINDER", summary?.group)
+        assertTrue(PushNotifications.groupSummaryId("PROJECT_REMINDER") != PushNotifications.groupSummaryId("MESSAGES"))
+    }
+
+    private fun messageEnvelope(threadId: Long, alert: String) = PushNotificationEnvelope.builder()
+        .gcm(GCM.builder().title("Message").alert(alert).build())
+        .message(PushNotificationEnvelope.Message.builder().messageThreadId(threadId).projectId(1L).build())
+        .build()
+
+    private fun projectActivityEnvelope(
+        projectId: Long,
+        alert: String,
+        category: String = com.kickstarter.models.Activity.CATEGORY_BACKING
+    ) = PushNotificationEnvelope.builder()
+        .gcm(GCM.builder().title("Project activity").alert(alert).build())
+        .activity(Activity.builder().category(category).projectId(projectId).build())
+        .build()
+
+    private fun erroredPledgeEnvelope(projectId: Long) = PushNotificationEnvelope.builder()
+        .gcm(GCM.builder().title("Fix your payment").alert("Payment failed for project $projectId").build())
+        .erroredPledge(PushNotificationEnvelope.ErroredPledge.builder().projectId(projectId).build())
+        .build()
 }
@@ -72,10 +72,14 @@ import com.kickstarter.services.DiscoveryParams
 import com.kickstarter.ui.SharedPreferenceKey
 import com.kickstarter.ui.data.PledgeData
 import com.kickstarter.ui.data.PledgeFlowContext
+import com.segment.analytics.Analytics
+import io.mockk.mockk
+import io.mockk.verify
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
 import org.joda.time.DateTime
 import org.junit.Test
+import java.util.concurrent.TimeUnit
 
 class SegmentTest : KSRobolectricTestCase() {
 
@@ -122,6 +126,25 @@ class SegmentTest : KSRobolectricTestCase() {
         assertTrue(client.isEnabled())
     }
 
+    @Test
+    fun testBatchEvents_setsBatchSizeAndFlushInterval() {
+        val builder = mockk<Analytics.Builder>(relaxed = true)
+
+        SegmentTrackingClient.batchEvents(builder, isDebuggable = false)
+
+        verify { builder.flushQueueSize(100) }
+        verify { builder.flushInterval(120L, TimeUnit.SECONDS) }
+    }
+
+    @Test
+    fun testBatchEvents_whenDebuggable_sendsEveryEvent() {
+        val builder = mockk<Analytics.Builder>(relaxed = true)
+
+        SegmentTrackingClient.batchEvents(builder, isDebuggable = true)
+
+        verify { builder.flushQueueSize(1) }
+    }
+
     @Test
     fun testSegmentClientIsEnabled_whenFeatureEnabledAndConsentNotPresent_returnIsEnabledFalse() {
         val user = UserFactory.user()
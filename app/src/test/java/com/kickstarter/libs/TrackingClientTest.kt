@@ -0,0 +1,125 @@
+package com.kickstarter.libs
+
+import android.content.Context
+import android.content.res.Configuration
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.MockCurrentConfigV2
+import com.kickstarter.mock.MockFeatureFlagClient
+import com.kickstarter.mock.factories.ConfigFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.User
+import org.junit.Test
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+class TrackingClientTest : KSRobolectricTestCase() {
+
+    private class Event(val name: String, val properties: Map<String, Any?>, val thread: Thread)
+
+    private class TestTrackingClient(context: Context, build: Build) : TrackingClient(
+        context,
+        MockCurrentUserV2(),
+        build,
+        MockCurrentConfigV2(),
+        MockFeatureFlagClient(),
+        MockSharedPreferences()
+    ) {
+        override var config: Config? = ConfigFactory.config()
+        override var isInitialized = true
+        override var loggedInUser: User? = null
+
+        val events = LinkedBlockingQueue<Event>()
+        var orientationLookups = 0
+        var orientationLookupThread: Thread? = null
+        var invalidateWhileBuilding = false
+
+        override fun trackingData(eventName: String, newProperties: Map<String, Any?>) {
+            events.add(Event(eventName, newProperties, Thread.currentThread()))
+        }
+
+        override fun deviceOrientation(): String {
+            orientationLookups++
+            orientationLookupThread = Thread.currentThread()
+            if (invalidateWhileBuilding) {
+                invalidateWhileBuilding = false
+                invalidateSessionProperties()
+            }
+            return super.deviceOrientation()
+        }
+
+        override fun type() = Type.SEGMENT
+
+        override fun initialize() = registerSessionCallbacks()
+
+        fun nextEvent(): Event = requireNotNull(events.poll(5, TimeUnit.SECONDS))
+    }
+
+    private fun client() = TestTrackingClient(application(), requireNotNull(environment().build())).apply { initialize() }
+
+    @Test
+    fun testEvents_areSentInOrderOffTheCallerThread() {
+        val client = client()
+
+        repeat(5) { client.track("Event $it", mapOf("index" to it)) }
+
+        (0 until 5).forEach {
+            val event = client.nextEvent()
+            assertEquals("Event $it", event.name)
+            assertEquals(it, event.properties["index"])
+            assertNotSame(Thread.currentThread(), event.thread)
+        }
+        // - Session properties are built off the caller thread too
+        assertEquals(1, client.orientationLookups)
+        assertNotSame(Thread.currentThread(), client.orientationLookupThread)
+    }
+
+    @Test
+    fun testLoggedInUser_isReadWhenTracking() {
+        val client = client()
+        val user = UserFactory.user()
+
+        client.identify(user)
+        client.track("Logged in")
+        client.reset()
+        client.track("Logged out")
+
+        assertEquals(true, client.nextEvent().properties["session_user_is_logged_in"])
+        assertEquals(false, client.nextEvent().properties["session_user_is_logged_in"])
+    }
+
+    @Test
+    fun testSessionProperties_areMemoizedUntilInvalidated() {
+        val client = client()
+
+        repeat(3) { client.combinedProperties(mapOf()) }
+        assertEquals(1, client.orientationLookups)
+
+        invalidateSessionProperties()
+        client.combinedProperties(mapOf())
+        assertEquals(2, client.orientationLookups)
+
+        client.config = ConfigFactory.config().toBuilder().countryCode("CA").build()
+        assertEquals("CA", client.combinedProperties(mapOf())["session_country"])
+        assertEquals(3, client.orientationLookups)
+    }
+
+    @Test
+    fun testSessionProperties_invalidatedWhileBuilding_areNotReused() {
+        val client = client()
+
+        // - A device callback fires while the properties are being built
+        client.invalidateWhileBuilding = true
+        client.combinedProperties(mapOf())
+        client.combinedProperties(mapOf())
+        assertEquals(2, client.orientationLookups)
+
+        client.combinedProperties(mapOf())
+        assertEquals(2, client.orientationLookups)
+    }
+
+    /**
+     * Dispatches a configuration change, as done on rotation or when switching dark mode.
+     */
+    private fun invalidateSessionProperties() =
+        application().onConfigurationChanged(Configuration(application().resources.configuration))
+}
@@ -0,0 +1,126 @@
+package com.kickstarter.libs.deeplink
+
+import android.net.Uri
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.extensions.isCheckoutThanksUri
+import com.kickstarter.libs.utils.extensions.isCheckoutUri
+import com.kickstarter.libs.utils.extensions.isEmailDomain
+import com.kickstarter.libs.utils.extensions.isMainPage
+import com.kickstarter.libs.utils.extensions.isNewGuestCheckoutUri
+import com.kickstarter.libs.utils.extensions.isProjectCommentUri
+import com.kickstarter.libs.utils.extensions.isProjectPreviewUri
+import com.kickstarter.libs.utils.extensions.isProjectSaveUri
+import com.kickstarter.libs.utils.extensions.isProjectSurveyUri
+import com.kickstarter.libs.utils.extensions.isProjectUpdateCommentsUri
+import com.kickstarter.libs.utils.extensions.isProjectUpdateUri
+import com.kickstarter.libs.utils.extensions.isProjectUpdatesUri
+import com.kickstarter.libs.utils.extensions.isProjectUri
+import com.kickstarter.libs.utils.extensions.isRewardFulfilledDl
+import com.kickstarter.libs.utils.extensions.isSettingsUrl
+import com.kickstarter.libs.utils.extensions.isSignupUri
+import com.kickstarter.libs.utils.extensions.isUserSurveyUri
+import org.junit.Test
+
+class DeepLinkRouterTest : KSRobolectricTestCase() {
+    private val webEndpoint = "https://www.kickstarter.com"
+    private val router = DeepLinkRouter(webEndpoint)
+
+    private val links = listOf(
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/",
+        "https://www.kickstarter.com/projects/smithsonian-anthology-of-hip-hop-and-rap",
+        "ksr://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?ref=discovery",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?token=beepboop",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?save=true",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?save=true&ref=email",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/pledge",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/comments",
+        "https://www.kickstarter.com/projects/smithsonian/comments",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/posts",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/posts/3254626",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/posts/3254626/comments",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/checkouts/1/thanks",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/checkouts/abc/thanks",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/surveys/survey-param",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/surveys/survey-param/edit",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/surveys/survey-param/edit_address",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/backing/survey_responses",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/backing/redeem",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/backing/pledge_redemption",
+        "ksr://www.kickstarter.com/projects/1186238668/skull-graphic-tee/mark_reward_fulfilled/true",
+        "https://staging.kickstarter.com/projects/1186238668/skull-graphic-tee/mark_reward_fulfilled/true",
+        "https://www.kickstarter.com/projects/1186238668/skull-graphic-tee/mark_reward_fulfilled/false",
+        "https://www.kickstarter.com/settings/notify_mobile_of_marketing_update/true",
+        "ksr://staging.kickstarter.com/settings/notify_mobile_of_marketing_update/true",
+        "https://www.kickstarter.com/checkouts/1/guest/new",
+        "https://www.kickstarter.com/signup",
+        "https://www.kickstarter.com/users/user-param/surveys/survey-id",
+        "https://www.kickstarter.com/users/surveys/survey-id",
+        "https://www.kickstarter.com/projects",
+        "https://www.kickstarter.com/projects/",
+        "https://www.kickstarter.com/projects/creator/project/extra/segments",
+        "https://www.kickstarter.com/projects//project",
+        "https://www.kickstarter.com/projects/creator/pro.ject",
+        "https://www.kickstarter.com/discover/advanced?sort=ending-soon",
+        "https://www.kickstarter.com/?app_banner=1&ref=nav",
+        "ksr://www.kickstarter.com/?app_banner=1&ref=nav",
+        "https://clicks.kickstarter.com/f/a/Hs4EAU85CJvgLr-1hWw_QA~~/AAQRxQA~/RgRiXE13P0TUaHR0cHM6Ly93d3c",
+        "https://emails.kickstarter.com/ss/c/jbhlvoU_4ViWFpoxT1hi5Wb0PJfSM4MoZQ0WLU",
+        "http://clicks.kickstarter.com/f/a/Hs4EAU85CJvgLr-1hWw_QA",
+        "https://www.kickstarter.com",
+        "https://www.hello-world.org/projects/creator/project",
+        "https://staging.kickstarter.com/projects/creator/project"
+    ).map { Uri.parse(it) }
+
+    @Test
+    fun testMatch_isEquivalentToUriHelpers() {
+        links.forEach { uri ->
+            val match = router.match(uri)
+            val message = uri.toString()
+
+            assertEquals(message, uri.isProjectUri(webEndpoint), match.isProject)
+            assertEquals(message, uri.isProjectPreviewUri(webEndpoint), match.isProjectPreview)
+            assertEquals(message, uri.isProjectSaveUri(webEndpoint), match.isProjectSave)
+            assertEquals(message, uri.isCheckoutUri(webEndpoint), match.isCheckout)
+            assertEquals(message, uri.isCheckoutThanksUri(webEndpoint), match.isCheckoutThanks)
+            assertEquals(message, uri.isProjectCommentUri(webEndpoint), match.isProjectComment)
+            assertEquals(message, uri.isProjectUpdatesUri(webEndpoint), match.isProjectUpdates)
+            assertEquals(message, uri.isProjectUpdateUri(webEndpoint), match.isProjectUpdate)
+            assertEquals(message, uri.isProjectUpdateCommentsUri(webEndpoint), match.isProjectUpdateComments)
+            assertEquals(message, uri.isProjectSurveyUri(webEndpoint), match.isProjectSurvey)
+            assertEquals(message, uri.isUserSurveyUri(webEndpoint), match.isUserSurvey)
+            assertEquals(message, uri.isNewGuestCheckoutUri(webEndpoint), match.isNewGuestCheckout)
+            assertEquals(message, uri.isSignupUri(webEndpoint), match.isSignup)
+            assertEquals(message, uri.isRewardFulfilledDl(), match.isRewardFulfilled)
+            assertEquals(message, uri.isSettingsUrl(), match.isSettings)
+            assertEquals(message, uri.isEmailDomain(), match.isEmailDomain)
+            assertEquals(message, uri.isMainPage(), match.isMainPage)
+        }
+    }
+
+    @Test
+    fun testMatch_params() {
+        val update = router.match(
+            Uri.parse("https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/posts/3254626")
+        )
+        assertEquals(
+            mapOf("creator" to "smithsonian", "project" to "smithsonian-anthology-of-hip-hop-and-rap", "update" to "3254626"),
+            update.params(DeepLinkPath.PROJECT_UPDATE)
+        )
+        assertNull(update.params(DeepLinkPath.PROJECT))
+
+        val project = router.match(Uri.parse("https://www.kickstarter.com/projects/skull-graphic-tee"))
+        assertEquals(mapOf("project" to "skull-graphic-tee"), project.params(DeepLinkPath.PROJECT))
+    }
+
+    @Test
+    fun testMatch_ambiguousCreatorSegment() {
+        // - Matches both a project named "comments" and the comments of a project without creator
+        val match = router.match(Uri.parse("https://www.kickstarter.com/projects/smithsonian/comments"))
+
+        assertTrue(match.isProject)
+        assertTrue(match.isProjectComment)
+        assertEquals(mapOf("project" to "smithsonian"), match.params(DeepLinkPath.PROJECT_COMMENTS))
+    }
+}
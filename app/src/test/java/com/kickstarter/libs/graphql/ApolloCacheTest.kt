@@ -0,0 +1,49 @@
+package com.kickstarter.libs.graphql
+
+import com.kickstarter.FetchProjectQuery
+import com.kickstarter.FetchProjectRewardsQuery
+import com.kickstarter.GetRootCategoriesQuery
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.UserPaymentsQuery
+import com.kickstarter.UserPrivacyQuery
+import com.kickstarter.WatchProjectMutation
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.services.transformers.encodeRelayId
+import org.junit.Test
+
+class ApolloCacheTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testCacheKeyFor_encodedRelayId() {
+        // - "Project-381739" as encoded by the API
+        assertEquals("Project-381739", ApolloCache.cacheKeyFor("UHJvamVjdC0zODE3Mzk=").key)
+        assertEquals(ApolloCache.cacheKeyFor("Project", 381739), ApolloCache.cacheKeyFor("UHJvamVjdC0zODE3Mzk="))
+    }
+
+    @Test
+    fun testCacheKeyFor_clientEncodedRelayId() {
+        val project = ProjectFactory.project()
+
+        assertEquals(
+            ApolloCache.cacheKeyFor("Project", project.id()),
+            ApolloCache.cacheKeyFor(encodeRelayId(project))
+        )
+    }
+
+    @Test
+    fun testCacheKeyFor_notRelayId() {
+        assertEquals("some-id", ApolloCache.cacheKeyFor("some-id").key)
+        assertEquals("", ApolloCache.cacheKeyFor("").key)
+    }
+
+    @Test
+    fun testOnlyPublicQueries_areStored() {
+        assertTrue(PublicQueriesOnlyInterceptor.isStored(FetchProjectQuery("slug")))
+        assertTrue(PublicQueriesOnlyInterceptor.isStored(FetchProjectRewardsQuery("slug")))
+        assertTrue(PublicQueriesOnlyInterceptor.isStored(GetRootCategoriesQuery()))
+
+        assertFalse(PublicQueriesOnlyInterceptor.isStored(UserPrivacyQuery()))
+        assertFalse(PublicQueriesOnlyInterceptor.isStored(UserPaymentsQuery()))
+        assertFalse(PublicQueriesOnlyInterceptor.isStored(WatchProjectMutation("UHJvamVjdC0x")))
+    }
+}
@@ -370,4 +370,73 @@ class HTMLParserTest {
         assertTrue(imageViewGif.src.isGif())
         assertTrue(imageViewWebp.src.isWebp())
     }
+
+    @Test
+    fun parse_callsFirstElements_beforeParsingTheWholeDocument() {
+        val html = (1..50).joinToString("") { "<p>Paragraph $it</p>" }
+        val firstElements = mutableListOf<List<ViewElement>>()
+
+        val listOfElements = HTMLParser().parse(html, 10) { firstElements.add(it) }
+
+        assertEquals(50, listOfElements.size)
+        assertEquals(1, firstElements.size)
+        assertEquals(10, firstElements.first().size)
+        assertEquals(listOfElements.subList(0, 10), firstElements.first())
+    }
+
+    @Test
+    fun parse_callsFirstElements_forDocumentsOfExactlyThatSize() {
+        val html = (1..10).joinToString("") { "<p>Paragraph $it</p>" }
+        val firstElements = mutableListOf<List<ViewElement>>()
+
+        val listOfElements = HTMLParser().parse(html, 10) { firstElements.add(it) }
+
+        assertEquals(listOf(listOfElements), firstElements)
+    }
+
+    @Test
+    fun parse_doesNotCallFirstElements_forShortDocuments() {
+        val html = (1..9).joinToString("") { "<p>Paragraph $it</p>" }
+        var calls = 0
+
+        val listOfElements = HTMLParser().parse(html, 10) { calls++ }
+
+        assertEquals(9, listOfElements.size)
+        assertEquals(0, calls)
+    }
+
+    @Test
+    fun parse_stopsWalkingTheDocument_onceCancelled() {
+        val html = (1..50).joinToString("") { "<p>Paragraph $it</p>" }
+        var cancelled = false
+
+        val listOfElements = HTMLParser().parse(html, 10, isCancelled = { cancelled }) { cancelled = true }
+
+        assertEquals(10, listOfElements.size)
+    }
+
+    @Test
+    fun parse_largeStory_withFirstElements_matchesWholeParse() {
+        // - Blocks as they are found on long campaigns: formatted text, images with captions and links, videos and embeds
+        val block = "<h1 id=\"h:the-story\" class=\"page-anchor\"><b>THE STORY</b></h1>" +
+            "<p>Making a record is like trying to catch <a href=\"https://www.kickstarter.com\"><b>lightning</b></a> in a bottle, " +
+            "<i>we have all the songs picked out</i> and the charts are written.</p>" +
+            "<ul><li>Musicians</li><li>Studio <strong>time</strong></li><li>Mixing and mastering</li></ul>" +
+            "<a href=\"http://example.com\" target=\"_blank\"><div class=\"template asset\" contenteditable=\"false\" data-alt-text=\"Alt\" data-caption=\"Caption\" data-id=\"1996633\">\n<figure>\n" +
+            "<img alt=\"Alt\" class=\"fit\" src=\"https://i.kickstarter.com/assets/001/996/633/original.JPG?fit=contain&amp;width=700\">\n" +
+            "<figcaption class=\"px2\">Caption</figcaption>\n</figure>\n</div></a>" +
+            "<div class=\"video-player\" data-video-url=\"https://v.kickstarter.com/video_h264_high.mp4\" data-image=\"https://i.kickstarter.com/thumb.jpg\">" +
+            "<video class=\"landscape\" preload=\"none\"><source src=\"https://v.kickstarter.com/video_h264_high.mp4\" type=\"video/mp4; codecs=&quot;avc1.64001E, mp4a.40.2&quot;\"></video></div>" +
+            "<div class=\"template oembed\" contenteditable=\"false\" data-href=\"https://www.youtube.com/watch?v=3u7EIiohs6U\">" +
+            "<iframe width=\"356\" height=\"200\" src=\"https://www.youtube.com/embed/3u7EIiohs6U?feature=oembed\" frameborder=\"0\" allowfullscreen></iframe></div>"
+
+        val html = block.repeat(100)
+        val firstElements = mutableListOf<List<ViewElement>>()
+
+        val listOfElements = HTMLParser().parse(html, 30) { firstElements.add(it) }
+
+        assertEquals(HTMLParser().parse(html), listOfElements)
+        assertEquals(1, firstElements.size)
+        assertEquals(listOfElements.subList(0, firstElements.first().size), firstElements.first())
+    }
 }
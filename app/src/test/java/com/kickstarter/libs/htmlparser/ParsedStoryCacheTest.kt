@@ -0,0 +1,50 @@
+package com.kickstarter.libs.htmlparser
+
+import junit.framework.TestCase.assertEquals
+import junit.framework.TestCase.assertNull
+import junit.framework.TestCase.assertSame
+import org.junit.Test
+
+class ParsedStoryCacheTest {
+
+    private val story = "<p>Story</p>"
+    private val viewElements = HTMLParser().parse(story)
+
+    @Test
+    fun get_returnsParsedStory_forSameProjectAndStory() {
+        val cache = ParsedStoryCache()
+        cache.put(1L, story, viewElements)
+
+        assertSame(viewElements, cache.get(1L, story))
+        assertNull(cache.get(2L, story))
+        assertNull(cache.get(1L, "<p>Edited story</p>"))
+    }
+
+    @Test
+    fun put_evictsLeastRecentlyUsedStory() {
+        val cache = ParsedStoryCache(maxStories = 2)
+        cache.put(1L, story, viewElements)
+        cache.put(2L, story, viewElements)
+
+        // - Project 1 is used again, so project 2 is the eldest
+        cache.get(1L, story)
+        cache.put(3L, story, viewElements)
+
+        assertSame(viewElements, cache.get(1L, story))
+        assertNull(cache.get(2L, story))
+        assertSame(viewElements, cache.get(3L, story))
+    }
+
+    @Test
+    fun get_comparesTheStory_whenHashesCollide() {
+        val cache = ParsedStoryCache()
+        // - Same length and hash code, different story
+        val story = "<p>Aa</p>"
+        val collidingStory = "<p>BB</p>"
+        cache.put(1L, story, viewElements)
+
+        assertEquals(story.hashCode(), collidingStory.hashCode())
+        assertNull(cache.get(1L, collidingStory))
+        assertSame(viewElements, cache.get(1L, story))
+    }
+}
@@ -0,0 +1,89 @@
+package com.kickstarter.libs.loadmore
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.ListUtils
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.models.Project
+import org.junit.Test
+
+class AccumulatedListTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testAppend_dropsElementsWithLoadedIds() {
+        val list = AccumulatedList.of(listOf(1, 2, 3)) { it }
+            .append(listOf(3, 4, 4, 5))
+
+        assertEquals(listOf(1, 2, 3, 4, 5), list)
+        assertEquals(5, list.size)
+        assertEquals(4, list[3])
+        assertTrue(list.containsId(5))
+        assertFalse(list.containsId(6))
+    }
+
+    @Test
+    fun testPrepend() {
+        val list = AccumulatedList.of(listOf(3, 4)) { it }
+            .prepend(listOf(1, 2, 3))
+
+        assertEquals(listOf(1, 2, 3, 4), list)
+    }
+
+    @Test
+    fun testAppend_whenNothingNew_returnsSameInstance() {
+        val list = AccumulatedList.of(listOf(1, 2)) { it }
+
+        assertSame(list, list.append(listOf(2, 1)))
+    }
+
+    @Test
+    fun testSnapshots_areNotModifiedByLaterPages() {
+        val first = AccumulatedList.of(listOf(1, 2)) { it }
+        val second = first.append(listOf(3))
+        val branch = first.append(listOf(3, 4))
+
+        assertEquals(listOf(1, 2), first)
+        assertEquals(listOf(1, 2, 3), second)
+        assertEquals(listOf(1, 2, 3, 4), branch)
+        assertEquals(listOf(1, 2, 3, 4, 5), second.append(listOf(3, 4, 5)))
+    }
+
+    @Test
+    fun testDistinctConcater_matchesConcatDistinct() {
+        val concater = AccumulatedList.distinctConcater<Project>({ it.id() })
+        val pages = pagesOfProjects(total = 60, pageSize = 15, overlap = 3)
+
+        val expected = pages.reduce { xs, ys -> ListUtils.concatDistinct(xs, ys) }
+        val accumulated = pages.reduce { xs, ys -> concater.apply(xs, ys) }
+
+        assertEquals(expected, accumulated)
+    }
+
+    @Test
+    fun testDistinctConcater_reversed() {
+        val concater = AccumulatedList.distinctConcater<Int>({ it }, { true })
+
+        assertEquals(listOf(1, 2, 3, 4), concater.apply(concater.apply(listOf(4), listOf(3)), listOf(1, 2)))
+    }
+
+    @Test
+    fun testAccumulatingPages_matchesConcatDistinct() {
+        val concater = AccumulatedList.distinctConcater<Project>({ it.id() })
+        val pages = pagesOfProjects(total = 1_000, pageSize = 25, overlap = 2)
+
+        val accumulated = pages.reduce { xs, ys -> concater.apply(xs, ys) }
+        val concatenated = pages.reduce { xs, ys -> ListUtils.concatDistinct(xs, ys) }
+
+        assertEquals(concatenated, accumulated.toList())
+        assertEquals(1_000, accumulated.size)
+    }
+
+    private fun pagesOfProjects(total: Int, pageSize: Int, overlap: Int): List<List<Project>> {
+        val project = ProjectFactory.project()
+        val projects = (1..total).map { project.toBuilder().id(it.toLong()).build() }
+
+        // - Every page repeats the last `overlap` projects of the previous one, as the API does when new projects are launched
+        return projects.chunked(pageSize).mapIndexed { i, page ->
+            if (i == 0) page else projects.subList((i * pageSize - overlap), i * pageSize) + page
+        }
+    }
+}
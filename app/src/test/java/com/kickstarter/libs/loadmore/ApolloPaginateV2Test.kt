@@ -0,0 +1,79 @@
+package com.kickstarter.libs.loadmore
+
+import android.util.Pair
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.models.Project
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import com.kickstarter.services.apiresponses.commentresponse.PageInfoEnvelope
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
+import org.junit.Test
+
+class ApolloPaginateV2Test : KSRobolectricTestCase() {
+
+    private fun project(id: Long) = ProjectFactory.project().toBuilder().id(id).build()
+
+    private fun envelope(projects: List<Project>, cursor: String, isFromCache: Boolean = false) = DiscoverEnvelope.builder()
+        .projects(projects)
+        .pageInfoEnvelope(PageInfoEnvelope.builder().endCursor(cursor).build())
+        .isFromCache(isFromCache)
+        .build()
+
+    @Test
+    fun testPageEmittedFromCacheAndNetwork_isReplacedNotConcatenated() {
+        val nextPage = PublishSubject.create<Unit>()
+        val cached = envelope(listOf(project(1), project(2)), "cached-cursor", isFromCache = true)
+        val network = envelope(listOf(project(3), project(1)), "network-cursor")
+        val secondPage = envelope(listOf(project(4)), "last-cursor")
+        val requestedCursors = mutableListOf<String>()
+
+        val paginator = ApolloPaginateV2.builder<Project, DiscoverEnvelope, String>()
+            .nextPage(nextPage)
+            .startOverWith(Observable.just("params"))
+            .envelopeToListOfData { it.projects() }
+            .loadWithParams { params: Pair<String, String> ->
+                requestedCursors.add(params.second)
+                if (params.second.isNullOrEmpty()) Observable.just(cached, network) else Observable.just(secondPage)
+            }
+            .clearWhenStartingOver(false)
+            .concatDistinctBy { it.id() }
+            .build()
+
+        val data = paginator.paginatedData()?.map { projects -> projects.map { it.id() } }?.test()
+
+        nextPage.onNext(Unit)
+
+        data?.assertValues(listOf(1L, 2L), listOf(3L, 1L), listOf(3L, 1L, 4L))
+        assertEquals(listOf("", "network-cursor"), requestedCursors)
+    }
+
+    @Test
+    fun testEmptyCachedPage_waitsForNetworkPage() {
+        val nextPage = PublishSubject.create<Unit>()
+        val cached = envelope(emptyList(), "cached-cursor", isFromCache = true)
+        val network = envelope(listOf(project(1), project(2)), "network-cursor")
+        val secondPage = envelope(listOf(project(3)), "last-cursor")
+        val requestedCursors = mutableListOf<String>()
+
+        val paginator = ApolloPaginateV2.builder<Project, DiscoverEnvelope, String>()
+            .nextPage(nextPage)
+            .startOverWith(Observable.just("params"))
+            .envelopeToListOfData { it.projects() }
+            .loadWithParams { params: Pair<String, String> ->
+                requestedCursors.add(params.second)
+                if (params.second.isNullOrEmpty()) Observable.just(cached, network) else Observable.just(secondPage)
+            }
+            .clearWhenStartingOver(false)
+            .concatDistinctBy { it.id() }
+            .build()
+
+        val data = paginator.paginatedData()?.map { projects -> projects.map { it.id() } }?.test()
+
+        nextPage.onNext(Unit)
+
+        data?.assertValues(emptyList<Long>(), listOf(1L, 2L), listOf(1L, 2L, 3L))
+        data?.assertNotComplete()
+        assertEquals(listOf("", "network-cursor"), requestedCursors)
+    }
+}
@@ -0,0 +1,84 @@
+package com.kickstarter.libs.recyclerviewpagination
+
+import junit.framework.TestCase
+import org.junit.Test
+
+class PrefetchDistanceTest : TestCase() {
+    private var now = 0L
+    private val prefetch = PrefetchDistance(minItems = 3, maxItems = 15, clock = { now })
+
+    @Test
+    fun testRequestsNextPage_withinMinDistanceOfTheEnd() {
+        assertFalse(prefetch.shouldRequestNextPage(15, 20))
+        assertTrue(prefetch.shouldRequestNextPage(16, 20))
+    }
+
+    @Test
+    fun testDoesNotRequestTwice_forTheSamePage() {
+        assertTrue(prefetch.shouldRequestNextPage(16, 20))
+        prefetch.onLoadingChanged(true)
+
+        assertFalse(prefetch.shouldRequestNextPage(17, 20))
+        assertFalse(prefetch.shouldRequestNextPage(19, 20))
+
+        prefetch.onLoadingChanged(false)
+        assertFalse(prefetch.shouldRequestNextPage(18, 20))
+        assertTrue(prefetch.shouldRequestNextPage(36, 40))
+    }
+
+    @Test
+    fun testRequestsNextPage_whenLoadedAtPositionSkippedWhileLoading() {
+        prefetch.onLoadingChanged(true)
+        assertFalse(prefetch.shouldRequestNextPage(19, 20))
+
+        // - The user stopped at the end of the list while the previous request was loading
+        prefetch.onLoadingChanged(false)
+        assertTrue(prefetch.shouldRequestNextPageWhenLoaded(19, 20))
+    }
+
+    @Test
+    fun testDoesNotRequest_whenLoadedAwayFromTheEnd() {
+        assertTrue(prefetch.shouldRequestNextPage(17, 20))
+        prefetch.onLoadingChanged(true)
+        prefetch.onLoadingChanged(false)
+
+        // - The loaded page moved the end of the list away
+        assertFalse(prefetch.shouldRequestNextPageWhenLoaded(17, 40))
+    }
+
+    @Test
+    fun testDistanceGrows_withScrollVelocityAndPageLatency() {
+        assertEquals(3, prefetch.distance())
+
+        // - Pages take 2s to load
+        prefetch.onLoadingChanged(true)
+        now += 2_000
+        prefetch.onLoadingChanged(false)
+
+        // - Scrolling 1 item every 50ms
+        repeat(20) {
+            now += 50
+            prefetch.shouldRequestNextPage(it, 1_000)
+        }
+
+        assertEquals(15, prefetch.distance())
+    }
+
+    @Test
+    fun testCountsStalledBoundaries() {
+        // - Prefetched page loaded in time
+        assertTrue(prefetch.shouldRequestNextPage(17, 20))
+        prefetch.onLoadingChanged(true)
+        prefetch.onLoadingChanged(false)
+
+        // - Reached the end of the next page while it was still loading
+        assertTrue(prefetch.shouldRequestNextPage(37, 40))
+        prefetch.onLoadingChanged(true)
+        assertFalse(prefetch.shouldRequestNextPage(39, 40))
+        prefetch.onLoadingChanged(false)
+
+        assertEquals(1, prefetch.boundariesReached)
+        assertEquals(1, prefetch.stalledBoundaries)
+        assertEquals(1.0, prefetch.stallRatio())
+    }
+}
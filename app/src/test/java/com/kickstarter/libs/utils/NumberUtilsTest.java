@@ -5,7 +5,11 @@ import com.kickstarter.libs.NumberOptions;
 import junit.framework.TestCase;
 
 import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class NumberUtilsTest extends TestCase {
   public void testFlooredPercentage() {
@@ -131,5 +135,60 @@ public final class NumberUtilsTest extends TestCase {
     assertEquals(0, NumberUtils.precision(1.0, RoundingMode.HALF_UP));
     assertEquals(2, NumberUtils.precision(1.5, RoundingMode.HALF_UP));
   }
-}
 
+  public void testFormat_cachedFormattersDontShareConfiguration() {
+    assertEquals("100.12", NumberUtils.format(100.12f, NumberOptions.builder().precision(2).build(), Locale.US));
+    assertEquals("100", NumberUtils.format(100.12f, NumberOptions.builder().build(), Locale.US));
+    assertEquals("100,12", NumberUtils.format(100.12f, NumberOptions.builder().precision(2).build(), Locale.GERMANY));
+    assertEquals("$100", NumberUtils.format(100.0f, NumberOptions.builder().currencySymbol("$").build(), Locale.US));
+    assertEquals("£100", NumberUtils.format(100.0f, NumberOptions.builder().currencySymbol("£").build(), Locale.US));
+    assertEquals("1.5K", NumberUtils.format(1500.0f, NumberOptions.builder().bucketAbove(1000.0f).bucketPrecision(1).build(), Locale.US));
+    assertEquals("2M CAD", NumberUtils.format(2_000_000.0f, NumberOptions.builder().bucketAbove(1_000_000.0f).currencyCode("CAD").build(), Locale.US));
+  }
+
+  public void testNumberFormatCache_isThreadConfined() throws InterruptedException {
+    final NumberFormat formatter = NumberFormatCache.integer(Locale.US);
+    assertSame(formatter, NumberFormatCache.integer(Locale.US));
+
+    final AtomicReference<NumberFormat> otherThreadFormatter = new AtomicReference<>();
+    final Thread thread = new Thread(() -> otherThreadFormatter.set(NumberFormatCache.integer(Locale.US)));
+    thread.start();
+    thread.join();
+
+    assertNotSame(formatter, otherThreadFormatter.get());
+  }
+
+  /**
+   * Renders the pledged stat of 10,000 project cards, compared to building the formatter for every stat.
+   */
+  public void testFormat_projectCardStats_matchesUncachedFormatter() {
+    final int cards = 10_000;
+    final NumberOptions pledgedOptions = NumberOptions.builder()
+      .currencySymbol("$")
+      .bucketAbove(100_000.0f)
+      .bucketPrecision(1)
+      .build();
+
+    for (int i = 0; i < cards; i += 97) {
+      assertEquals(uncachedFormat(i * 123.0f, pledgedOptions), NumberUtils.format(i * 123.0f, pledgedOptions, Locale.US));
+    }
+  }
+
+  /**
+   * Currency formatting as done before formatters were cached.
+   */
+  private static String uncachedFormat(final float value, final NumberOptions options) {
+    final DecimalFormat numberFormat = (DecimalFormat) NumberFormat.getCurrencyInstance(Locale.US);
+    final DecimalFormatSymbols symbols = numberFormat.getDecimalFormatSymbols();
+    symbols.setCurrencySymbol(options.currencySymbol());
+    numberFormat.setDecimalFormatSymbols(symbols);
+    numberFormat.setRoundingMode(RoundingMode.HALF_DOWN);
+
+    final boolean bucketed = value >= options.bucketAbove();
+    final int precision = bucketed ? options.bucketPrecision() : 0;
+    numberFormat.setMinimumFractionDigits(precision);
+    numberFormat.setMaximumFractionDigits(precision);
+
+    return String.format("%s%s", numberFormat.format(bucketed ? value / 1000.0f : value), bucketed ? "K" : "").trim();
+  }
+}
@@ -0,0 +1,92 @@
+package com.kickstarter.libs.utils
+
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+
+class RefreshThrottleTest : KSRobolectricTestCase() {
+
+    private var now = 1_000L
+    private val throttle = RefreshThrottle(minIntervalMs = 60_000L, clock = { now })
+
+    @Test
+    fun testTryStart_firstRefresh() {
+        assertTrue(throttle.tryStart())
+        assertEquals(1L, throttle.refreshes())
+        assertEquals(0L, throttle.skipped())
+    }
+
+    @Test
+    fun testTryStart_skipsUntilIntervalElapsed() {
+        assertTrue(throttle.tryStart())
+        throttle.finish(succeeded = true)
+
+        now += 59_999L
+        assertFalse(throttle.tryStart())
+
+        now += 1L
+        assertTrue(throttle.tryStart())
+
+        assertEquals(2L, throttle.refreshes())
+        assertEquals(1L, throttle.skipped())
+    }
+
+    @Test
+    fun testTryStart_skipsWhileInFlight() {
+        assertTrue(throttle.tryStart())
+
+        // - Foregrounded again before the first refresh came back
+        now += 120_000L
+        assertFalse(throttle.tryStart())
+
+        throttle.finish(succeeded = true)
+        assertTrue(throttle.tryStart())
+    }
+
+    @Test
+    fun testTryStart_retriesAfterFailure() {
+        assertTrue(throttle.tryStart())
+        throttle.finish(succeeded = false)
+
+        assertTrue(throttle.tryStart())
+    }
+
+    @Test
+    fun testTryStart_refreshesWhenKeyChanges() {
+        assertTrue(throttle.tryStart("token"))
+        throttle.finish(succeeded = true)
+
+        assertFalse(throttle.tryStart("token"))
+        assertTrue(throttle.tryStart("new_token"))
+    }
+
+    @Test
+    fun testFinish_withoutRefreshInFlight() {
+        assertTrue(throttle.tryStart())
+        throttle.finish(succeeded = true)
+
+        // - A late failure doesn't reset the refresh that completed
+        throttle.finish(succeeded = false)
+        assertFalse(throttle.tryStart())
+    }
+
+    /**
+     * Refreshes sent for a heavy user foregrounding the app every 10 minutes for a day, with the config
+     * throttled to 15 minutes and the user to 5 minutes.
+     */
+    @Test
+    fun testDayOfForegrounds() {
+        val config = RefreshThrottle(ApplicationLifecycleUtil.CONFIG_MIN_REFRESH_INTERVAL_MS, clock = { now })
+        val user = RefreshThrottle(ApplicationLifecycleUtil.USER_MIN_REFRESH_INTERVAL_MS, clock = { now })
+        val foregrounds = 24 * 6
+
+        repeat(foregrounds) {
+            if (config.tryStart()) config.finish(succeeded = true)
+            if (user.tryStart("token")) user.finish(succeeded = true)
+            now += 10 * 60_000L
+        }
+
+        assertEquals(foregrounds.toLong(), config.refreshes() + config.skipped())
+        assertEquals(foregrounds / 2L, config.refreshes())
+        assertEquals(foregrounds.toLong(), user.refreshes())
+    }
+}
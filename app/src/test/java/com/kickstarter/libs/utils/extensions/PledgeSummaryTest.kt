@@ -0,0 +1,173 @@
+package com.kickstarter.libs.utils.extensions
+
+import com.kickstarter.libs.utils.PledgeSummary
+import com.kickstarter.libs.utils.RewardUtils
+import com.kickstarter.mock.factories.ProjectDataFactory.project
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.factories.RewardFactory
+import com.kickstarter.mock.factories.ShippingRuleFactory
+import com.kickstarter.models.Reward
+import com.kickstarter.ui.data.PledgeData
+import com.kickstarter.ui.data.PledgeData.Companion.with
+import com.kickstarter.ui.data.PledgeFlowContext
+import junit.framework.TestCase
+
+class PledgeSummaryTest : TestCase() {
+
+    private val shippingRule = ShippingRuleFactory.canadaShippingRule()
+
+    private val reward = RewardFactory.rewardWithShipping().toBuilder()
+        .shippingRules(listOf(shippingRule))
+        .latePledgeAmount(8.0)
+        .pledgeAmount(2.0)
+        .build()
+
+    private fun addOn(id: Long, quantity: Int) = RewardFactory.addOn().toBuilder()
+        .id(id)
+        .quantity(quantity)
+        .latePledgeAmount(5.0 + id)
+        .pledgeAmount(3.0 + id)
+        .shippingRules(listOf(shippingRule))
+        .shippingPreference(Reward.ShippingPreference.UNRESTRICTED.name)
+        .build()
+
+    private fun pledgeData(
+        pledgeFlowContext: PledgeFlowContext,
+        addOns: List<Reward>,
+        bonusAmount: Double = 0.0,
+        reward: Reward = this.reward
+    ) = with(
+        pledgeFlowContext,
+        project(ProjectFactory.project()), reward, addOns, bonusAmount = bonusAmount, shippingRule = shippingRule
+    )
+
+    /**
+     * Amounts as `PledgeDataExt` computed them before they were read from [pledgeSummary].
+     */
+    private fun previousSummary(pledgeData: PledgeData): PledgeSummary {
+        val reward = pledgeData.reward()
+        val rwShippingCost = if (RewardUtils.isShippable(reward)) {
+            reward.shippingRules()?.find { it.location()?.id() == pledgeData.locationId() }?.cost()
+                ?: (reward.shippingRules()?.find { it.location()?.id() == 1L }?.cost() ?: 0.0)
+        } else 0.0
+        var addOnsShippingCost = 0.0
+        pledgeData.addOns()?.forEach {
+            if (RewardUtils.shipsWorldwide(it) || RewardUtils.shipsToRestrictedLocations(it)) {
+                addOnsShippingCost += (it.shippingRules()?.firstOrNull()?.cost() ?: 0.0) * (it.quantity() ?: 0)
+            }
+        }
+
+        var pledgeAmount: Double
+        if (pledgeData.pledgeFlowContext() == PledgeFlowContext.LATE_PLEDGES) {
+            pledgeAmount = if (reward.latePledgeAmount() == 0.0) reward.minimum() else reward.latePledgeAmount()
+            pledgeData.addOns()?.forEach {
+                val amount = if (it.latePledgeAmount() == 0.0) it.minimum() else it.latePledgeAmount()
+                pledgeAmount += amount * (it.quantity() ?: 0)
+            }
+        } else {
+            pledgeAmount = reward.pledgeAmount()
+            pledgeData.addOns()?.forEach { pledgeAmount += it.pledgeAmount() * (it.quantity() ?: 0) }
+        }
+
+        return PledgeSummary(pledgeAmount, rwShippingCost + addOnsShippingCost, pledgeData.bonusAmount())
+    }
+
+    private fun assertMatchesPreviousAmounts(pledgeData: PledgeData) {
+        val previous = previousSummary(pledgeData)
+
+        assertEquals(previous, pledgeData.pledgeSummary())
+        assertEquals(previous.pledgeAmount, pledgeData.pledgeAmountTotal())
+        assertEquals(previous.shippingAmount, pledgeData.shippingCostIfShipping())
+        assertEquals(previous.pledgeAmountPlusBonus, pledgeData.pledgeAmountTotalPlusBonus())
+        assertEquals(previous.totalAmount, pledgeData.checkoutTotalAmount())
+    }
+
+    fun `test summary matches previous amounts on late pledges`() {
+        val pledgeData = pledgeData(PledgeFlowContext.LATE_PLEDGES, listOf(addOn(1, 3), addOn(2, 2)), bonusAmount = 3.0)
+
+        assertMatchesPreviousAmounts(pledgeData)
+        assertEquals(103.0, pledgeData.checkoutTotalAmount())
+    }
+
+    fun `test summary matches previous amounts on crowdfund`() {
+        assertMatchesPreviousAmounts(pledgeData(PledgeFlowContext.NEW_PLEDGE, listOf(addOn(1, 3), addOn(2, 2)), bonusAmount = 4.0))
+    }
+
+    fun `test summary for digital reward has no shipping`() {
+        val digital = RewardFactory.digitalReward().toBuilder().pledgeAmount(2.0).build()
+        val pledgeData = pledgeData(PledgeFlowContext.NEW_PLEDGE, emptyList(), bonusAmount = 1.0, reward = digital)
+
+        assertMatchesPreviousAmounts(pledgeData)
+        assertEquals(0.0, pledgeData.shippingCostIfShipping())
+    }
+
+    fun `test summary follows edits to the pledge`() {
+        val addOns = mutableListOf(addOn(1, 3), addOn(2, 2), addOn(3, 1))
+
+        var pledgeData = pledgeData(PledgeFlowContext.NEW_PLEDGE, addOns.toList())
+        assertMatchesPreviousAmounts(pledgeData)
+
+        // - Quantity of one add-on
+        addOns[1] = addOn(2, 5)
+        pledgeData = pledgeData(PledgeFlowContext.NEW_PLEDGE, addOns.toList())
+        assertMatchesPreviousAmounts(pledgeData)
+
+        // - Bonus amount
+        pledgeData = pledgeData.toBuilder().bonusAmount(12.0).build()
+        assertMatchesPreviousAmounts(pledgeData)
+
+        // - Removed add-on
+        addOns.removeAt(0)
+        pledgeData = pledgeData(PledgeFlowContext.NEW_PLEDGE, addOns.toList(), bonusAmount = 12.0)
+        assertMatchesPreviousAmounts(pledgeData)
+
+        // - Shipping location
+        val usRule = ShippingRuleFactory.usShippingRule()
+        val reward = reward.toBuilder().shippingRules(listOf(shippingRule, usRule)).build()
+        pledgeData = with(
+            PledgeFlowContext.NEW_PLEDGE,
+            project(ProjectFactory.project()), reward, addOns.toList(), bonusAmount = 12.0, shippingRule = usRule
+        )
+        assertMatchesPreviousAmounts(pledgeData)
+
+        // - Flow
+        pledgeData = pledgeData(PledgeFlowContext.LATE_PLEDGES, addOns.toList(), bonusAmount = 12.0)
+        assertMatchesPreviousAmounts(pledgeData)
+    }
+
+    fun `test copies of the pledge have the same summary`() {
+        val pledgeData = pledgeData(PledgeFlowContext.NEW_PLEDGE, listOf(addOn(1, 3), addOn(2, 2)), bonusAmount = 4.0)
+        val copy = pledgeData(
+            PledgeFlowContext.NEW_PLEDGE,
+            listOf(addOn(1, 3), addOn(2, 2)),
+            bonusAmount = 4.0,
+            reward = reward.toBuilder().build()
+        )
+
+        assertEquals(pledgeData.pledgeSummary(), copy.pledgeSummary())
+
+        // - Same rewards, another quantity
+        val edited = pledgeData(PledgeFlowContext.NEW_PLEDGE, listOf(addOn(1, 3), addOn(2, 4)), bonusAmount = 4.0)
+        assertMatchesPreviousAmounts(edited)
+        assertFalse(pledgeData.pledgeSummary() == edited.pledgeSummary())
+    }
+
+    fun `test pledge amount falls back to the reward minimum`() {
+        val reward = RewardFactory.digitalReward().toBuilder().minimum(15.0).pledgeAmount(0.0).latePledgeAmount(0.0).build()
+        val addOn = RewardFactory.addOn().toBuilder().minimum(5.0).pledgeAmount(0.0).latePledgeAmount(0.0).quantity(2).build()
+
+        assertEquals(25.0, pledgeData(PledgeFlowContext.NEW_PLEDGE, listOf(addOn), reward = reward).pledgeAmountTotal())
+        assertEquals(25.0, pledgeData(PledgeFlowContext.LATE_PLEDGES, listOf(addOn), reward = reward).pledgeAmountTotal())
+    }
+
+    fun `test pledge amount of reward and add-ons matches PledgeData`() {
+        val addOns = listOf(addOn(1, 3), addOn(2, 2))
+
+        listOf(PledgeFlowContext.NEW_PLEDGE, PledgeFlowContext.LATE_PLEDGES).forEach { flow ->
+            assertEquals(
+                pledgeData(flow, addOns).pledgeAmountTotal(),
+                pledgeAmountTotal(reward, addOns, flow == PledgeFlowContext.LATE_PLEDGES)
+            )
+        }
+    }
+}
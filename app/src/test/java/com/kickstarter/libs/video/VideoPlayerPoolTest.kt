@@ -0,0 +1,200 @@
+package com.kickstarter.libs.video
+
+import com.google.android.exoplayer2.ExoPlayer
+import com.google.android.exoplayer2.source.MediaSource
+import junit.framework.TestCase.assertEquals
+import junit.framework.TestCase.assertNull
+import junit.framework.TestCase.assertSame
+import org.junit.Test
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+
+class VideoPlayerPoolTest {
+
+    private val mediaSources = mutableMapOf<String, MediaSource>()
+
+    private fun pool(maxPlayers: Int = 2) = VideoPlayerPool(
+        maxPlayers = maxPlayers,
+        createPlayer = { mock(ExoPlayer::class.java) },
+        mediaSource = { url -> mediaSources.getOrPut(url) { mock(MediaSource::class.java) } }
+    )
+
+    @Test
+    fun acquire_preparesNewPlayer() {
+        val pool = pool()
+
+        val player = pool.acquire("https://v.kickstarter.com/1.mp4")
+
+        verify(player).setMediaSource(mediaSources["https://v.kickstarter.com/1.mp4"])
+        verify(player).prepare()
+        assertEquals(1, pool.playersCreated)
+        assertEquals(1, pool.liveDecoders())
+    }
+
+    @Test
+    fun acquire_sameUrl_handsOffPlayerWithoutPreparingAgain() {
+        val pool = pool()
+        val inline = pool.acquire("https://v.kickstarter.com/1.mp4")
+
+        val fullScreen = pool.acquire("https://v.kickstarter.com/1.mp4")
+
+        assertSame(inline, fullScreen)
+        verify(fullScreen, times(1)).prepare()
+        assertEquals(1, pool.handoffs)
+        assertEquals(1, pool.playersCreated)
+    }
+
+    @Test
+    fun acquire_whenFull_recyclesLeastRecentlyUsedPlayer() {
+        val pool = pool(maxPlayers = 2)
+        val first = pool.acquire("https://v.kickstarter.com/1.mp4")
+        val second = pool.acquire("https://v.kickstarter.com/2.mp4")
+
+        // - The first video is used again, so the second one is the eldest
+        pool.acquire("https://v.kickstarter.com/1.mp4")
+        val third = pool.acquire("https://v.kickstarter.com/3.mp4")
+
+        assertSame(second, third)
+        verify(second).stop()
+        verify(second).clearMediaItems()
+        verify(first, never()).stop()
+        assertNull(pool.peek("https://v.kickstarter.com/2.mp4"))
+        assertEquals(2, pool.liveDecoders())
+        assertEquals(2, pool.playersCreated)
+        assertEquals(1, pool.playersRecycled)
+    }
+
+    @Test
+    fun releaseAll_releasesEveryDecoder() {
+        val pool = pool()
+        val first = pool.acquire("https://v.kickstarter.com/1.mp4")
+        val second = pool.acquire("https://v.kickstarter.com/2.mp4")
+
+        pool.releaseAll()
+
+        verify(first).release()
+        verify(second).release()
+        assertEquals(0, pool.liveDecoders())
+    }
+
+    @Test
+    fun release_onlyReleasesThatVideo() {
+        val pool = pool()
+        val first = pool.acquire("https://v.kickstarter.com/1.mp4")
+        val second = pool.acquire("https://v.kickstarter.com/2.mp4")
+
+        pool.release("https://v.kickstarter.com/1.mp4")
+
+        verify(first).release()
+        verify(second, never()).release()
+        assertSame(second, pool.peek("https://v.kickstarter.com/2.mp4"))
+        assertEquals(1, pool.liveDecoders())
+    }
+
+    @Test
+    fun acquire_whenFull_tellsOwnersOfRecycledPlayer() {
+        val pool = pool(maxPlayers = 1)
+        val reclaimed = mutableListOf<Pair<String, ExoPlayer>>()
+        // - The pool only holds its listeners weakly, the views keep them alive
+        val headerListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("header" to it) }
+        val fullScreenListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("full_screen" to it) }
+        val campaignListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("campaign" to it) }
+        val header = pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = headerListener)
+        pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = fullScreenListener)
+
+        pool.acquire("https://v.kickstarter.com/2.mp4", onReclaimed = campaignListener)
+
+        assertEquals(listOf("header" to header, "full_screen" to header), reclaimed)
+
+        // - Owners of the video are only told once
+        reclaimed.clear()
+        pool.releaseAll()
+        assertEquals(listOf("campaign" to header), reclaimed)
+    }
+
+    @Test
+    fun release_tellsOwnersOfThatVideo() {
+        val pool = pool()
+        val reclaimed = mutableListOf<String>()
+        val firstListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("first") }
+        val secondListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("second") }
+        pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = firstListener)
+        pool.acquire("https://v.kickstarter.com/2.mp4", onReclaimed = secondListener)
+
+        pool.release("https://v.kickstarter.com/1.mp4")
+
+        assertEquals(listOf("first"), reclaimed)
+    }
+
+    @Test
+    fun detach_stopsTellingThatOwner() {
+        val pool = pool()
+        val reclaimed = mutableListOf<String>()
+        val inlineListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("inline") }
+        val fullScreenListener = VideoPlayerPool.OnPlayerReclaimedListener { reclaimed.add("full_screen") }
+        pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = inlineListener)
+        pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = fullScreenListener)
+        assertEquals(2, pool.liveOwners())
+
+        pool.detach("https://v.kickstarter.com/1.mp4", fullScreenListener)
+        assertEquals(1, pool.liveOwners())
+
+        pool.release("https://v.kickstarter.com/1.mp4")
+
+        assertEquals(listOf("inline"), reclaimed)
+        assertEquals(0, pool.liveOwners())
+    }
+
+    @Test
+    fun acquire_sameListenerTwice_isOnlyOneOwner() {
+        val pool = pool()
+        val listener = VideoPlayerPool.OnPlayerReclaimedListener { }
+
+        pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = listener)
+        pool.acquire("https://v.kickstarter.com/1.mp4", onReclaimed = listener)
+
+        assertEquals(1, pool.liveOwners())
+    }
+
+    @Test
+    fun releaseAllOfScope_keepsPlayersOfOtherScopes() {
+        val pool = pool(maxPlayers = 3)
+        val projectPage = Any()
+        val otherProjectPage = Any()
+        val header = pool.acquire("https://v.kickstarter.com/1.mp4", projectPage)
+        val campaign = pool.acquire("https://v.kickstarter.com/2.mp4", projectPage)
+        val otherHeader = pool.acquire("https://v.kickstarter.com/3.mp4", otherProjectPage)
+
+        // - Full screen takes the handed off player, it stays with the project page
+        pool.acquire("https://v.kickstarter.com/1.mp4", Any())
+
+        pool.releaseAll(projectPage)
+
+        verify(header).release()
+        verify(campaign).release()
+        verify(otherHeader, never()).release()
+        assertSame(otherHeader, pool.peek("https://v.kickstarter.com/3.mp4"))
+        assertEquals(1, pool.liveDecoders())
+    }
+
+    @Test
+    fun bufferedBytes_sumsLivePlayers() {
+        val buffered = mutableMapOf<ExoPlayer, Int>()
+        val pool = VideoPlayerPool(
+            maxPlayers = 2,
+            createPlayer = { mock(ExoPlayer::class.java) },
+            mediaSource = { mock(MediaSource::class.java) },
+            bufferedBytes = { buffered[it] ?: 0 }
+        )
+        buffered[pool.acquire("https://v.kickstarter.com/1.mp4")] = 1_000
+        buffered[pool.acquire("https://v.kickstarter.com/2.mp4")] = 500
+
+        assertEquals(1_500L, pool.bufferedBytes())
+
+        pool.release("https://v.kickstarter.com/1.mp4")
+
+        assertEquals(500L, pool.bufferedBytes())
+    }
+}
@@ -0,0 +1,70 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.api.ApolloRequest
+import com.apollographql.apollo3.api.ApolloResponse
+import com.apollographql.apollo3.api.Operation
+import com.apollographql.apollo3.network.NetworkTransport
+import com.google.gson.Gson
+import junit.framework.TestCase
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOf
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class KSApolloClientV2Test : TestCase() {
+
+    /**
+     * Fake transport answering every operation with an empty response, or never answering at all.
+     */
+    private class FakeNetworkTransport(private val respond: Boolean = true) : NetworkTransport {
+        override fun <D : Operation.Data> execute(request: ApolloRequest<D>): Flow<ApolloResponse<D>> =
+            if (respond) flowOf(ApolloResponse.Builder(request.operation, request.requestUuid, null).build())
+            else flow { awaitCancellation() }
+
+        override fun dispose() {}
+    }
+
+    private fun client(respond: Boolean = true) = KSApolloClientV2(
+        ApolloClient.Builder().networkTransport(FakeNetworkTransport(respond)).build(),
+        Gson()
+    )
+
+    /**
+     * Waits for the in flight requests to settle on `expected`: requests are subscribed on io, and
+     * removed in `doFinally`, which runs after the observer gets the terminal event.
+     */
+    private fun assertInFlightRequests(expected: Int, client: KSApolloClientV2) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+        while (client.inFlightRequests() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5)
+        }
+        assertEquals(expected, client.inFlightRequests())
+    }
+
+    @Test
+    fun testFinishedRequests_areNotRetained() {
+        val client = client()
+
+        repeat(10_000) {
+            client.userPrivacy().test().await(5, TimeUnit.SECONDS)
+            client.deletePaymentSource("paymentSourceId").test().await(5, TimeUnit.SECONDS)
+        }
+
+        assertInFlightRequests(0, client)
+    }
+
+    @Test
+    fun testDisposedRequests_areCancelled() {
+        val client = client(respond = false)
+
+        val observers = List(100) { client.userPrivacy().test() }
+        assertInFlightRequests(100, client)
+
+        observers.forEach { it.dispose() }
+
+        assertInFlightRequests(0, client)
+    }
+}
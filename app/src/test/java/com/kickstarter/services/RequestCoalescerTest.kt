@@ -0,0 +1,105 @@
+package com.kickstarter.services
+
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
+import junit.framework.TestCase
+import org.junit.Test
+import java.util.concurrent.atomic.AtomicInteger
+
+class RequestCoalescerTest : TestCase() {
+
+    @Test
+    fun testConcurrentIdenticalRequests_shareOneCall() {
+        val coalescer = RequestCoalescer()
+        val calls = AtomicInteger()
+        val response = PublishSubject.create<String>()
+        val request = { calls.incrementAndGet(); response }
+
+        val first = coalescer.coalesce("project:slug", request).test()
+        val second = coalescer.coalesce("project:slug", request).test()
+        val third = coalescer.coalesce("project:slug", request).test()
+
+        response.onNext("project")
+        response.onComplete()
+
+        assertEquals(1, calls.get())
+        listOf(first, second, third).forEach {
+            it.assertValues("project")
+            it.assertComplete()
+        }
+        assertEquals(1L, coalescer.requestsStarted())
+        assertEquals(2L, coalescer.requestsCoalesced())
+    }
+
+    @Test
+    fun testDifferentKeys_areNotCoalesced() {
+        val coalescer = RequestCoalescer()
+        val calls = AtomicInteger()
+
+        coalescer.coalesce("project:slug-1") { calls.incrementAndGet(); Observable.never<String>() }.test()
+        coalescer.coalesce("project:slug-2") { calls.incrementAndGet(); Observable.never<String>() }.test()
+
+        assertEquals(2, calls.get())
+        assertEquals(0L, coalescer.requestsCoalesced())
+    }
+
+    @Test
+    fun testFinishedRequest_isStartedAgain() {
+        val coalescer = RequestCoalescer()
+        val calls = AtomicInteger()
+        val request = { Observable.just(calls.incrementAndGet()) }
+
+        coalescer.coalesce("config", request).test().assertValues(1)
+        coalescer.coalesce("config", request).test().assertValues(2)
+
+        assertEquals(2L, coalescer.requestsStarted())
+        assertEquals(0L, coalescer.requestsCoalesced())
+    }
+
+    @Test
+    fun testLateSubscriber_receivesLatestValue() {
+        val coalescer = RequestCoalescer()
+        val response = PublishSubject.create<String>()
+
+        val first = coalescer.coalesce("project:slug") { response }.test()
+        response.onNext("cached")
+        val second = coalescer.coalesce("project:slug") { response }.test()
+        response.onNext("network")
+        response.onComplete()
+
+        first.assertValues("cached", "network")
+        second.assertValues("cached", "network")
+    }
+
+    @Test
+    fun testErrors_areSharedAndNotCached() {
+        val coalescer = RequestCoalescer()
+        val calls = AtomicInteger()
+        val response = PublishSubject.create<String>()
+
+        val first = coalescer.coalesce("me") { calls.incrementAndGet(); response }.test()
+        val second = coalescer.coalesce("me") { calls.incrementAndGet(); response }.test()
+        response.onError(Exception("error"))
+
+        first.assertError(Exception::class.java)
+        second.assertError(Exception::class.java)
+
+        coalescer.coalesce("me") { calls.incrementAndGet(); Observable.just("user") }.test().assertValues("user")
+        assertEquals(2, calls.get())
+    }
+
+    @Test
+    fun testAllSubscribersDisposed_cancelsRequest() {
+        val coalescer = RequestCoalescer()
+        val response = PublishSubject.create<String>()
+
+        val first = coalescer.coalesce("project:slug") { response }.test()
+        val second = coalescer.coalesce("project:slug") { response }.test()
+        assertTrue(response.hasObservers())
+
+        first.dispose()
+        assertTrue(response.hasObservers())
+        second.dispose()
+        assertFalse(response.hasObservers())
+    }
+}
@@ -0,0 +1,113 @@
+package com.kickstarter.services
+
+import junit.framework.TestCase
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import java.io.File
+import java.nio.file.Files
+
+class RootHttpClientTest : TestCase() {
+
+    private lateinit var cacheFolder: File
+    private lateinit var server: MockWebServer
+    private lateinit var metrics: HttpClientMetrics
+    private lateinit var rootClient: OkHttpClient
+
+    @Before
+    public override fun setUp() {
+        cacheFolder = Files.createTempDirectory("http-cache").toFile()
+        server = MockWebServer()
+        server.start()
+        metrics = HttpClientMetrics()
+        rootClient = RootHttpClient.create(newCacheDir(), metrics)
+    }
+
+    @After
+    public override fun tearDown() {
+        server.shutdown()
+        cacheFolder.deleteRecursively()
+    }
+
+    private fun newCacheDir() = Files.createTempDirectory(cacheFolder.toPath(), "cache").toFile()
+
+    @Test
+    fun testDerivedClients_shareConnectionPool() {
+        val restClient = rootClient.newBuilder()
+            .addInterceptor { it.proceed(it.request().newBuilder().header("client", "rest").build()) }
+            .build()
+        val graphClient = rootClient.newBuilder()
+            .addInterceptor { it.proceed(it.request().newBuilder().header("client", "graph").build()) }
+            .build()
+
+        server.enqueue(MockResponse().setBody("rest"))
+        server.enqueue(MockResponse().setBody("graph"))
+
+        restClient.newCall(Request.Builder().url(server.url("/v1/app/android/config")).build()).execute().use {
+            assertEquals("rest", it.body?.string())
+        }
+        graphClient.newCall(Request.Builder().url(server.url("/graph")).build()).execute().use {
+            assertEquals("graph", it.body?.string())
+        }
+
+        val snapshot = metrics.snapshot()
+        assertEquals(2L, snapshot.connectionsAcquired)
+        assertEquals(1L, snapshot.connectionsEstablished)
+        assertEquals(0.5, snapshot.connectionReuseRatio)
+
+        // - Two independent clients would have opened one connection each
+        val independentMetrics = HttpClientMetrics()
+        val independentRest = RootHttpClient.create(newCacheDir(), independentMetrics)
+        val independentGraph = RootHttpClient.create(newCacheDir(), independentMetrics)
+        server.enqueue(MockResponse().setBody("rest"))
+        server.enqueue(MockResponse().setBody("graph"))
+        independentRest.newCall(Request.Builder().url(server.url("/v1/app/android/config")).build()).execute().close()
+        independentGraph.newCall(Request.Builder().url(server.url("/graph")).build()).execute().close()
+
+        assertEquals(2L, independentMetrics.snapshot().connectionsEstablished)
+    }
+
+    @Test
+    fun testCacheableResponse_notDownloadedTwice() {
+        server.enqueue(
+            MockResponse()
+                .setHeader("Cache-Control", "max-age=60")
+                .setBody("{\"country_code\":\"US\"}")
+        )
+
+        val request = Request.Builder().url(server.url("/v1/app/android/config")).build()
+        val first = rootClient.newCall(request).execute().use { it.body?.string() }
+        val second = rootClient.newBuilder().build().newCall(request).execute().use { it.body?.string() }
+
+        assertEquals(first, second)
+        assertEquals(1, server.requestCount)
+
+        val snapshot = metrics.snapshot()
+        assertEquals(1L, snapshot.cacheMisses)
+        assertEquals(1L, snapshot.cacheHits)
+        assertEquals(0.5, snapshot.cacheHitRatio)
+    }
+
+    @Test
+    fun testConditionalResponse_notDownloadedTwice() {
+        server.enqueue(
+            MockResponse()
+                .setHeader("ETag", "\"v1\"")
+                .setHeader("Cache-Control", "no-cache")
+                .setBody("categories")
+        )
+        server.enqueue(MockResponse().setResponseCode(304))
+
+        val request = Request.Builder().url(server.url("/v1/categories")).build()
+        rootClient.newCall(request).execute().use { assertEquals("categories", it.body?.string()) }
+        rootClient.newCall(request).execute().use { assertEquals("categories", it.body?.string()) }
+
+        server.takeRequest()
+        assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"))
+        assertEquals(1L, metrics.snapshot().cacheConditionalHits)
+    }
+}
@@ -0,0 +1,52 @@
+package com.kickstarter.services.interceptors
+
+import android.net.Uri
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.extensions.isApiUri
+import com.kickstarter.libs.utils.extensions.isHivequeenUri
+import com.kickstarter.libs.utils.extensions.isStagingUri
+import com.kickstarter.libs.utils.extensions.isWebUri
+import okhttp3.HttpUrl.Companion.toHttpUrl
+import org.junit.Test
+
+class KSHostMatcherTest : KSRobolectricTestCase() {
+    private val urls = listOf(
+        "https://api/v1/projects",
+        "https://dev/projects/creator/project",
+        "https://staging/projects/creator/project",
+        "https://www.kickstarter.com/projects/creator/project",
+        "https://api.kickstarter.com/v1/discover",
+        "https://www.google.com/search"
+    )
+
+    @Test
+    fun testMatchesUriExtensions_forApiAndWebEndpoints() {
+        listOf("https://api", "https://dev", "https://staging", "https://www.kickstarter.com").forEach { endpoint ->
+            val matcher = KSHostMatcher(endpoint, endpoint)
+
+            urls.forEach { url ->
+                val host = url.toHttpUrl().host
+                val uri = Uri.parse(url)
+
+                assertEquals(uri.isApiUri(endpoint), matcher.isApiHost(host))
+                assertEquals(uri.isWebUri(endpoint), matcher.isWebHost(host))
+                assertEquals(uri.isHivequeenUri(endpoint), matcher.isHivequeenHost(host))
+                assertEquals(uri.isStagingUri(endpoint), matcher.isStagingHost(host))
+            }
+        }
+    }
+
+    @Test
+    fun testApiAndWebHosts_areMatchedAgainstTheirOwnEndpoint() {
+        val matcher = KSHostMatcher("https://api", "https://www.kickstarter.com")
+
+        assertTrue(matcher.isApiHost("api"))
+        assertFalse(matcher.isWebHost("api"))
+        assertTrue(matcher.isWebHost("www.kickstarter.com"))
+        assertFalse(matcher.isApiHost("www.kickstarter.com"))
+        assertFalse(matcher.isWebHost("www.google.com"))
+
+        // - Classification is memoized, repeated lookups are stable
+        repeat(3) { assertTrue(matcher.isApiHost("api")) }
+    }
+}
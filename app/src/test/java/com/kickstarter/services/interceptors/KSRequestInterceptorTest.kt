@@ -0,0 +1,103 @@
+package com.kickstarter.services.interceptors
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.InternalToolsType
+import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.libs.NoopInternalTools
+import com.kickstarter.mock.factories.UserFactory
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import okhttp3.Interceptor
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import org.junit.Test
+
+class KSRequestInterceptorTest : KSRobolectricTestCase() {
+
+    private val hostMatcher = KSHostMatcher("https://api", "https://www.kickstarter.com")
+
+    private fun interceptor(
+        currentUser: MockCurrentUserV2 = MockCurrentUserV2(),
+        internalTools: InternalToolsType = NoopInternalTools(),
+        isGraphQL: Boolean = false
+    ) = KSRequestInterceptor("client-id", currentUser, hostMatcher, internalTools, requireNotNull(environment().build()), isGraphQL)
+
+    private fun intercept(interceptor: KSRequestInterceptor, url: String): Request {
+        val proceeded = slot<Request>()
+        val chain = mockk<Interceptor.Chain>()
+        every { chain.request() } returns Request.Builder().url(url).build()
+        every { chain.proceed(capture(proceeded)) } answers {
+            Response.Builder()
+                .request(proceeded.captured)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .build()
+        }
+
+        interceptor.intercept(chain)
+        return proceeded.captured
+    }
+
+    private fun assertCommonHeaders(request: Request) {
+        assertNotNull(request.header("Kickstarter-Android-App"))
+        assertNotNull(request.header("Kickstarter-App-Id"))
+        assertNotNull(request.header("Accept-Language"))
+    }
+
+    @Test
+    fun testApiRequest_getsClientIdAndAccessToken() {
+        val currentUser = MockCurrentUserV2(UserFactory.user()).apply { setToken("token") }
+
+        val request = intercept(interceptor(currentUser), "https://api/v1/discover?page=2")
+
+        assertEquals("client-id", request.url.queryParameter("client_id"))
+        assertEquals("2", request.url.queryParameter("page"))
+        assertEquals("token token", request.header("X-Auth"))
+        assertEquals("application/json", request.header("Accept"))
+        assertNotNull(request.header("User-Agent"))
+        assertNull(request.header("Authorization"))
+        assertCommonHeaders(request)
+    }
+
+    @Test
+    fun testWebRequest_getsAuthorizationOfLoggedInUser() {
+        val currentUser = MockCurrentUserV2(UserFactory.user()).apply { setToken("token") }
+
+        val request = intercept(interceptor(currentUser), "https://www.kickstarter.com/projects/creator/project")
+
+        assertEquals("token token", request.header("Authorization"))
+        assertNotNull(request.header("User-Agent"))
+        assertNull(request.url.queryParameter("client_id"))
+        assertNull(request.header("X-Auth"))
+        assertCommonHeaders(request)
+    }
+
+    @Test
+    fun testOtherHosts_onlyGetCommonHeaders() {
+        val currentUser = MockCurrentUserV2(UserFactory.user()).apply { setToken("token") }
+
+        val request = intercept(interceptor(currentUser), "https://www.google.com/search")
+
+        assertNull(request.header("Authorization"))
+        assertNull(request.header("X-Auth"))
+        assertNull(request.header("User-Agent"))
+        assertNull(request.url.queryParameter("client_id"))
+        assertCommonHeaders(request)
+    }
+
+    @Test
+    fun testGraphQLRequest_getsClientHeader() {
+        val currentUser = MockCurrentUserV2(UserFactory.user()).apply { setToken("token") }
+
+        val request = intercept(interceptor(currentUser, isGraphQL = true), "https://www.kickstarter.com/graph")
+
+        assertEquals("client-id", request.header("X-KICKSTARTER-CLIENT"))
+        assertEquals(listOf("token token"), request.headers("Authorization"))
+        assertNotNull(request.header("User-Agent"))
+        assertNull(request.url.queryParameter("client_id"))
+        assertCommonHeaders(request)
+    }
+}
@@ -0,0 +1,70 @@
+package com.kickstarter.ui.activities.compose.projectpage
+
+import androidx.compose.foundation.lazy.LazyListState
+import androidx.compose.runtime.mutableStateOf
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.BackingFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.factories.RewardFactory
+import com.kickstarter.models.Reward
+import com.kickstarter.ui.compose.designsystem.KSTheme
+import kotlinx.coroutines.runBlocking
+import org.junit.Test
+
+class RewardCarouselScreenTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testRewardCardUiStates() {
+        val project = ProjectFactory.project()
+        val backedReward = RewardFactory.reward().toBuilder().id(5).hasAddons(false).build()
+        val otherReward = RewardFactory.reward().toBuilder().id(6).hasAddons(false).build()
+        val backing = BackingFactory.backing(backedReward).toBuilder().rewardId(5).build()
+
+        val states = rewardCardUiStates(listOf(RewardFactory.noReward(), backedReward, otherReward), project, backing)
+
+        assertTrue(states[0].ctaButtonEnabled)
+        assertEquals(RewardCardUiState.NO_REWARD_CONTENT_TYPE, states[0].contentType)
+
+        assertTrue(states[1].isBacked)
+        assertFalse(states[1].ctaButtonEnabled)
+        assertEquals(RewardCardUiState.REWARD_CONTENT_TYPE, states[1].contentType)
+
+        assertFalse(states[2].isBacked)
+        assertTrue(states[2].ctaButtonEnabled)
+    }
+
+    @Test
+    fun testFilteringRewards_keepsScrollPositionOnSameReward() {
+        val rewards = (1..10).map {
+            RewardFactory.reward().toBuilder().id(it.toLong()).title("Reward $it").build()
+        }
+        val displayedRewards = mutableStateOf<List<Reward>>(rewards)
+        val lazyRowState = LazyListState()
+
+        composeTestRule.setContent {
+            KSTheme {
+                RewardCarouselScreen(
+                    lazyRowState = lazyRowState,
+                    environment = environment(),
+                    rewards = displayedRewards.value,
+                    project = ProjectFactory.project(),
+                    onRewardSelected = {}
+                )
+            }
+        }
+
+        composeTestRule.runOnIdle {
+            runBlocking { lazyRowState.scrollToItem(5) }
+        }
+
+        // - A shipping rule change filters out the first two rewards
+        composeTestRule.runOnIdle {
+            displayedRewards.value = rewards.drop(2)
+        }
+
+        composeTestRule.runOnIdle {
+            assertEquals(3, lazyRowState.firstVisibleItemIndex)
+            assertEquals(6L, lazyRowState.layoutInfo.visibleItemsInfo.first().key)
+        }
+    }
+}
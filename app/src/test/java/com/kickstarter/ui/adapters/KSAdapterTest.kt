@@ -0,0 +1,100 @@
+package com.kickstarter.ui.adapters
+
+import android.view.ViewGroup
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.ui.viewholders.KSViewHolder
+import org.junit.Assert.assertThrows
+import org.junit.Test
+
+class KSAdapterTest : KSRobolectricTestCase() {
+
+    private class SectionsAdapter : KSAdapter() {
+        override fun layout(sectionRow: SectionRow) = sectionRow.section()
+
+        override fun viewHolder(layout: Int, viewGroup: ViewGroup): KSViewHolder =
+            throw UnsupportedOperationException()
+
+        fun itemAt(position: Int): Any = objectFromPosition(position)
+    }
+
+    @Test
+    fun testPositions_acrossEmptySections() {
+        val adapter = SectionsAdapter()
+        adapter.addSection(emptyList<String>())
+        adapter.addSection(listOf("a", "b"))
+        adapter.addSection(emptyList<String>())
+        adapter.addSection(listOf("c"))
+        adapter.addSection(emptyList<String>())
+
+        assertEquals(3, adapter.itemCount)
+        assertEquals(listOf("a", "b", "c"), (0 until adapter.itemCount).map { adapter.itemAt(it) })
+        assertEquals(listOf(1, 1, 3), (0 until adapter.itemCount).map { adapter.getItemViewType(it) })
+    }
+
+    @Test
+    fun testPositions_afterSetAndInsertSection() {
+        val adapter = SectionsAdapter()
+        adapter.addSection(listOf("a"))
+        adapter.addSection(listOf("d"))
+
+        adapter.insertSection(1, listOf("b", "c"))
+        assertEquals(listOf("a", "b", "c", "d"), (0 until adapter.itemCount).map { adapter.itemAt(it) })
+
+        adapter.setSection(0, emptyList<String>())
+        assertEquals(listOf("b", "c", "d"), (0 until adapter.itemCount).map { adapter.itemAt(it) })
+
+        adapter.clearSections()
+        assertEquals(0, adapter.itemCount)
+    }
+
+    @Test
+    fun testPositions_afterMutatingSectionsDirectly() {
+        val adapter = SectionsAdapter()
+        adapter.addSection(listOf("a"))
+        adapter.addSection(listOf("c"))
+        assertEquals(2, adapter.itemCount)
+
+        adapter.sections()[0].add("b")
+        adapter.sections().add(listOf("d"))
+
+        assertEquals(listOf("a", "b", "c", "d"), (0 until adapter.itemCount).map { adapter.itemAt(it) })
+
+        adapter.sections().removeAt(0)
+        assertEquals(listOf("c", "d"), (0 until adapter.itemCount).map { adapter.itemAt(it) })
+    }
+
+    @Test
+    fun testOutOfBoundsPosition_throws() {
+        val adapter = SectionsAdapter()
+        adapter.addSection(listOf("a"))
+
+        assertThrows(RuntimeException::class.java) { adapter.itemAt(1) }
+    }
+
+    /**
+     * A section counting how many times its size is read to compute the offsets.
+     */
+    private class CountingSection(private val rows: Int) : AbstractList<Int>() {
+        var sizeReads = 0
+        override val size: Int
+            get() = rows.also { sizeReads++ }
+        override fun get(index: Int) = index
+    }
+
+    @Test
+    fun testSectionOffsets_recomputedOnlyFromChangedSection() {
+        val sections = (0 until 100).map { CountingSection(100) }
+        val offsets = SectionOffsets()
+
+        assertEquals(10_000, offsets.itemCount(sections))
+        sections.forEach { it.sizeReads = 0 }
+
+        // - Binding any position reads no section size once the offsets are computed
+        repeat(1_000) { assertEquals(99, offsets.sectionOf(9_999, sections)) }
+        assertEquals(0, sections.sumOf { it.sizeReads })
+
+        offsets.invalidateFrom(98)
+        assertEquals(9_900, offsets.offsetOf(99, sections))
+        assertEquals(0, sections.take(97).sumOf { it.sizeReads })
+    }
+}
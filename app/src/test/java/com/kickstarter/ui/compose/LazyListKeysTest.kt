@@ -0,0 +1,94 @@
+package com.kickstarter.ui.compose
+
+import androidx.compose.foundation.layout.height
+import androidx.compose.foundation.lazy.LazyColumn
+import androidx.compose.foundation.lazy.items
+import androidx.compose.material.Text
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.DisposableEffect
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.unit.dp
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+
+class LazyListKeysTest : KSRobolectricTestCase() {
+
+    /**
+     * Counts, for the items of a lazy list, how many times their state was reset by a different item
+     * taking their slot.
+     */
+    private class CompositionCounter {
+        var stateResets = 0
+    }
+
+    @Composable
+    private fun CountedList(items: List<Int>, keyed: Boolean, counter: CompositionCounter) {
+        LazyColumn {
+            items(
+                items = items,
+                key = if (keyed) stableKeyOrNull(items) { it } else null
+            ) { item ->
+                DisposableEffect(item) {
+                    counter.stateResets++
+                    onDispose { }
+                }
+                Text(modifier = Modifier.height(48.dp), text = "Item $item")
+            }
+        }
+    }
+
+    private fun prependItem(keyed: Boolean): CompositionCounter {
+        val items = mutableStateOf((1..10).toList())
+        val counter = CompositionCounter()
+
+        composeTestRule.setContent { CountedList(items.value, keyed, counter) }
+        composeTestRule.runOnIdle {
+            counter.stateResets = 0
+            // - A new page or a filter changes the items before the visible ones
+            items.value = listOf(0) + items.value
+        }
+        composeTestRule.waitForIdle()
+
+        return counter
+    }
+
+    @Test
+    fun testStableKeyOrNull() {
+        val key = stableKeyOrNull(listOf("a", "b", "c")) { it }
+
+        assertEquals("b", key?.invoke("b"))
+        assertNull(stableKeyOrNull(listOf("a", "b", "a")) { it })
+        assertNotNull(stableKeyOrNull(emptyList<String>()) { it })
+    }
+
+    @Test
+    fun testStableKeyOrPosition() {
+        val items = listOf("a", "b", "a", null, "c")
+        val key = stableKeyOrPosition(items) { it }
+
+        assertEquals("id:b", key(1, "b"))
+        assertEquals("id:c", key(4, "c"))
+        // - Only the repeated and missing ids fall back to the position
+        assertEquals("position:0", key(0, "a"))
+        assertEquals("position:2", key(2, "a"))
+        assertEquals("position:3", key(3, null))
+        assertEquals(items.size, items.mapIndexed { index, item -> key(index, item) }.toSet().size)
+    }
+
+    @Test
+    fun testUnkeyedItems_resetWhenAnItemIsPrepended() {
+        val counter = prependItem(keyed = false)
+
+        // - Every visible slot now shows a different item
+        assertTrue(counter.stateResets > 1)
+    }
+
+    @Test
+    fun testKeyedItems_keepTheirStateWhenAnItemIsPrepended() {
+        val counter = prependItem(keyed = true)
+
+        // - At most the new item is composed, the list stays on the items it was showing
+        assertTrue(counter.stateResets <= 1)
+    }
+}
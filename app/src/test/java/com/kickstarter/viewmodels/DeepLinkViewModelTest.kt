@@ -420,6 +420,29 @@ class DeepLinkViewModelTest : KSRobolectricTestCase() {
         startProjectSurveyActivity.assertNoValues()
     }
 
+    @Test
+    fun testProjectDeepLink_withCachedProject_startsProjectActivityOnce() {
+        val project = ProjectFactory.backedProject().toBuilder().displayPrelaunch(false)
+            .deadline(DateTime.now().plusDays(2)).build()
+
+        // - Cached project followed by the network one
+        val apolloClient = object : MockApolloClientV2() {
+            override fun getProject(slug: String): Observable<Project> {
+                return Observable.just(project, project.toBuilder().state("successful").build())
+            }
+        }
+        val environment = environment().toBuilder()
+            .apolloClientV2(apolloClient)
+            .build()
+        val url =
+            "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?ref=discovery"
+
+        setUpEnvironment(environment, intentWithData(url))
+
+        startProjectActivity.assertValue(Uri.parse(url))
+        startProjectActivityToSave.assertNoValues()
+    }
+
     @Test
     fun testProjectDeepLinkWithoutRefTag_startsProjectActivity() {
         val project = ProjectFactory.backedProject().toBuilder().displayPrelaunch(false)
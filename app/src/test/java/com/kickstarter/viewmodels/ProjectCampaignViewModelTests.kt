@@ -3,11 +3,14 @@ package com.kickstarter.viewmodels
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.htmlparser.AudioViewElement
+import com.kickstarter.libs.htmlparser.ParsedStoryCache
+import com.kickstarter.libs.htmlparser.TextViewElement
 import com.kickstarter.libs.htmlparser.ViewElement
 import com.kickstarter.mock.factories.ProjectDataFactory
 import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.viewmodels.projectpage.ProjectCampaignViewModel
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.TestScheduler
 import io.reactivex.subscribers.TestSubscriber
 import org.junit.After
 import org.junit.Test
@@ -21,9 +24,14 @@ class ProjectCampaignViewModelTests : KSRobolectricTestCase() {
     private val onOpenVideoInFullScreen = TestSubscriber.create<Pair<String, Long>>()
     private val updateVideoCloseSeekPosition = TestSubscriber.create<Pair<Int, Long>>()
     private val disposables = CompositeDisposable()
+    private val testScheduler = TestScheduler()
+    private val storyCache = ParsedStoryCache()
 
     private fun setUpEnvironment(environment: Environment) {
-        this.vm = ProjectCampaignViewModel.ProjectCampaignViewModel(environment)
+        this.vm = ProjectCampaignViewModel.ProjectCampaignViewModel(
+            environment.toBuilder().schedulerV2(testScheduler).build(),
+            storyCache
+        )
 
         disposables.add(this.vm.outputs.storyViewElements().subscribe { this.storyViewElementsList.onNext(it) })
         disposables.add(this.vm.outputs.onScrollToVideoPosition().subscribe { this.onScrollToVideoPosition.onNext(it) })
@@ -67,6 +75,10 @@ class ProjectCampaignViewModelTests : KSRobolectricTestCase() {
         setUpEnvironment(environment())
         this.vm.inputs.configureWith(projectData)
 
+        // - Parsed on the scheduler
+        this.storyViewElementsList.assertNoValues()
+        testScheduler.triggerActions()
+
         this.storyViewElementsList.assertValueCount(1)
         disposables.add(
             this.vm.storyViewElements().subscribe {
@@ -76,6 +88,60 @@ class ProjectCampaignViewModelTests : KSRobolectricTestCase() {
         )
     }
 
+    @Test
+    fun longStory_emitsFirstElementsBeforeWholeStory() {
+        val story = (1..100).joinToString("") { "<p>Paragraph $it</p>" }
+        val project = ProjectFactory.project()
+            .toBuilder()
+            .story(story)
+            .build()
+
+        setUpEnvironment(environment())
+        this.vm.inputs.configureWith(ProjectDataFactory.project(project))
+        testScheduler.triggerActions()
+
+        this.storyViewElementsList.assertValueCount(2)
+        assertTrue(this.storyViewElementsList.values()[0].size < 100)
+        assertEquals(100, this.storyViewElementsList.values()[1].size)
+        assertEquals(
+            this.storyViewElementsList.values()[0],
+            this.storyViewElementsList.values()[1].subList(0, this.storyViewElementsList.values()[0].size)
+        )
+        assertTrue(this.storyViewElementsList.values()[1].all { it is TextViewElement })
+    }
+
+    @Test
+    fun parsedStory_isReusedByNextViewModel() {
+        val project = ProjectFactory.project()
+            .toBuilder()
+            .story("<p>Story</p>")
+            .build()
+
+        setUpEnvironment(environment())
+        this.vm.inputs.configureWith(ProjectDataFactory.project(project))
+        testScheduler.triggerActions()
+        val parsed = this.storyViewElementsList.values().last()
+
+        // - Same project and story, emitted from the cache without going through the scheduler
+        val secondStory = TestSubscriber.create<List<ViewElement>>()
+        val secondVm = ProjectCampaignViewModel.ProjectCampaignViewModel(
+            environment().toBuilder().schedulerV2(testScheduler).build(),
+            storyCache
+        )
+        disposables.add(secondVm.outputs.storyViewElements().subscribe { secondStory.onNext(it) })
+        secondVm.inputs.configureWith(ProjectDataFactory.project(project))
+
+        secondStory.assertValueCount(1)
+        assertSame(parsed, secondStory.values().first())
+
+        // - An edited story is parsed again
+        val editedProject = project.toBuilder().story("<p>Edited story</p>").build()
+        secondVm.inputs.configureWith(ProjectDataFactory.project(editedProject))
+        secondStory.assertValueCount(1)
+        testScheduler.triggerActions()
+        secondStory.assertValueCount(2)
+    }
+
     @Test
     fun videoOperations() {
         setUpEnvironment(environment())
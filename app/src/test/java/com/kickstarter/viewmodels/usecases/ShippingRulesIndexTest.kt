@@ -0,0 +1,114 @@
+package com.kickstarter.viewmodels.usecases
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.utils.RewardUtils
+import com.kickstarter.mock.factories.RewardFactory
+import com.kickstarter.mock.factories.ShippingRuleFactory
+import com.kickstarter.models.Location
+import com.kickstarter.models.Reward
+import com.kickstarter.models.ShippingRule
+import org.junit.Test
+
+class ShippingRulesIndexTest : KSRobolectricTestCase() {
+
+    private val locations = (1L..200L).map {
+        ShippingRule.builder()
+            .id(it)
+            .cost(it.toDouble())
+            .location(Location.builder().id(it).name("Location $it").displayableName("Location $it").build())
+            .build()
+    }
+
+    private fun restrictedReward(id: Long, rules: List<ShippingRule>, isAvailable: Boolean = true) =
+        RewardFactory.reward().toBuilder()
+            .id(id)
+            .shippingPreference(Reward.ShippingPreference.RESTRICTED.name)
+            .shippingPreferenceType(Reward.ShippingPreference.RESTRICTED)
+            .shippingType(Reward.SHIPPING_TYPE_MULTIPLE_LOCATIONS)
+            .isAvailable(isAvailable)
+            .shippingRules(rules)
+            .build()
+
+    /**
+     * Rewards of a project with restricted, unavailable, digital, local pickup and no reward options.
+     */
+    private fun projectRewards(count: Int): List<Reward> = (1..count).map { i ->
+        val id = i.toLong()
+        when (i % 7) {
+            0 -> RewardFactory.digitalReward().toBuilder().id(id).build()
+            1 -> RewardFactory.localReceiptLocation().toBuilder().id(id).build()
+            2 -> restrictedReward(id, locations.take(5), isAvailable = false)
+            else -> restrictedReward(id, locations.filterIndexed { index, _ -> index % (i % 5 + 1) == 0 })
+        }
+    } + RewardFactory.noReward()
+
+    /**
+     * How the rewards were filtered for a location before the index, going through every reward and rule.
+     */
+    private fun filterEveryReward(rewards: List<Reward>, locationId: Long, isValidLocation: Boolean): List<Reward> {
+        val filtered = mutableListOf<Reward>()
+        rewards.forEach { rw ->
+            if (RewardUtils.shipsWorldwide(rw) && rw.isAvailable()) filtered.add(rw)
+            if (RewardUtils.isNoReward(rw)) filtered.add(rw)
+            if (RewardUtils.isLocalPickup(rw) && rw.isAvailable()) filtered.add(rw)
+            if (RewardUtils.isDigital(rw) && rw.isAvailable()) filtered.add(rw)
+            if (RewardUtils.shipsToRestrictedLocations(rw) && rw.isAvailable() && isValidLocation) {
+                rw.shippingRules()?.forEach {
+                    if (it.location()?.id() == locationId) filtered.add(rw)
+                }
+            }
+        }
+        return filtered
+    }
+
+    @Test
+    fun testRewardsFor_matchesFilteringEveryReward() {
+        val rewards = projectRewards(60)
+        val index = ShippingRulesIndex(rewards)
+
+        (0L..201L).forEach { locationId ->
+            val isValidLocation = index.shippingRules.containsKey(locationId)
+            assertEquals(filterEveryReward(rewards, locationId, isValidLocation), index.rewardsFor(locationId, isValidLocation))
+        }
+        assertEquals(filterEveryReward(rewards, 1L, false), index.rewardsFor(1L, false))
+    }
+
+    @Test
+    fun testShippingRules_fromRestrictedRewards() {
+        val canada = ShippingRuleFactory.canadaShippingRule()
+        val germany = ShippingRuleFactory.germanyShippingRule()
+        val rewards = listOf(
+            restrictedReward(1, listOf(canada)),
+            restrictedReward(2, listOf(germany, canada)),
+            RewardFactory.digitalReward()
+        )
+
+        val index = ShippingRulesIndex(rewards)
+
+        assertEquals(rewards.take(2), index.rewardsByShippingType)
+        assertEquals(listOf(canada, germany), index.shippingRules.values.toList())
+    }
+
+    @Test
+    fun testShippingRules_fromFirstWorldwideReward() {
+        val worldwide = RewardFactory.rewardWithShipping().toBuilder()
+            .id(3)
+            .shippingRules(listOf(ShippingRuleFactory.usShippingRule()))
+            .build()
+        val rewards = listOf(restrictedReward(1, listOf(ShippingRuleFactory.canadaShippingRule())), worldwide)
+
+        val index = ShippingRulesIndex(rewards)
+
+        assertEquals(listOf(worldwide), index.rewardsByShippingType)
+        assertEquals(listOf(ShippingRuleFactory.usShippingRule()), index.shippingRules.values.toList())
+    }
+
+    @Test
+    fun testRewardsFor_withoutRewards() {
+        val index = ShippingRulesIndex(emptyList())
+
+        assertTrue(index.rewardsByShippingType.isEmpty())
+        assertTrue(index.shippingRules.isEmpty())
+        assertTrue(index.rewardsFor(1L, true).isEmpty())
+    }
+}